@@ -0,0 +1,69 @@
+package com.ohgireffers.board.model.dto;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.SerializationFeature;
+import com.fasterxml.jackson.datatype.jsr310.JavaTimeModule;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageImpl;
+import org.springframework.data.domain.PageRequest;
+
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+// 목록 응답 JSON 직렬화 벤치마크
+// 페이지 번호 목록(Page)과 커서 목록(SliceResponseDTO) 응답을 페이지 크기별로 측정한다.
+// ObjectMapper는 스프링 부트 기본 설정과 같게 날짜를 문자열(ISO-8601)로 쓴다.
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class JsonSerializationBenchmark {
+
+    @Param({"10", "100"})
+    public int pageSize;
+
+    private ObjectMapper objectMapper;
+    private Page<BoardSummaryDTO> page;
+    private SliceResponseDTO<BoardSummaryDTO> slice;
+
+    @Setup
+    public void setUp() {
+        objectMapper = new ObjectMapper()
+                .registerModule(new JavaTimeModule())
+                .disable(SerializationFeature.WRITE_DATES_AS_TIMESTAMPS);
+
+        List<BoardSummaryDTO> boards = new ArrayList<>(pageSize);
+        for (long id = pageSize; id >= 1; id--) {
+            boards.add(new BoardSummaryDTO(id, "게시글 제목 " + id, "작성자", "가".repeat(BoardSummaryDTO.PREVIEW_LENGTH),
+                    id % 7, LocalDate.of(2025, 1, 1), null));
+        }
+        page = new PageImpl<>(boards, PageRequest.of(0, pageSize), 100_000);
+        slice = new SliceResponseDTO<>(boards, pageSize, true, "MjAyNS0wMS0wMV8x");
+    }
+
+    @Benchmark
+    public byte[] pageResponse() throws JsonProcessingException {
+        return objectMapper.writeValueAsBytes(page);
+    }
+
+    @Benchmark
+    public byte[] sliceResponse() throws JsonProcessingException {
+        return objectMapper.writeValueAsBytes(slice);
+    }
+}
@@ -0,0 +1,107 @@
+package com.ohgireffers.board.service;
+
+import com.ohgireffers.board.model.dto.CommentResponseDTO;
+import com.ohgireffers.board.model.entity.Comment;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.Collectors;
+
+// 댓글 계층구조 정렬 벤치마크 (CommentService.organizeCommentsHierarchy)
+// 댓글 수와 트리 모양(전부 최상위 / 한 줄로 깊게 / 한 댓글에 몰림 / 임의)에 따라 걸리는 시간을 측정한다.
+// 비교 기준으로 이전 구현(댓글마다 전체 목록을 다시 훑는 O(n²))도 같은 데이터로 함께 측정한다.
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class CommentHierarchyBenchmark {
+
+    // 트리 모양
+    public enum Shape {
+        FLAT,   // 모두 최상위 댓글
+        DEEP,   // 바로 앞 댓글의 대댓글 (최대 깊이까지 내려가면 다시 최상위부터)
+        WIDE,   // 첫 댓글 하나에 나머지가 모두 대댓글
+        RANDOM  // 앞서 작성된 댓글 중 임의의 댓글에 대댓글 (4개 중 1개는 최상위)
+    }
+
+    @Param({"100", "1000", "10000"})
+    public int size;
+
+    @Param({"FLAT", "DEEP", "WIDE", "RANDOM"})
+    public Shape shape;
+
+    private List<CommentResponseDTO> comments;
+
+    @Setup
+    public void setUp() {
+        comments = thread(size, shape);
+    }
+
+    // 정렬은 DTO의 replies만 다시 설정하므로 같은 목록으로 반복 측정해도 결과가 같다.
+    @Benchmark
+    public List<CommentResponseDTO> organizeCommentsHierarchy() {
+        return CommentService.organizeCommentsHierarchy(comments);
+    }
+
+    // 비교 기준: 이전 구현 (CommentService에서 바꾸기 전 코드를 그대로 옮겨둠)
+    @Benchmark
+    public List<CommentResponseDTO> naiveOrganizeCommentsHierarchy() {
+        List<CommentResponseDTO> rootComments = comments.stream()
+                .filter(dto -> dto.getParentCommentId() == null)
+                .collect(Collectors.toList());
+        for (CommentResponseDTO rootComment : rootComments) {
+            naiveAttachReplies(rootComment, comments);
+        }
+        return rootComments;
+    }
+
+    // 부모 댓글마다 전체 목록에서 대댓글을 다시 찾음 (O(n²))
+    private static void naiveAttachReplies(CommentResponseDTO parentDto, List<CommentResponseDTO> allDtos) {
+        List<CommentResponseDTO> replies = allDtos.stream()
+                .filter(dto -> parentDto.getId().equals(dto.getParentCommentId()))
+                .collect(Collectors.toList());
+        parentDto.setReplies(replies);
+        for (CommentResponseDTO reply : replies) {
+            naiveAttachReplies(reply, allDtos);
+        }
+    }
+
+    static List<CommentResponseDTO> thread(int size, Shape shape) {
+        Random random = new Random(42);
+        List<CommentResponseDTO> comments = new ArrayList<>(size);
+        for (int i = 0; i < size; i++) {
+            long id = i + 1;
+            CommentResponseDTO parent = switch (shape) {
+                case FLAT -> null;
+                case DEEP -> i == 0 || comments.get(i - 1).getDepth() >= Comment.MAX_DEPTH ? null : comments.get(i - 1);
+                case WIDE -> i == 0 ? null : comments.get(0);
+                case RANDOM -> i == 0 || random.nextInt(4) == 0 ? null : comments.get(random.nextInt(i));
+            };
+            comments.add(comment(id, parent));
+        }
+        return comments;
+    }
+
+    private static CommentResponseDTO comment(long id, CommentResponseDTO parent) {
+        LocalDateTime createdDate = LocalDateTime.of(2025, 1, 1, 0, 0).plusSeconds(id);
+        return new CommentResponseDTO(id, "댓글 " + id, "user", 1L,
+                parent != null ? parent.getId() : null, parent != null,
+                parent != null ? parent.getDepth() + 1 : 0, null, createdDate, createdDate, 0L);
+    }
+}
@@ -0,0 +1,66 @@
+package com.ohgireffers.board.service;
+
+import com.ohgireffers.board.model.dto.BoardResponseDTO;
+import com.ohgireffers.board.model.dto.BoardSummaryDTO;
+import com.ohgireffers.board.model.dto.CommentResponseDTO;
+import com.ohgireffers.board.model.entity.Board;
+import com.ohgireffers.board.model.entity.Comment;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.time.LocalDate;
+import java.util.concurrent.TimeUnit;
+
+// 엔티티 → DTO 변환 벤치마크
+// 게시글 상세(BoardResponseDTO), 게시글 목록 요약(BoardSummaryDTO, 미리보기 자르기 포함), 댓글(CommentResponseDTO)
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class MappingBenchmark {
+
+    // 게시글 본문 길이 (미리보기 길이보다 짧은 경우와 긴 경우)
+    @Param({"50", "5000"})
+    public int contentLength;
+
+    private Board board;
+    private Comment reply;
+
+    @Setup
+    public void setUp() {
+        board = new Board(1L, "제목", "작성자", "가".repeat(contentLength), LocalDate.of(2025, 1, 1), null);
+        board.setVersion(3L);
+        board.setCommentCount(10L);
+
+        Comment parent = new Comment("부모 댓글", "user", board);
+        parent.setId(1L);
+        reply = new Comment("대댓글 내용", "user", board, parent);
+        reply.setId(2L);
+    }
+
+    @Benchmark
+    public BoardResponseDTO boardResponse() {
+        return new BoardResponseDTO(board);
+    }
+
+    @Benchmark
+    public BoardSummaryDTO boardSummary() {
+        return new BoardSummaryDTO(board);
+    }
+
+    @Benchmark
+    public CommentResponseDTO commentResponse() {
+        return CommentService.convertToDTO(reply);
+    }
+}
@@ -0,0 +1,77 @@
+package com.ohgireffers.board.service;
+
+import com.ohgireffers.board.model.dto.BoardRequsetDTO;
+import jakarta.validation.ConstraintViolation;
+import jakarta.validation.Validation;
+import jakarta.validation.Validator;
+import jakarta.validation.ValidatorFactory;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.Set;
+import java.util.concurrent.TimeUnit;
+
+// 게시글 요청 유효성 검사 벤치마크
+// 컨트롤러의 Bean Validation(@Valid)과 서비스의 validateBoardRequest를 각각 측정한다. (올바른 요청 / 틀린 요청)
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class ValidationBenchmark {
+
+    private ValidatorFactory validatorFactory;
+    private Validator validator;
+    private BoardRequsetDTO validRequest;
+    private BoardRequsetDTO invalidRequest;
+
+    @Setup
+    public void setUp() {
+        validatorFactory = Validation.buildDefaultValidatorFactory();
+        validator = validatorFactory.getValidator();
+        validRequest = new BoardRequsetDTO(null, "게시글 제목", "가".repeat(1000), "작성자");
+        invalidRequest = new BoardRequsetDTO(null, "", "가".repeat(6000), "작성자!");
+    }
+
+    @TearDown
+    public void tearDown() {
+        validatorFactory.close();
+    }
+
+    @Benchmark
+    public Set<ConstraintViolation<BoardRequsetDTO>> beanValidationValid() {
+        return validator.validate(validRequest);
+    }
+
+    @Benchmark
+    public Set<ConstraintViolation<BoardRequsetDTO>> beanValidationInvalid() {
+        return validator.validate(invalidRequest);
+    }
+
+    @Benchmark
+    public BoardRequsetDTO serviceValidationValid() {
+        BoardService.validateBoardRequest(validRequest);
+        return validRequest;
+    }
+
+    // 실패하면 예외가 발생하므로 예외 생성 비용까지 포함된다.
+    @Benchmark
+    public Object serviceValidationInvalid() {
+        try {
+            BoardService.validateBoardRequest(invalidRequest);
+            return invalidRequest;
+        } catch (IllegalArgumentException e) {
+            return e;
+        }
+    }
+}
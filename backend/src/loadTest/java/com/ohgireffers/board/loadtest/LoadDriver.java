@@ -0,0 +1,125 @@
+package com.ohgireffers.board.loadtest;
+
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Random;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.function.Function;
+
+// 시나리오 하나를 정해진 시간 동안 동시 사용자 수만큼의 스레드로 반복 호출하고 응답 시간을 기록한다.
+// 각 스레드는 응답을 받자마자 다음 요청을 보낸다. (closed model)
+class LoadDriver {
+
+    private final HttpClient httpClient;
+    private final int concurrency;
+
+    LoadDriver(HttpClient httpClient, int concurrency) {
+        this.httpClient = httpClient;
+        this.concurrency = concurrency;
+    }
+
+    // 시나리오 (이름, 난수로 요청 만들기)
+    record Scenario(String name, Function<Random, HttpRequest> requestFactory) {}
+
+    // 측정 결과 (응답 시간은 마이크로초, 오름차순 정렬)
+    record Result(String name, long requests, long errors, long elapsedNanos, long[] latenciesMicros) {
+
+        double rps() {
+            return requests / (elapsedNanos / 1_000_000_000.0);
+        }
+
+        // 백분위 응답 시간 (밀리초)
+        double percentileMillis(double percentile) {
+            if (latenciesMicros.length == 0) {
+                return 0;
+            }
+            int index = (int) Math.ceil(percentile / 100.0 * latenciesMicros.length) - 1;
+            return latenciesMicros[Math.max(index, 0)] / 1000.0;
+        }
+    }
+
+    Result run(Scenario scenario, Duration duration) throws Exception {
+        ExecutorService executor = Executors.newFixedThreadPool(concurrency);
+        try {
+            long start = System.nanoTime();
+            long deadline = start + duration.toNanos();
+            List<Future<Worker>> futures = new ArrayList<>(concurrency);
+            for (int i = 0; i < concurrency; i++) {
+                Worker worker = new Worker(scenario, new Random(i), deadline);
+                futures.add(executor.submit(() -> {
+                    worker.run();
+                    return worker;
+                }));
+            }
+
+            List<Worker> workers = new ArrayList<>(concurrency);
+            for (Future<Worker> future : futures) {
+                workers.add(future.get());
+            }
+            long elapsed = System.nanoTime() - start;
+
+            long errors = 0;
+            int total = 0;
+            for (Worker worker : workers) {
+                errors += worker.errors;
+                total += worker.count;
+            }
+            long[] latencies = new long[total];
+            int offset = 0;
+            for (Worker worker : workers) {
+                System.arraycopy(worker.latencies, 0, latencies, offset, worker.count);
+                offset += worker.count;
+            }
+            Arrays.sort(latencies);
+            return new Result(scenario.name(), total, errors, elapsed, latencies);
+        } finally {
+            executor.shutdownNow();
+        }
+    }
+
+    // 스레드 하나가 보내는 요청 반복 (결과는 스레드별로 모았다가 끝난 뒤 합침)
+    private class Worker {
+        private final Scenario scenario;
+        private final Random random;
+        private final long deadline;
+        private long[] latencies = new long[1024];
+        private int count;
+        private long errors;
+
+        Worker(Scenario scenario, Random random, long deadline) {
+            this.scenario = scenario;
+            this.random = random;
+            this.deadline = deadline;
+        }
+
+        void run() {
+            while (System.nanoTime() < deadline) {
+                HttpRequest request = scenario.requestFactory().apply(random);
+                long begin = System.nanoTime();
+                try {
+                    HttpResponse<Void> response = httpClient.send(request, HttpResponse.BodyHandlers.discarding());
+                    if (response.statusCode() >= 400) {
+                        errors++;
+                    }
+                } catch (Exception e) {
+                    errors++;
+                }
+                record((System.nanoTime() - begin) / 1000);
+            }
+        }
+
+        private void record(long micros) {
+            if (count == latencies.length) {
+                latencies = Arrays.copyOf(latencies, count * 2);
+            }
+            latencies[count++] = micros;
+        }
+    }
+}
@@ -0,0 +1,219 @@
+package com.ohgireffers.board.loadtest;
+
+import com.ohgireffers.board.BoardApplication;
+import com.ohgireffers.board.service.BoardFrontPageCache;
+import com.ohgireffers.board.service.BoardSearchIndex;
+import org.springframework.boot.builder.SpringApplicationBuilder;
+import org.springframework.context.ConfigurableApplicationContext;
+import org.springframework.jdbc.core.JdbcTemplate;
+
+import java.io.IOException;
+import java.io.PrintWriter;
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Random;
+import java.util.concurrent.atomic.AtomicLong;
+
+// 부하 테스트 실행
+// MySQL 대신 H2(MySQL 호환 모드, 메모리 DB)로 애플리케이션을 띄우고 게시글/댓글을 넣은 뒤
+// 목록, 상세, 댓글 트리, 쓰기 API를 차례로 호출하여 p50/p90/p99 응답 시간과 RPS를 출력한다.
+//
+// 실행 : gradle loadTest
+// 설정 (-P로 전달) :
+//   loadtest.boards               게시글 수 (기본 2000)
+//   loadtest.comments-per-board   게시글당 댓글 수 (기본 10)
+//   loadtest.concurrency          동시 요청 스레드 수 (기본 32)
+//   loadtest.warmup-seconds       시나리오별 워밍업 시간, 결과에서 제외 (기본 5)
+//   loadtest.duration-seconds     시나리오별 측정 시간 (기본 15)
+//   loadtest.scenarios            실행할 시나리오 (기본 list,detail,comments,write)
+//   loadtest.virtual-threads      true 이면 서버를 가상 스레드 모드로 실행 (Java 21 이상)
+//   loadtest.stack                servlet(기본), reactive(WebFlux + R2DBC 조회 스택), both(차례로 실행하여 비교)
+//                                 reactive는 조회 API만 있으므로 기본 시나리오가 list,detail,comments
+// 결과는 콘솔과 build/reports/loadtest/results.csv 에 기록된다.
+public class LoadTestMain {
+
+    private static final String SERVLET = "servlet";
+    private static final String REACTIVE = "reactive";
+    private static final String H2_OPTIONS = "MODE=MySQL;DATABASE_TO_LOWER=TRUE;NON_KEYWORDS=USER;DB_CLOSE_DELAY=-1";
+
+    private static final int LIST_PAGES = 50;
+    private static final int PAGE_SIZE = 10;
+
+    public static void main(String[] args) throws Exception {
+        int boards = Integer.getInteger("loadtest.boards", 2000);
+        int commentsPerBoard = Integer.getInteger("loadtest.comments-per-board", 10);
+        int concurrency = Integer.getInteger("loadtest.concurrency", 32);
+        Duration warmup = Duration.ofSeconds(Integer.getInteger("loadtest.warmup-seconds", 5));
+        Duration duration = Duration.ofSeconds(Integer.getInteger("loadtest.duration-seconds", 15));
+        String scenarioProperty = System.getProperty("loadtest.scenarios");
+        boolean virtualThreads = Boolean.getBoolean("loadtest.virtual-threads");
+        List<String> stacks = "both".equals(System.getProperty("loadtest.stack"))
+                ? List.of(SERVLET, REACTIVE)
+                : List.of(System.getProperty("loadtest.stack", SERVLET));
+
+        Map<String, List<LoadDriver.Result>> results = new LinkedHashMap<>();
+        for (String stack : stacks) {
+            // 리액티브 스택은 조회 API만 제공하므로 기본 시나리오에서 쓰기를 제외
+            String defaultScenarios = REACTIVE.equals(stack) ? "list,detail,comments" : "list,detail,comments,write";
+            List<String> scenarioNames = List.of((scenarioProperty != null ? scenarioProperty : defaultScenarios).split(","));
+            results.put(stack, run(stack, args, boards, commentsPerBoard, concurrency, warmup, duration,
+                    scenarioNames, virtualThreads));
+        }
+
+        printReport(results, concurrency, virtualThreads);
+        writeCsv(results, Path.of("build/reports/loadtest/results.csv"));
+    }
+
+    // 서버를 띄우고 데이터를 넣은 뒤 시나리오를 차례로 실행
+    private static List<LoadDriver.Result> run(String stack, String[] args, int boards, int commentsPerBoard,
+                                               int concurrency, Duration warmup, Duration duration,
+                                               List<String> scenarioNames, boolean virtualThreads) throws Exception {
+        // application.yml 보다 우선하도록 명령행 인자로 전달
+        List<String> serverArgs = new ArrayList<>(List.of(args));
+        serverProperties(stack, virtualThreads).forEach((key, value) -> serverArgs.add("--" + key + "=" + value));
+        ConfigurableApplicationContext context = new SpringApplicationBuilder(BoardApplication.class)
+                .run(serverArgs.toArray(String[]::new));
+        try {
+            long start = System.nanoTime();
+            new LoadTestSeeder(context.getBean(JdbcTemplate.class)).seed(boards, commentsPerBoard);
+            // 데이터를 DB에 직접 넣었으므로 목록 캐시와 검색 색인을 다시 맞춤
+            context.getBean(BoardFrontPageCache.class).invalidate();
+            context.getBean(BoardSearchIndex.class).rebuild();
+            System.out.printf("[%s] 데이터 생성 : 게시글 %d개, 댓글 %d개 (%d ms)%n",
+                    stack, boards, (long) boards * commentsPerBoard, (System.nanoTime() - start) / 1_000_000);
+
+            String baseUrl = "http://localhost:" + context.getEnvironment().getProperty("local.server.port");
+            HttpClient httpClient = HttpClient.newBuilder()
+                    .version(HttpClient.Version.HTTP_1_1)
+                    .connectTimeout(Duration.ofSeconds(5))
+                    .build();
+            LoadDriver driver = new LoadDriver(httpClient, concurrency);
+            Map<String, LoadDriver.Scenario> scenarios = scenarios(baseUrl, boards);
+
+            List<LoadDriver.Result> results = new ArrayList<>();
+            for (String name : scenarioNames) {
+                LoadDriver.Scenario scenario = scenarios.get(name.trim());
+                if (scenario == null) {
+                    throw new IllegalArgumentException("알 수 없는 시나리오입니다: " + name + " (가능한 값: " + scenarios.keySet() + ")");
+                }
+                driver.run(scenario, warmup);
+                results.add(driver.run(scenario, duration));
+            }
+            return results;
+        } finally {
+            // 다음 스택은 같은 메모리 DB를 새로 만들어 사용 (ddl-auto=create-drop)
+            context.close();
+        }
+    }
+
+    private static Map<String, String> serverProperties(String stack, boolean virtualThreads) {
+        Map<String, String> properties = new LinkedHashMap<>();
+        properties.put("spring.datasource.url", "jdbc:h2:mem:loadtest;" + H2_OPTIONS);
+        properties.put("spring.datasource.driver-class-name", "org.h2.Driver");
+        properties.put("spring.datasource.username", "sa");
+        properties.put("spring.datasource.password", "");
+        properties.put("spring.jpa.hibernate.ddl-auto", "create-drop");
+        properties.put("server.port", "0");
+        properties.put("spring.threads.virtual.enabled", String.valueOf(virtualThreads));
+        properties.put("board.search.index-dir", "build/loadtest/search-index");
+        // 측정 중에 댓글 수 보정 작업이 돌지 않도록 미룸
+        properties.put("board.comment-count.reconcile-initial-delay-ms", String.valueOf(Duration.ofDays(1).toMillis()));
+        properties.put("logging.level.root", "WARN");
+        if (REACTIVE.equals(stack)) {
+            // 같은 메모리 DB를 R2DBC로 조회
+            properties.put("spring.profiles.active", REACTIVE);
+            properties.put("spring.r2dbc.url", "r2dbc:h2:mem:///loadtest?options=" + H2_OPTIONS);
+            properties.put("spring.r2dbc.username", "sa");
+            properties.put("spring.r2dbc.password", "");
+        } else if (SERVLET.equals(stack)) {
+            // 부하 테스트 클래스패스에는 리액티브 스택(R2DBC)도 있으므로 서블릿 스택에서는 R2DBC 자동 설정을 끔
+            // (R2DBC 연결이 만들어지면 JDBC DataSource가 자동 생성되지 않음)
+            properties.put("spring.autoconfigure.exclude", String.join(",",
+                    "org.springframework.boot.autoconfigure.r2dbc.R2dbcAutoConfiguration",
+                    "org.springframework.boot.autoconfigure.r2dbc.R2dbcTransactionManagerAutoConfiguration",
+                    "org.springframework.boot.autoconfigure.data.r2dbc.R2dbcDataAutoConfiguration",
+                    "org.springframework.boot.autoconfigure.data.r2dbc.R2dbcRepositoriesAutoConfiguration"));
+        } else {
+            throw new IllegalArgumentException("알 수 없는 스택입니다: " + stack + " (가능한 값: servlet, reactive, both)");
+        }
+        return properties;
+    }
+
+    private static Map<String, LoadDriver.Scenario> scenarios(String baseUrl, int boards) {
+        Map<String, LoadDriver.Scenario> scenarios = new LinkedHashMap<>();
+        scenarios.put("list", new LoadDriver.Scenario("list", random ->
+                get(baseUrl + "/board/?page=" + random.nextInt(LIST_PAGES) + "&size=" + PAGE_SIZE)));
+        scenarios.put("detail", new LoadDriver.Scenario("detail", random ->
+                get(baseUrl + "/board/" + randomBoardId(random, boards))));
+        scenarios.put("comments", new LoadDriver.Scenario("comments", random ->
+                get(baseUrl + "/api/comments/board/" + randomBoardId(random, boards))));
+
+        // 쓰기 : 게시글 작성과 댓글 작성을 번갈아 호출
+        AtomicLong sequence = new AtomicLong();
+        scenarios.put("write", new LoadDriver.Scenario("write", random -> {
+            long n = sequence.incrementAndGet();
+            if (n % 2 == 0) {
+                return post(baseUrl + "/board/create", String.format(
+                        "{\"title\":\"부하 테스트 작성 %d\",\"content\":\"부하 테스트로 작성한 게시글입니다.\",\"author\":\"tester\"}", n));
+            }
+            return post(baseUrl + "/api/comments", String.format(
+                    "{\"textBody\":\"부하 테스트 댓글 %d\",\"user\":\"tester\",\"boardId\":%d}", n, randomBoardId(random, boards)));
+        }));
+        return scenarios;
+    }
+
+    private static long randomBoardId(Random random, int boards) {
+        return random.nextInt(boards) + 1L;
+    }
+
+    private static HttpRequest get(String url) {
+        return HttpRequest.newBuilder(URI.create(url)).GET().build();
+    }
+
+    private static HttpRequest post(String url, String json) {
+        return HttpRequest.newBuilder(URI.create(url))
+                .header("Content-Type", "application/json")
+                .POST(HttpRequest.BodyPublishers.ofString(json))
+                .build();
+    }
+
+    private static void printReport(Map<String, List<LoadDriver.Result>> results, int concurrency, boolean virtualThreads) {
+        System.out.printf("%n동시 요청 %d, 가상 스레드 %s (Java %s)%n",
+                concurrency, virtualThreads ? "사용" : "사용 안 함", Runtime.version().feature());
+        System.out.printf("%-9s %-10s %10s %8s %10s %10s %10s %10s %10s%n",
+                "stack", "scenario", "requests", "errors", "rps", "p50(ms)", "p90(ms)", "p99(ms)", "max(ms)");
+        results.forEach((stack, stackResults) -> {
+            for (LoadDriver.Result result : stackResults) {
+                System.out.printf(Locale.ROOT, "%-9s %-10s %10d %8d %10.1f %10.2f %10.2f %10.2f %10.2f%n",
+                        stack, result.name(), result.requests(), result.errors(), result.rps(),
+                        result.percentileMillis(50), result.percentileMillis(90), result.percentileMillis(99),
+                        result.percentileMillis(100));
+            }
+        });
+    }
+
+    private static void writeCsv(Map<String, List<LoadDriver.Result>> results, Path file) throws IOException {
+        Files.createDirectories(file.getParent());
+        try (PrintWriter writer = new PrintWriter(Files.newBufferedWriter(file))) {
+            writer.println("stack,scenario,requests,errors,rps,p50_ms,p90_ms,p99_ms,max_ms");
+            results.forEach((stack, stackResults) -> {
+                for (LoadDriver.Result result : stackResults) {
+                    writer.printf(Locale.ROOT, "%s,%s,%d,%d,%.1f,%.2f,%.2f,%.2f,%.2f%n",
+                            stack, result.name(), result.requests(), result.errors(), result.rps(),
+                            result.percentileMillis(50), result.percentileMillis(90), result.percentileMillis(99),
+                            result.percentileMillis(100));
+                }
+            });
+        }
+        System.out.println("결과 파일 : " + file.toAbsolutePath());
+    }
+}
@@ -0,0 +1,99 @@
+package com.ohgireffers.board.loadtest;
+
+import com.ohgireffers.board.model.entity.Comment;
+import org.springframework.jdbc.core.JdbcTemplate;
+
+import java.sql.Date;
+import java.sql.Timestamp;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Random;
+
+// 부하 테스트용 데이터 생성
+// 게시글과 대댓글이 섞인 댓글 트리를 JDBC 배치로 넣는다. (ID를 직접 지정하여 댓글 path를 바로 계산)
+class LoadTestSeeder {
+
+    private static final int BATCH_SIZE = 1000;
+
+    private final JdbcTemplate jdbcTemplate;
+    private final Random random = new Random(42);
+
+    LoadTestSeeder(JdbcTemplate jdbcTemplate) {
+        this.jdbcTemplate = jdbcTemplate;
+    }
+
+    // 게시글 boards개, 게시글마다 댓글 commentsPerBoard개 생성
+    // 댓글은 3개 중 1개가 최상위 댓글이고 나머지는 같은 게시글의 앞선 댓글에 달린 대댓글이다.
+    void seed(int boards, int commentsPerBoard) {
+        LocalDate today = LocalDate.now();
+        LocalDateTime now = LocalDateTime.now();
+        List<Object[]> boardRows = new ArrayList<>(BATCH_SIZE);
+        List<Object[]> commentRows = new ArrayList<>(BATCH_SIZE);
+        long commentId = 0;
+
+        for (long boardId = 1; boardId <= boards; boardId++) {
+            // 하루에 100개씩 작성된 것처럼 작성일을 나눔 (목록 정렬이 의미 있도록)
+            LocalDate createAt = today.minusDays((boards - boardId) / 100);
+            boardRows.add(new Object[]{boardId, "부하 테스트 게시글 " + boardId, "tester",
+                    "부하 테스트용 게시글 본문입니다. ".repeat(10) + boardId, Date.valueOf(createAt), commentsPerBoard});
+            if (boardRows.size() == BATCH_SIZE) {
+                insertBoards(boardRows);
+            }
+
+            List<String> paths = new ArrayList<>(commentsPerBoard);
+            List<Long> ids = new ArrayList<>(commentsPerBoard);
+            List<Integer> depths = new ArrayList<>(commentsPerBoard);
+            for (int i = 0; i < commentsPerBoard; i++) {
+                commentId++;
+                int parentIndex = i == 0 || random.nextInt(3) == 0 ? -1 : random.nextInt(i);
+                if (parentIndex >= 0 && depths.get(parentIndex) >= Comment.MAX_DEPTH) {
+                    parentIndex = -1;
+                }
+                String parentPath = parentIndex >= 0 ? paths.get(parentIndex) : "";
+                int depth = parentIndex >= 0 ? depths.get(parentIndex) + 1 : 0;
+                String path = parentPath + Comment.pathSegment(commentId);
+                Timestamp createdDate = Timestamp.valueOf(now.minusSeconds(commentsPerBoard - i));
+
+                commentRows.add(new Object[]{commentId, "부하 테스트 댓글 " + commentId, "tester", boardId,
+                        parentIndex >= 0 ? ids.get(parentIndex) : null, parentIndex >= 0, depth, path,
+                        createdDate, createdDate});
+                paths.add(path);
+                ids.add(commentId);
+                depths.add(depth);
+                if (commentRows.size() == BATCH_SIZE) {
+                    // 댓글이 참조하는 게시글이 먼저 들어가 있어야 함
+                    insertBoards(boardRows);
+                    insertComments(commentRows);
+                }
+            }
+        }
+        insertBoards(boardRows);
+        insertComments(commentRows);
+
+        // ID를 직접 넣었으므로 이후 API로 생성되는 게시글/댓글 ID가 겹치지 않도록 자동 증가 값을 옮김 (H2 문법)
+        jdbcTemplate.execute("alter table board alter column id restart with " + (boards + 1));
+        jdbcTemplate.execute("alter table comment alter column comment_id restart with " + (commentId + 1));
+    }
+
+    private void insertBoards(List<Object[]> rows) {
+        if (rows.isEmpty()) {
+            return;
+        }
+        jdbcTemplate.batchUpdate("insert into board " +
+                "(id, title, author, contents, created_at, updated_at, comment_count, comment_version, view_count, version) " +
+                "values (?, ?, ?, ?, ?, null, ?, 0, 0, 0)", rows);
+        rows.clear();
+    }
+
+    private void insertComments(List<Object[]> rows) {
+        if (rows.isEmpty()) {
+            return;
+        }
+        jdbcTemplate.batchUpdate("insert into comment " +
+                "(comment_id, text_body, user, board_id, parent_comment_id, is_comment_for_comment, depth, path, " +
+                "created_date, modified_date, version) values (?, ?, ?, ?, ?, ?, ?, ?, ?, ?, 0)", rows);
+        rows.clear();
+    }
+}
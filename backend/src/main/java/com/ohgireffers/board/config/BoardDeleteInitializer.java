@@ -0,0 +1,32 @@
+package com.ohgireffers.board.config;
+
+import com.ohgireffers.board.service.BoardThreadDeleter;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.ApplicationArguments;
+import org.springframework.boot.ApplicationRunner;
+import org.springframework.stereotype.Component;
+
+@Component
+// 애플리케이션 시작시 삭제 진행 중으로 표시된 게시글의 백그라운드 삭제를 다시 시작하는 클래스
+// 댓글이 많은 게시글을 나눠 지우는 도중 서버가 종료되면 남은 댓글과 게시글을 이어서 지우기 위해 사용
+public class BoardDeleteInitializer implements ApplicationRunner {
+
+    private static final Logger log = LoggerFactory.getLogger(BoardDeleteInitializer.class);
+
+    private final BoardThreadDeleter threadDeleter;
+
+    @Autowired
+    public BoardDeleteInitializer(BoardThreadDeleter threadDeleter) {
+        this.threadDeleter = threadDeleter;
+    }
+
+    @Override
+    public void run(ApplicationArguments args) {
+        int resumed = threadDeleter.resumeUnfinished();
+        if (resumed > 0) {
+            log.info("끝나지 않은 게시글 백그라운드 삭제 {}건 다시 시작", resumed);
+        }
+    }
+}
@@ -0,0 +1,37 @@
+package com.ohgireffers.board.config;
+
+import com.ohgireffers.board.service.BoardSearchIndex;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.ApplicationArguments;
+import org.springframework.boot.ApplicationRunner;
+import org.springframework.stereotype.Component;
+
+import java.io.IOException;
+
+@Component
+// 애플리케이션 시작시 게시글 검색 색인을 준비하는 클래스
+// 저장된 색인이 있으면 마지막으로 색인한 이후 작성/수정된 게시글만 다시 색인하고,
+// 색인이 없거나 그래도 게시글 수가 다르면 board 테이블에서 다시 만든다.
+public class BoardSearchIndexInitializer implements ApplicationRunner {
+
+    private final BoardSearchIndex boardSearchIndex;
+    private final boolean rebuildOnStartup;
+    // true 이면 저장된 색인과 상관없이 항상 다시 만듦 (DB를 직접 수정한 경우 등)
+
+    @Autowired
+    public BoardSearchIndexInitializer(BoardSearchIndex boardSearchIndex,
+                                       @Value("${board.search.rebuild-on-startup:false}") boolean rebuildOnStartup) {
+        this.boardSearchIndex = boardSearchIndex;
+        this.rebuildOnStartup = rebuildOnStartup;
+    }
+
+    @Override
+    public void run(ApplicationArguments args) throws IOException {
+        if (rebuildOnStartup) {
+            boardSearchIndex.rebuild();
+        } else {
+            boardSearchIndex.rebuildIfStale();
+        }
+    }
+}
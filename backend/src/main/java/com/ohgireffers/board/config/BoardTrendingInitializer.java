@@ -0,0 +1,34 @@
+package com.ohgireffers.board.config;
+
+import com.ohgireffers.board.service.BoardTrendingRanking;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.ApplicationArguments;
+import org.springframework.boot.ApplicationRunner;
+import org.springframework.dao.DataAccessException;
+import org.springframework.stereotype.Component;
+
+@Component
+// 애플리케이션 시작시 인기 게시글 순위를 DB의 최근 댓글과 조회수로 다시 만드는 클래스
+// 실패해도 순위는 이후 조회/댓글 작성부터 다시 쌓이므로 시작을 막지 않는다.
+public class BoardTrendingInitializer implements ApplicationRunner {
+
+    private static final Logger log = LoggerFactory.getLogger(BoardTrendingInitializer.class);
+
+    private final BoardTrendingRanking boardTrendingRanking;
+
+    @Autowired
+    public BoardTrendingInitializer(BoardTrendingRanking boardTrendingRanking) {
+        this.boardTrendingRanking = boardTrendingRanking;
+    }
+
+    @Override
+    public void run(ApplicationArguments args) {
+        try {
+            boardTrendingRanking.rebuild();
+        } catch (DataAccessException e) {
+            log.warn("인기 게시글 순위 재생성 실패 (이후 활동부터 다시 집계)", e);
+        }
+    }
+}
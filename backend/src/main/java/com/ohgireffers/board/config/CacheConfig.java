@@ -0,0 +1,51 @@
+package com.ohgireffers.board.config;
+
+import com.github.benmanes.caffeine.cache.Caffeine;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.boot.system.JavaVersion;
+import org.springframework.cache.CacheManager;
+import org.springframework.cache.annotation.EnableCaching;
+import org.springframework.cache.caffeine.CaffeineCacheManager;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.core.task.SimpleAsyncTaskExecutor;
+
+import java.util.List;
+
+@Configuration
+@EnableCaching
+// 애플리케이션 내부(JVM 메모리) 캐시 설정
+// 크기와 만료 시간은 Caffeine spec 문자열로 지정하고 recordStats로 적중/실패/제거 횟수를 기록한다.
+// board.cache.redis.enabled=true 이면 RedisCacheConfig의 2단계 캐시가 대신 사용된다.
+public class CacheConfig {
+
+    public static final String BOARD_CACHE = "board";
+    // 게시글 단건 조회 캐시 이름 (key: 게시글 ID)
+
+    @Bean
+    @ConditionalOnProperty(name = "board.cache.redis.enabled", havingValue = "false", matchIfMissing = true)
+    public CacheManager cacheManager(@Value("${board.cache.local.spec}") String spec,
+                                     @Value("${spring.threads.virtual.enabled:false}") boolean virtualThreads) {
+        return localCacheManager(spec, virtualThreads);
+    }
+
+    // 캐시 이름을 미리 등록해 두어야 시작 시점에 캐시 메트릭이 연결된다.
+    static CaffeineCacheManager localCacheManager(String spec, boolean virtualThreads) {
+        CaffeineCacheManager cacheManager = new CaffeineCacheManager();
+        Caffeine<Object, Object> caffeine = Caffeine.from(spec);
+        // 스프링 부트와 같이 Java 21 이상에서 실행할 때만 가상 스레드 사용
+        if (virtualThreads && JavaVersion.getJavaVersion().isEqualOrNewerThan(JavaVersion.TWENTY_ONE)) {
+            // 동기 캐시는 캐시 미스시 DB 조회를 ConcurrentHashMap 잠금(synchronized) 안에서 실행하므로
+            // 가상 스레드가 조회하는 동안 캐리어 스레드까지 고정(pinning)된다.
+            // 비동기 캐시로 바꾸면 잠금 안에서는 Future만 등록하고 조회는 별도 가상 스레드에서 실행된다.
+            SimpleAsyncTaskExecutor loadExecutor = new SimpleAsyncTaskExecutor("cache-load-");
+            loadExecutor.setVirtualThreads(true);
+            caffeine.executor(loadExecutor);
+            cacheManager.setAsyncCacheMode(true);
+        }
+        cacheManager.setCaffeine(caffeine);
+        cacheManager.setCacheNames(List.of(BOARD_CACHE));
+        return cacheManager;
+    }
+}
@@ -0,0 +1,86 @@
+package com.ohgireffers.board.config;
+
+import com.ohgireffers.board.service.CommentService;
+import jakarta.annotation.PreDestroy;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.ApplicationArguments;
+import org.springframework.boot.ApplicationRunner;
+import org.springframework.dao.OptimisticLockingFailureException;
+import org.springframework.stereotype.Component;
+
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+
+@Component
+// 애플리케이션 시작시 path가 없는 기존 댓글에 path를 채워주는 클래스
+// path 컬럼이 추가되기 전에 작성된 댓글도 화면 표시 순서대로 조회되도록 하기 위해 사용
+// 댓글이 많으면 오래 걸리므로 시작을 막지 않도록 백그라운드에서 처리하며,
+// 여러 서버가 동시에 시작해 같은 댓글을 채우다 충돌(낙관적 잠금)하면 그 배치를 다시 읽어 남은 댓글만 채운다.
+public class CommentPathInitializer implements ApplicationRunner {
+
+    private static final Logger log = LoggerFactory.getLogger(CommentPathInitializer.class);
+
+    private static final int BATCH_SIZE = 500;
+    // 한 트랜잭션에서 처리할 댓글 수
+
+    private final CommentService commentService;
+    private final ExecutorService executor = Executors.newSingleThreadExecutor(runnable -> {
+        Thread thread = new Thread(runnable, "comment-path-backfill");
+        thread.setDaemon(true);
+        return thread;
+    });
+
+    @Autowired
+    public CommentPathInitializer(CommentService commentService) {
+        this.commentService = commentService;
+    }
+
+    @Override
+    public void run(ApplicationArguments args) {
+        start();
+    }
+
+    // 백그라운드에서 path 채우기 시작
+    Future<?> start() {
+        return executor.submit(() -> {
+            try {
+                backfill();
+            } catch (RuntimeException e) {
+                log.warn("댓글 path 채우기 실패 (다음 시작시 이어서 처리)", e);
+            }
+        });
+    }
+
+    @PreDestroy
+    public void close() {
+        executor.shutdownNow();
+    }
+
+    // 얕은 단계부터 단계마다 댓글 ID 순으로 나눠서 채움 (배치마다 별도 트랜잭션으로 커밋)
+    void backfill() {
+        Integer maxDepth = commentService.findMaxPathlessDepth();
+        if (maxDepth == null) {
+            return;
+        }
+        for (int depth = 0; depth <= maxDepth && !Thread.currentThread().isInterrupted(); depth++) {
+            long afterId = 0;
+            while (!Thread.currentThread().isInterrupted()) {
+                Long lastId;
+                try {
+                    lastId = commentService.backfillCommentPaths(depth, afterId, BATCH_SIZE);
+                } catch (OptimisticLockingFailureException e) {
+                    // 다른 서버가 먼저 채운 댓글이 있음 -> 같은 위치부터 다시 읽으면 그 댓글은 제외됨
+                    log.info("댓글 path 채우기 충돌, 다시 시도 (depth={}, afterId={})", depth, afterId);
+                    continue;
+                }
+                if (lastId == null) {
+                    break;
+                }
+                afterId = lastId;
+            }
+        }
+    }
+}
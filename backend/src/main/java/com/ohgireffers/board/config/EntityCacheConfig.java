@@ -0,0 +1,56 @@
+package com.ohgireffers.board.config;
+
+import com.github.benmanes.caffeine.jcache.configuration.CaffeineConfiguration;
+import com.github.benmanes.caffeine.jcache.spi.CaffeineCachingProvider;
+import com.ohgireffers.board.model.entity.Board;
+import com.ohgireffers.board.model.entity.Comment;
+import org.hibernate.cache.jcache.ConfigSettings;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.orm.jpa.HibernatePropertiesCustomizer;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+import javax.cache.CacheManager;
+import java.time.Duration;
+import java.util.OptionalLong;
+
+@Configuration
+// Hibernate 2차 캐시(JCache + Caffeine) 설정
+// 게시글, 댓글, 대댓글 목록 영역을 application.yml의 크기/만료 시간으로 미리 만들어 Hibernate에 넘긴다.
+// 적중/실패 횟수는 hibernate.second.level.cache.* 메트릭으로 확인할 수 있다. (hibernate.generate_statistics)
+public class EntityCacheConfig {
+
+    // 애플리케이션 컨텍스트마다 별도의 JCache 매니저를 사용하도록 provider를 직접 생성
+    // (Caching.getCachingProvider()는 JVM 전역이라 테스트에서 여러 컨텍스트가 같은 캐시를 공유하게 됨)
+    @Bean(destroyMethod = "close")
+    public CacheManager entityCacheManager(
+            @Value("${board.entity-cache.board.max-size:10000}") long boardMaxSize,
+            @Value("${board.entity-cache.board.ttl:30m}") Duration boardTtl,
+            @Value("${board.entity-cache.comment.max-size:50000}") long commentMaxSize,
+            @Value("${board.entity-cache.comment.ttl:30m}") Duration commentTtl,
+            @Value("${board.entity-cache.replies.max-size:20000}") long repliesMaxSize,
+            @Value("${board.entity-cache.replies.ttl:30m}") Duration repliesTtl) {
+        CaffeineCachingProvider provider = new CaffeineCachingProvider();
+        CacheManager cacheManager = provider.getCacheManager(provider.getDefaultURI(), getClass().getClassLoader());
+        cacheManager.createCache(Board.CACHE_REGION, region(boardMaxSize, boardTtl));
+        cacheManager.createCache(Comment.CACHE_REGION, region(commentMaxSize, commentTtl));
+        cacheManager.createCache(Comment.REPLIES_CACHE_REGION, region(repliesMaxSize, repliesTtl));
+        return cacheManager;
+    }
+
+    // 위에서 만든 캐시 매니저를 Hibernate 2차 캐시로 사용 (그 외 설정은 application.yml)
+    @Bean
+    public HibernatePropertiesCustomizer entityCacheCustomizer(CacheManager entityCacheManager) {
+        return properties -> properties.put(ConfigSettings.CACHE_MANAGER, entityCacheManager);
+    }
+
+    private static CaffeineConfiguration<Object, Object> region(long maxSize, Duration ttl) {
+        CaffeineConfiguration<Object, Object> configuration = new CaffeineConfiguration<>();
+        configuration.setMaximumSize(OptionalLong.of(maxSize));
+        configuration.setExpireAfterWrite(OptionalLong.of(ttl.toNanos()));
+        // Hibernate가 캐시에 넣는 값은 변경되지 않는 분해된 상태(CacheEntry)이므로 복사하지 않고 참조로 저장
+        configuration.setStoreByValue(false);
+        configuration.setStatisticsEnabled(true);
+        return configuration;
+    }
+}
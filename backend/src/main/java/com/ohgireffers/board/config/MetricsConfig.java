@@ -0,0 +1,19 @@
+package com.ohgireffers.board.config;
+
+import org.hibernate.cfg.AvailableSettings;
+import org.springframework.boot.autoconfigure.orm.jpa.HibernatePropertiesCustomizer;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+@Configuration
+// 요청/SQL 메트릭 설정
+// Hibernate 통계(hibernate.statements, hibernate.entities.loads, hibernate.second.level.cache.requests 등)는
+// hibernate.generate_statistics=true 일 때 스프링 부트가 자동으로 메트릭에 연결한다. (application.yml)
+public class MetricsConfig {
+
+    // Hibernate가 실행하는 모든 SQL을 SqlStatementCounter가 거쳐 가도록 등록
+    @Bean
+    public HibernatePropertiesCustomizer sqlStatementCounterCustomizer(SqlStatementCounter sqlStatementCounter) {
+        return properties -> properties.put(AvailableSettings.STATEMENT_INSPECTOR, sqlStatementCounter);
+    }
+}
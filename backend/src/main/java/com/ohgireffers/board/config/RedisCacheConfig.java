@@ -0,0 +1,73 @@
+package com.ohgireffers.board.config;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.ohgireffers.board.model.dto.BoardResponseDTO;
+import io.micrometer.core.instrument.binder.cache.CaffeineCacheMetrics;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.actuate.metrics.cache.CacheMeterBinderProvider;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.data.redis.cache.RedisCacheConfiguration;
+import org.springframework.data.redis.cache.RedisCacheManager;
+import org.springframework.data.redis.connection.RedisConnectionFactory;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.data.redis.listener.ChannelTopic;
+import org.springframework.data.redis.listener.RedisMessageListenerContainer;
+import org.springframework.data.redis.serializer.Jackson2JsonRedisSerializer;
+import org.springframework.data.redis.serializer.RedisSerializationContext;
+
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+
+@Configuration
+@ConditionalOnProperty(name = "board.cache.redis.enabled", havingValue = "true")
+// 2단계 캐시 설정 (로컬 캐시 + Redis)
+// 서버가 여러 대일 때 한 서버에서 게시글이 수정/삭제되면 Redis 채널로 알려 다른 서버의 로컬 캐시도 지운다.
+// 개발 환경에서는 로컬에 띄운 Redis(예: docker run -p 6379:6379 redis)로 대신할 수 있다.
+public class RedisCacheConfig {
+
+    @Bean
+    public TwoLevelCacheManager cacheManager(@Value("${board.cache.local.spec}") String spec,
+                                             @Value("${spring.threads.virtual.enabled:false}") boolean virtualThreads,
+                                             @Value("${board.cache.redis.ttl}") Duration ttl,
+                                             @Value("${board.cache.redis.evict-channel}") String evictChannel,
+                                             RedisConnectionFactory connectionFactory,
+                                             StringRedisTemplate redisTemplate,
+                                             ObjectMapper objectMapper) {
+        // 게시글 캐시 값은 JSON으로 저장 (스프링이 사용하는 ObjectMapper 설정을 그대로 사용해 날짜 형식을 맞춤)
+        RedisCacheConfiguration boardCacheConfig = RedisCacheConfiguration.defaultCacheConfig()
+                .entryTtl(ttl)
+                .serializeValuesWith(RedisSerializationContext.SerializationPair.fromSerializer(
+                        new Jackson2JsonRedisSerializer<>(objectMapper, BoardResponseDTO.class)));
+
+        RedisCacheManager remoteCacheManager = RedisCacheManager.builder(connectionFactory)
+                .withCacheConfiguration(CacheConfig.BOARD_CACHE, boardCacheConfig)
+                .disableCreateOnMissingCache()
+                .build();
+        remoteCacheManager.afterPropertiesSet();
+
+        return new TwoLevelCacheManager(CacheConfig.localCacheManager(spec, virtualThreads), remoteCacheManager,
+                redisTemplate, evictChannel);
+    }
+
+    // 다른 서버가 보낸 캐시 삭제 알림 구독
+    @Bean
+    public RedisMessageListenerContainer cacheEvictionListenerContainer(
+            RedisConnectionFactory connectionFactory,
+            TwoLevelCacheManager cacheManager,
+            @Value("${board.cache.redis.evict-channel}") String evictChannel) {
+        RedisMessageListenerContainer container = new RedisMessageListenerContainer();
+        container.setConnectionFactory(connectionFactory);
+        container.addMessageListener(
+                (message, pattern) -> cacheManager.onEvictionMessage(new String(message.getBody(), StandardCharsets.UTF_8)),
+                new ChannelTopic(evictChannel));
+        return container;
+    }
+
+    // 캐시 메트릭(적중/실패/제거)은 로컬 캐시 기준으로 수집
+    @Bean
+    public CacheMeterBinderProvider<TwoLevelCache> twoLevelCacheMeterBinderProvider() {
+        return (cache, tags) -> new CaffeineCacheMetrics<>(cache.getLocal().getNativeCache(), cache.getName(), tags);
+    }
+}
@@ -0,0 +1,86 @@
+package com.ohgireffers.board.config;
+
+import io.micrometer.core.instrument.DistributionSummary;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.stereotype.Component;
+import org.springframework.web.method.HandlerMethod;
+import org.springframework.web.servlet.AsyncHandlerInterceptor;
+
+// 컨트롤러 메서드별 응답 시간과 SQL 문 수 기록
+// - board.api.requests         : 응답 시간 (태그 controller, method, status, exception)
+// - board.api.sql.statements   : 요청 하나에서 실행된 SQL 문 수 (태그 controller, method)
+// 스트리밍 응답(게시글 내보내기)처럼 비동기로 끝나는 요청은 응답이 끝날 때까지의 시간을 기록하며,
+// 스트리밍 스레드에서 실행된 SQL은 세지 않는다.
+@Component
+public class RequestMetricsInterceptor implements AsyncHandlerInterceptor {
+
+    private static final String SAMPLE_ATTRIBUTE = RequestMetricsInterceptor.class.getName() + ".sample";
+    private static final String SQL_COUNT_ATTRIBUTE = RequestMetricsInterceptor.class.getName() + ".sqlCount";
+
+    private final MeterRegistry meterRegistry;
+    private final SqlStatementCounter sqlStatementCounter;
+
+    @Autowired
+    public RequestMetricsInterceptor(MeterRegistry meterRegistry, SqlStatementCounter sqlStatementCounter) {
+        this.meterRegistry = meterRegistry;
+        this.sqlStatementCounter = sqlStatementCounter;
+    }
+
+    @Override
+    public boolean preHandle(HttpServletRequest request, HttpServletResponse response, Object handler) {
+        if (!(handler instanceof HandlerMethod)) {
+            return true;
+        }
+        // 비동기 요청은 응답을 마무리할 때 preHandle이 한 번 더 호출되므로 처음 시작 시간을 유지
+        if (request.getAttribute(SAMPLE_ATTRIBUTE) == null) {
+            request.setAttribute(SAMPLE_ATTRIBUTE, Timer.start(meterRegistry));
+        }
+        sqlStatementCounter.reset();
+        return true;
+    }
+
+    @Override
+    public void afterConcurrentHandlingStarted(HttpServletRequest request, HttpServletResponse response, Object handler) {
+        // 요청 스레드가 반환되기 전까지 센 SQL 문 수를 보관
+        request.setAttribute(SQL_COUNT_ATTRIBUTE, sqlCount(request));
+    }
+
+    @Override
+    public void afterCompletion(HttpServletRequest request, HttpServletResponse response, Object handler, Exception ex) {
+        if (!(handler instanceof HandlerMethod handlerMethod)) {
+            return;
+        }
+        Timer.Sample sample = (Timer.Sample) request.getAttribute(SAMPLE_ATTRIBUTE);
+        if (sample == null) {
+            return;
+        }
+        request.removeAttribute(SAMPLE_ATTRIBUTE);
+
+        String controller = handlerMethod.getBeanType().getSimpleName();
+        String method = handlerMethod.getMethod().getName();
+        sample.stop(Timer.builder("board.api.requests")
+                .description("컨트롤러 메서드별 응답 시간")
+                .tag("controller", controller)
+                .tag("method", method)
+                .tag("status", String.valueOf(response.getStatus()))
+                .tag("exception", ex != null ? ex.getClass().getSimpleName() : "none")
+                .register(meterRegistry));
+
+        DistributionSummary.builder("board.api.sql.statements")
+                .description("요청 하나에서 실행된 SQL 문 수")
+                .baseUnit("statements")
+                .tag("controller", controller)
+                .tag("method", method)
+                .register(meterRegistry)
+                .record(sqlCount(request));
+    }
+
+    private int sqlCount(HttpServletRequest request) {
+        Object previous = request.getAttribute(SQL_COUNT_ATTRIBUTE);
+        return (previous instanceof Integer count ? count : 0) + sqlStatementCounter.count();
+    }
+}
@@ -0,0 +1,43 @@
+package com.ohgireffers.board.config;
+
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.core.MethodParameter;
+import org.springframework.http.MediaType;
+import org.springframework.http.converter.HttpMessageConverter;
+import org.springframework.http.server.ServerHttpRequest;
+import org.springframework.http.server.ServerHttpResponse;
+import org.springframework.web.bind.annotation.ControllerAdvice;
+import org.springframework.web.servlet.mvc.method.annotation.ResponseBodyAdvice;
+
+// 개발용 : 응답 헤더 X-SQL-Count 에 요청 처리 중 실행된 SQL 문 수를 담는다. (board.metrics.sql-count-header=true)
+// 헤더는 응답 본문을 쓰기 직전에 추가해야 하므로 인터셉터가 아니라 ResponseBodyAdvice에서 처리한다.
+// (본문이 없는 응답, 예를 들어 304 Not Modified 에는 붙지 않음)
+// 값은 요청 스레드에서 실행된 SQL 수만 센다. 캐시 로더 스레드나 스트리밍 스레드에서 실행된 SQL은 빠지므로
+// 캐시 미스로 DB를 조회한 요청도 0 이 나올 수 있다. (SqlStatementCounter 참고)
+@ControllerAdvice
+@ConditionalOnProperty(name = "board.metrics.sql-count-header", havingValue = "true")
+public class SqlCountHeaderAdvice implements ResponseBodyAdvice<Object> {
+
+    public static final String HEADER = "X-SQL-Count";
+
+    private final SqlStatementCounter sqlStatementCounter;
+
+    @Autowired
+    public SqlCountHeaderAdvice(SqlStatementCounter sqlStatementCounter) {
+        this.sqlStatementCounter = sqlStatementCounter;
+    }
+
+    @Override
+    public boolean supports(MethodParameter returnType, Class<? extends HttpMessageConverter<?>> converterType) {
+        return true;
+    }
+
+    @Override
+    public Object beforeBodyWrite(Object body, MethodParameter returnType, MediaType selectedContentType,
+                                  Class<? extends HttpMessageConverter<?>> selectedConverterType,
+                                  ServerHttpRequest request, ServerHttpResponse response) {
+        response.getHeaders().set(HEADER, String.valueOf(sqlStatementCounter.count()));
+        return body;
+    }
+}
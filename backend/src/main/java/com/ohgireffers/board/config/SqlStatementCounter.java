@@ -0,0 +1,35 @@
+package com.ohgireffers.board.config;
+
+import org.hibernate.resource.jdbc.spi.StatementInspector;
+import org.springframework.stereotype.Component;
+
+// 요청(스레드)별로 Hibernate가 실행한 SQL 문 수를 센다.
+// Hibernate가 SQL을 준비할 때마다 inspect가 호출되므로 JPA/JPQL 조회, 지연 로딩, flush로 나간 SQL이 모두 포함된다.
+// (JdbcTemplate으로 직접 실행한 SQL은 포함되지 않음)
+// 카운터가 스레드에 묶여 있으므로 요청 스레드가 아닌 곳에서 실행된 SQL도 포함되지 않는다.
+// - 비동기 캐시 모드에서 캐시 로더(cache-load-) 스레드가 실행한 조회
+// - 스트리밍 응답(게시글 내보내기) 본문을 쓰는 스레드의 조회
+// - @Async / @TransactionalEventListener 등 다른 스레드에서 처리되는 작업
+// 따라서 값은 "요청 스레드에서 실행된 SQL 수"의 하한이며 N+1 같은 요청 스레드의 문제를 찾는 용도로만 사용한다.
+@Component
+public class SqlStatementCounter implements StatementInspector {
+
+    // 스레드마다 카운터 하나 (int[] 로 두어 매번 박싱하지 않도록 함)
+    private static final ThreadLocal<int[]> COUNT = ThreadLocal.withInitial(() -> new int[1]);
+
+    @Override
+    public String inspect(String sql) {
+        COUNT.get()[0]++;
+        return sql;
+    }
+
+    // 현재 스레드의 카운터를 0으로 (요청 시작시 호출)
+    public void reset() {
+        COUNT.get()[0] = 0;
+    }
+
+    // 마지막 reset 이후 현재 스레드에서 실행된 SQL 문 수
+    public int count() {
+        return COUNT.get()[0];
+    }
+}
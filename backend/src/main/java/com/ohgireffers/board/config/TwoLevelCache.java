@@ -0,0 +1,124 @@
+package com.ohgireffers.board.config;
+
+import org.springframework.cache.Cache;
+import org.springframework.cache.caffeine.CaffeineCache;
+import org.springframework.data.redis.core.StringRedisTemplate;
+
+import java.util.concurrent.Callable;
+
+// 로컬 캐시(1단계) + Redis 캐시(2단계)를 묶은 캐시
+// 조회: 로컬 -> Redis -> 원본 순으로 찾고, 아래 단계에서 찾은 값은 위 단계에 채운다.
+// 수정/삭제: 두 단계 모두 반영한 뒤 다른 서버들도 로컬 캐시를 지우도록 Redis 채널로 알린다.
+public class TwoLevelCache implements Cache {
+
+    private final CaffeineCache local;
+    private final Cache remote;
+    private final StringRedisTemplate redisTemplate;
+    private final String evictChannel;
+    private final String nodeId;
+    // 자신이 보낸 삭제 알림은 무시하기 위한 서버 식별자
+
+    public TwoLevelCache(CaffeineCache local, Cache remote, StringRedisTemplate redisTemplate,
+                         String evictChannel, String nodeId) {
+        this.local = local;
+        this.remote = remote;
+        this.redisTemplate = redisTemplate;
+        this.evictChannel = evictChannel;
+        this.nodeId = nodeId;
+    }
+
+    public CaffeineCache getLocal() {
+        return local;
+    }
+
+    @Override
+    public String getName() {
+        return local.getName();
+    }
+
+    @Override
+    public Object getNativeCache() {
+        return local.getNativeCache();
+    }
+
+    @Override
+    public ValueWrapper get(Object key) {
+        ValueWrapper value = local.get(key);
+        if (value != null) {
+            return value;
+        }
+        value = remote.get(key);
+        if (value != null) {
+            local.put(key, value.get());
+        }
+        return value;
+    }
+
+    @Override
+    public <T> T get(Object key, Class<T> type) {
+        ValueWrapper value = get(key);
+        if (value == null) {
+            return null;
+        }
+        Object stored = value.get();
+        if (stored != null && type != null && !type.isInstance(stored)) {
+            throw new IllegalStateException("캐시 값의 타입이 올바르지 않습니다: " + stored.getClass().getName());
+        }
+        return type != null ? type.cast(stored) : null;
+    }
+
+    @Override
+    @SuppressWarnings("unchecked")
+    public <T> T get(Object key, Callable<T> valueLoader) {
+        // 로컬 캐시의 키 단위 잠금을 이용해 같은 키의 동시 로딩은 한 번만 일어난다.
+        return (T) local.get(key, () -> {
+            ValueWrapper value = remote.get(key);
+            if (value != null) {
+                return value.get();
+            }
+            T loaded = valueLoader.call();
+            remote.put(key, loaded);
+            return loaded;
+        });
+    }
+
+    @Override
+    public void put(Object key, Object value) {
+        remote.put(key, value);
+        local.put(key, value);
+        publishEviction(key);
+    }
+
+    @Override
+    public void evict(Object key) {
+        remote.evict(key);
+        local.evict(key);
+        publishEviction(key);
+    }
+
+    @Override
+    public void clear() {
+        remote.clear();
+        local.clear();
+        publishEviction(null);
+    }
+
+    // 다른 서버에서 보낸 삭제 알림 처리 (로컬 캐시만 지움)
+    // 메시지 형식: "서버ID|캐시이름|키" (전체 삭제면 키 자리에 "*")
+    void onEvictionMessage(String message) {
+        String[] parts = message.split("\\|", 3);
+        if (parts.length != 3 || nodeId.equals(parts[0]) || !getName().equals(parts[1])) {
+            return;
+        }
+        if ("*".equals(parts[2])) {
+            local.clear();
+            return;
+        }
+        // 게시글 캐시의 키는 Long 이므로 숫자면 Long으로 바꿔서 지운다.
+        local.evict(!parts[2].isEmpty() && parts[2].chars().allMatch(Character::isDigit) ? (Object) Long.valueOf(parts[2]) : parts[2]);
+    }
+
+    private void publishEviction(Object key) {
+        redisTemplate.convertAndSend(evictChannel, nodeId + "|" + getName() + "|" + (key != null ? key : "*"));
+    }
+}
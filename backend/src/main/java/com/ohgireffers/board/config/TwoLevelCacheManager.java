@@ -0,0 +1,59 @@
+package com.ohgireffers.board.config;
+
+import org.springframework.cache.Cache;
+import org.springframework.cache.CacheManager;
+import org.springframework.cache.caffeine.CaffeineCache;
+import org.springframework.cache.caffeine.CaffeineCacheManager;
+import org.springframework.data.redis.cache.RedisCacheManager;
+import org.springframework.data.redis.core.StringRedisTemplate;
+
+import java.util.Collection;
+import java.util.Map;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
+
+// 로컬 캐시 매니저와 Redis 캐시 매니저를 묶어 TwoLevelCache를 만들어 주는 캐시 매니저
+public class TwoLevelCacheManager implements CacheManager {
+
+    private final CaffeineCacheManager localCacheManager;
+    private final RedisCacheManager remoteCacheManager;
+    private final StringRedisTemplate redisTemplate;
+    private final String evictChannel;
+    private final String nodeId = UUID.randomUUID().toString();
+    private final Map<String, TwoLevelCache> caches = new ConcurrentHashMap<>();
+
+    public TwoLevelCacheManager(CaffeineCacheManager localCacheManager, RedisCacheManager remoteCacheManager,
+                                StringRedisTemplate redisTemplate, String evictChannel) {
+        this.localCacheManager = localCacheManager;
+        this.remoteCacheManager = remoteCacheManager;
+        this.redisTemplate = redisTemplate;
+        this.evictChannel = evictChannel;
+    }
+
+    @Override
+    public Cache getCache(String name) {
+        return caches.computeIfAbsent(name, cacheName -> {
+            CaffeineCache local = (CaffeineCache) localCacheManager.getCache(cacheName);
+            Cache remote = remoteCacheManager.getCache(cacheName);
+            if (local == null || remote == null) {
+                return null;
+            }
+            return new TwoLevelCache(local, remote, redisTemplate, evictChannel, nodeId);
+        });
+    }
+
+    @Override
+    public Collection<String> getCacheNames() {
+        return localCacheManager.getCacheNames();
+    }
+
+    // Redis 채널로 받은 삭제 알림을 해당 캐시에 전달
+    public void onEvictionMessage(String message) {
+        for (String cacheName : getCacheNames()) {
+            Cache cache = getCache(cacheName);
+            if (cache instanceof TwoLevelCache twoLevelCache) {
+                twoLevelCache.onEvictionMessage(message);
+            }
+        }
+    }
+}
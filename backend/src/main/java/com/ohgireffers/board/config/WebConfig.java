@@ -1,7 +1,9 @@
 package com.ohgireffers.board.config;
 
+import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.context.annotation.Configuration;
 import org.springframework.web.servlet.config.annotation.CorsRegistry;
+import org.springframework.web.servlet.config.annotation.InterceptorRegistry;
 import org.springframework.web.servlet.config.annotation.WebMvcConfigurer;
 
 
@@ -10,8 +12,21 @@ import org.springframework.web.servlet.config.annotation.WebMvcConfigurer;
 public class WebConfig implements WebMvcConfigurer {
     // 애플리케이션의 다양한 측면을 설정하고 사용자 정의할 수 있도록 콜백 메서드를 제공하는 인터페이스
 
+    public static final String REACTIVE_PROFILE = "reactive";
+    // 읽기 전용 리액티브 스택 프로필 (src/reactive, 이 프로필에서는 서블릿 컨트롤러를 등록하지 않음)
 
+    private final RequestMetricsInterceptor requestMetricsInterceptor;
 
+    @Autowired
+    public WebConfig(RequestMetricsInterceptor requestMetricsInterceptor) {
+        this.requestMetricsInterceptor = requestMetricsInterceptor;
+    }
+
+    @Override
+    public void addInterceptors(InterceptorRegistry registry) {
+        // 컨트롤러 메서드별 응답 시간, SQL 문 수 기록
+        registry.addInterceptor(requestMetricsInterceptor);
+    }
 
     @Override
     public void addCorsMappings(CorsRegistry registry) {
@@ -25,6 +40,8 @@ public class WebConfig implements WebMvcConfigurer {
                 .allowedMethods("GET", "POST", "PUT", "DELETE", "PATCH", "OPTIONS")
                 //허용할 http 메서드 자정 모든 메서드를 허용해줌
                 .allowedHeaders("*")
+                .exposedHeaders("ETag", SqlCountHeaderAdvice.HEADER)
+                // 브라우저에서 ETag 헤더를 읽어 If-None-Match로 다시 보낼 수 있도록 노출 (개발용 SQL 문 수 헤더도 함께)
                 .allowCredentials(true)
                 //쿠키 인증정보 포함 허용
                 .maxAge(3600);
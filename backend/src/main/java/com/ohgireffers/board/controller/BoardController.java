@@ -1,36 +1,76 @@
 package com.ohgireffers.board.controller;
 
+import com.ohgireffers.board.config.WebConfig;
+import com.ohgireffers.board.exception.NotFoundException;
+import com.ohgireffers.board.exception.VersionMismatchException;
+import com.ohgireffers.board.model.dto.BoardImportResultDTO;
 import com.ohgireffers.board.model.dto.BoardRequsetDTO;
 import com.ohgireffers.board.model.dto.BoardResponseDTO;
+import com.ohgireffers.board.model.dto.BoardSearchHitDTO;
+import com.ohgireffers.board.model.dto.BoardSummaryDTO;
+import com.ohgireffers.board.model.dto.BoardTrendingDTO;
+import com.ohgireffers.board.model.dto.SliceResponseDTO;
 import com.ohgireffers.board.model.entity.Board;
+import com.ohgireffers.board.service.BoardBulkImporter;
+import com.ohgireffers.board.service.BoardExporter;
 import com.ohgireffers.board.service.BoardService;
+import com.ohgireffers.board.service.BoardViewCounter;
+import jakarta.servlet.http.HttpServletRequest;
 import jakarta.validation.Valid;
 import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.annotation.Profile;
+import org.springframework.dao.OptimisticLockingFailureException;
 import org.springframework.data.domain.Page;
+import org.springframework.http.ContentDisposition;
+import org.springframework.http.HttpHeaders;
 import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
 import org.springframework.validation.BindingResult;
 import org.springframework.web.bind.annotation.*;
+import org.springframework.web.context.request.WebRequest;
+import org.springframework.web.context.request.async.AsyncWebRequest;
+import org.springframework.web.context.request.async.WebAsyncUtils;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
 
+import java.io.InputStreamReader;
+import java.io.Reader;
+import java.nio.charset.StandardCharsets;
 import java.util.List;
 import java.util.stream.Collectors;
 
 // 게시글 관련 REST API 컨트롤러
 // Bean Validation을 통한 요청 데이터 유효성 검사 포함
+// reactive 프로필에서는 등록되지 않음 (조회 API는 리액티브 컨트롤러가 처리)
 @RestController
 @RequestMapping("/board")
+@Profile("!" + WebConfig.REACTIVE_PROFILE)
 public class BoardController {
 
     private BoardService boardService;
+    private BoardBulkImporter boardBulkImporter;
+    private BoardExporter boardExporter;
+    private BoardViewCounter boardViewCounter;
+    private long exportTimeoutMs;
+    // 게시글 내보내기 응답 제한 시간 (다른 비동기 요청의 제한 시간과 별개)
 
     @Autowired
-    public BoardController(BoardService boardService) {
+    public BoardController(BoardService boardService, BoardBulkImporter boardBulkImporter,
+                           BoardExporter boardExporter, BoardViewCounter boardViewCounter,
+                           @Value("${board.export.timeout-ms:1800000}") long exportTimeoutMs) {
         this.boardService = boardService;
+        this.boardBulkImporter = boardBulkImporter;
+        this.boardExporter = boardExporter;
+        this.boardViewCounter = boardViewCounter;
+        this.exportTimeoutMs = exportTimeoutMs;
     }
 
     // 단일 조회 - ID를 이용해서 조회
+    // 게시글 버전으로 ETag를 만들어 If-None-Match가 같으면 본문 없이 304를 응답한다.
+    // 조회수는 304 응답도 조회로 세며, 계속 바뀌는 값이라 ETag 계산에는 포함하지 않는다.
     @GetMapping("/{id}")
-    public ResponseEntity<?> findboardbyid(@PathVariable Long id) {
+    public ResponseEntity<?> findboardbyid(@PathVariable Long id, WebRequest webRequest) {
         // Path Variable 유효성 검사
         if (id == null || id <= 0) {
             return new ResponseEntity<>("올바른 게시글 ID를 입력해주세요.", HttpStatus.BAD_REQUEST);
@@ -38,7 +78,13 @@ public class BoardController {
 
         try {
             BoardResponseDTO board = boardService.getBoard(id);
-            return new ResponseEntity<>(board, HttpStatus.OK);
+            boardViewCounter.increment(id);
+            String etag = ETags.board(board.getId(), board.getVersion());
+            if (webRequest.checkNotModified(etag)) {
+                return ResponseEntity.status(HttpStatus.NOT_MODIFIED).eTag(etag).build();
+            }
+            // 캐시된 게시글에 아직 DB에 반영되지 않은 조회수를 더해서 응답
+            return ResponseEntity.ok().eTag(etag).body(boardViewCounter.withPendingViews(board));
         } catch (IllegalArgumentException e) {
             return new ResponseEntity<>(e.getMessage(), HttpStatus.NOT_FOUND);
         } catch (Exception e) {
@@ -68,11 +114,58 @@ public class BoardController {
         }
     }
 
+    // 게시글 일괄 등록 (NDJSON : 한 줄에 게시글 하나, 등록 요청과 같은 형식)
+    // 본문을 한꺼번에 읽지 않고 한 줄씩 읽으면서 배치로 저장하므로 큰 파일도 메모리를 많이 쓰지 않는다.
+    // 일부 줄이 실패해도 나머지는 저장되고, 실패한 줄 번호와 이유를 응답한다.
+    @PostMapping(value = "/import", consumes = {"application/x-ndjson", MediaType.TEXT_PLAIN_VALUE})
+    public ResponseEntity<?> importBoards(HttpServletRequest request) {
+        try (Reader reader = new InputStreamReader(request.getInputStream(), StandardCharsets.UTF_8)) {
+            BoardImportResultDTO result = boardBulkImporter.importBoards(reader);
+            return new ResponseEntity<>(result, HttpStatus.OK);
+        } catch (Exception e) {
+            return new ResponseEntity<>("게시글 일괄 등록 중 오류가 발생했습니다.", HttpStatus.INTERNAL_SERVER_ERROR);
+        }
+    }
+
+    // 게시글 전체 내보내기 (format : ndjson 또는 csv)
+    // 응답을 만들어 두지 않고 DB에서 읽는 대로 바로 전송하므로 게시글 수와 상관없이 메모리 사용량이 일정하다.
+    // (본문 타입이 StreamingResponseBody 여야 스트리밍으로 처리되므로 오류 메시지도 같은 타입으로 응답)
+    @GetMapping("/export")
+    public ResponseEntity<StreamingResponseBody> exportBoards(@RequestParam(defaultValue = "ndjson") String format,
+                                                              HttpServletRequest request) {
+        BoardExporter.Format exportFormat;
+        try {
+            exportFormat = BoardExporter.Format.from(format);
+        } catch (IllegalArgumentException e) {
+            byte[] message = e.getMessage().getBytes(StandardCharsets.UTF_8);
+            return ResponseEntity.badRequest()
+                    .contentType(new MediaType(MediaType.TEXT_PLAIN, StandardCharsets.UTF_8))
+                    .body(outputStream -> outputStream.write(message));
+        }
+
+        // 응답 본문은 컨트롤러가 반환된 뒤 별도 스레드에서 작성됨
+        // 게시글이 많으면 오래 걸리므로 이 요청의 비동기 처리 제한 시간만 늘림
+        AsyncWebRequest asyncWebRequest = WebAsyncUtils.getAsyncManager(request).getAsyncWebRequest();
+        if (asyncWebRequest != null) {
+            asyncWebRequest.setTimeout(exportTimeoutMs);
+        }
+        StreamingResponseBody body = outputStream -> boardExporter.export(exportFormat, outputStream);
+        return ResponseEntity.ok()
+                .contentType(MediaType.parseMediaType(exportFormat.getContentType() + ";charset=UTF-8"))
+                .header(HttpHeaders.CONTENT_DISPOSITION, ContentDisposition.attachment()
+                        .filename("boards." + exportFormat.getExtension()).build().toString())
+                .body(body);
+    }
+
     // 게시글 수정
+    // If-Match 헤더(조회한 게시글 version으로 만든 강한 ETag)를 보내면 그 사이 다른 사람이 수정한 경우 412를 응답한다.
+    // (조회 응답의 약한 ETag W/"..."는 강한 비교에서 일치하지 않으므로 412)
+    // (If-Match 없이 저장하는 순간 다른 수정과 겹친 경우는 409)
     @PutMapping("/{id}")
     public ResponseEntity<?> updateBoard(@PathVariable Long id, 
                                         @Valid @RequestBody BoardRequsetDTO boardRequsetDTO,
-                                        BindingResult bindingResult) {
+                                        BindingResult bindingResult,
+                                        @RequestHeader(value = HttpHeaders.IF_MATCH, required = false) String ifMatch) {
         // Path Variable 유효성 검사
         if (id == null || id <= 0) {
             return new ResponseEntity<>("올바른 게시글 ID를 입력해주세요.", HttpStatus.BAD_REQUEST);
@@ -87,11 +180,18 @@ public class BoardController {
         }
 
         try {
-            Board board = boardService.updateboard(id, boardRequsetDTO);
+            Long expectedVersion = ETags.boardVersion(ifMatch, id);
+            Board board = boardService.updateboard(id, boardRequsetDTO, expectedVersion);
             if (board == null) {
                 return new ResponseEntity<>("수정할 게시글을 찾을 수 없습니다.", HttpStatus.NOT_FOUND);
             }
-            return new ResponseEntity<>(board, HttpStatus.OK);
+            return ResponseEntity.ok().eTag(ETags.board(board.getId(), board.getVersion())).body(board);
+        } catch (VersionMismatchException e) {
+            return new ResponseEntity<>("게시글이 그 사이 수정되었습니다. 새로고침 후 다시 시도해주세요.", HttpStatus.PRECONDITION_FAILED);
+        } catch (OptimisticLockingFailureException e) {
+            return new ResponseEntity<>("다른 사용자가 먼저 게시글을 수정했습니다. 새로고침 후 다시 시도해주세요.", HttpStatus.CONFLICT);
+        } catch (NotFoundException e) {
+            return new ResponseEntity<>(e.getMessage(), HttpStatus.NOT_FOUND);
         } catch (IllegalArgumentException e) {
             return new ResponseEntity<>(e.getMessage(), HttpStatus.BAD_REQUEST);
         } catch (Exception e) {
@@ -110,9 +210,12 @@ public class BoardController {
         try {
             boolean deleted = boardService.deleteboard(id);
             if (!deleted) {
-                return new ResponseEntity<>("삭제할 게시글을 찾을 수 없습니다.", HttpStatus.NOT_FOUND);
+                // 댓글이 많아 백그라운드에서 삭제 중
+                return new ResponseEntity<>("댓글이 많아 게시글 삭제가 진행 중입니다.", HttpStatus.ACCEPTED);
             }
             return new ResponseEntity<>("게시글이 성공적으로 삭제되었습니다.", HttpStatus.OK);
+        } catch (NotFoundException e) {
+            return new ResponseEntity<>(e.getMessage(), HttpStatus.NOT_FOUND);
         } catch (IllegalArgumentException e) {
             return new ResponseEntity<>(e.getMessage(), HttpStatus.BAD_REQUEST);
         } catch (Exception e) {
@@ -138,12 +241,76 @@ public class BoardController {
             // page는 페이지번호 (0부터 시작)
             // size는 한 페이지당 몇개의 데이터를 보여줄지 정하는 것
             // defaultValue는 값이 없다면 자동으로 해당 값을 넣어서 넘김
-            Page<Board> boardPage = boardService.getboardWithPaging(page, size);
+            // 목록은 본문 전체 대신 요약 DTO(미리보기, 댓글 수 포함)로 바로 조회된다.
+            Page<BoardSummaryDTO> summaryPage = boardService.getboardWithPaging(page, size);
 
-            // Board 엔티티를 BoardResponseDTO로 변환
-            Page<BoardResponseDTO> dtoPage = boardPage.map(BoardResponseDTO::new);
+            return ResponseEntity.ok(summaryPage);
+        } catch (Exception e) {
+            return new ResponseEntity<>("게시글 목록 조회 중 오류가 발생했습니다.", HttpStatus.INTERNAL_SERVER_ERROR);
+        }
+    }
+
+    // 게시글 검색 (제목/본문, 관련도 순)
+    @GetMapping("/search")
+    public ResponseEntity<?> searchBoards(
+            @RequestParam String q,
+            @RequestParam(defaultValue = "0") int page,
+            @RequestParam(defaultValue = "10") int size) {
 
-            return ResponseEntity.ok(dtoPage);
+        // 페이징 파라미터 유효성 검사
+        if (page < 0) {
+            return new ResponseEntity<>("페이지 번호는 0 이상이어야 합니다.", HttpStatus.BAD_REQUEST);
+        }
+        if (size <= 0 || size > 100) {
+            return new ResponseEntity<>("페이지 크기는 1 이상 100 이하여야 합니다.", HttpStatus.BAD_REQUEST);
+        }
+
+        try {
+            Page<BoardSearchHitDTO> hits = boardService.searchBoards(q, page, size);
+            return ResponseEntity.ok(hits);
+        } catch (IllegalArgumentException e) {
+            return new ResponseEntity<>(e.getMessage(), HttpStatus.BAD_REQUEST);
+        } catch (Exception e) {
+            return new ResponseEntity<>("게시글 검색 중 오류가 발생했습니다.", HttpStatus.INTERNAL_SERVER_ERROR);
+        }
+    }
+
+    // 인기 게시글 조회 (최근 조회수/댓글 작성이 많은 순)
+    @GetMapping("/trending")
+    public ResponseEntity<?> getTrendingBoards(@RequestParam(defaultValue = "10") int size) {
+        // 조회 개수 유효성 검사
+        if (size <= 0 || size > 100) {
+            return new ResponseEntity<>("조회 개수는 1 이상 100 이하여야 합니다.", HttpStatus.BAD_REQUEST);
+        }
+
+        try {
+            List<BoardTrendingDTO> boards = boardService.getTrendingBoards(size);
+            return ResponseEntity.ok(boards);
+        } catch (IllegalArgumentException e) {
+            return new ResponseEntity<>(e.getMessage(), HttpStatus.BAD_REQUEST);
+        } catch (Exception e) {
+            return new ResponseEntity<>("인기 게시글 조회 중 오류가 발생했습니다.", HttpStatus.INTERNAL_SERVER_ERROR);
+        }
+    }
+
+    // 커서(키셋) 기반 게시글 목록 조회
+    // after 파라미터가 있을 때만 이 메서드로 매핑된다. (after= 처럼 값이 비어있으면 첫 페이지)
+    // 기존 page 번호 방식은 getpages에서 그대로 지원
+    @GetMapping(value = "/", params = "after")
+    public ResponseEntity<?> getpagesByCursor(
+            @RequestParam String after,
+            @RequestParam(defaultValue = "10") int size) {
+
+        // 페이징 파라미터 유효성 검사
+        if (size <= 0 || size > 100) {
+            return new ResponseEntity<>("페이지 크기는 1 이상 100 이하여야 합니다.", HttpStatus.BAD_REQUEST);
+        }
+
+        try {
+            SliceResponseDTO<BoardSummaryDTO> slice = boardService.getboardWithCursor(after, size);
+            return ResponseEntity.ok(slice);
+        } catch (IllegalArgumentException e) {
+            return new ResponseEntity<>(e.getMessage(), HttpStatus.BAD_REQUEST);
         } catch (Exception e) {
             return new ResponseEntity<>("게시글 목록 조회 중 오류가 발생했습니다.", HttpStatus.INTERNAL_SERVER_ERROR);
         }
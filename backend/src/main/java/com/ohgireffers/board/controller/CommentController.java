@@ -1,29 +1,45 @@
 package com.ohgireffers.board.controller;
 
+import com.ohgireffers.board.config.WebConfig;
+import com.ohgireffers.board.exception.NotFoundException;
+import com.ohgireffers.board.exception.VersionMismatchException;
 import com.ohgireffers.board.model.dto.CommentRequestDTO;
 import com.ohgireffers.board.model.dto.CommentResponseDTO;
+import com.ohgireffers.board.model.dto.SliceResponseDTO;
 import com.ohgireffers.board.service.CommentService;
+import com.ohgireffers.board.service.CommentStreamHub;
 import jakarta.validation.Valid;
 import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.context.annotation.Profile;
+import org.springframework.dao.OptimisticLockingFailureException;
+import org.springframework.http.HttpHeaders;
 import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
 import org.springframework.validation.BindingResult;
 import org.springframework.web.bind.annotation.*;
+import org.springframework.web.context.request.WebRequest;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
 
+import java.io.IOException;
 import java.util.List;
 import java.util.stream.Collectors;
 
 // 댓글 관련 REST API 컨트롤러
 // Bean Validation을 통한 요청 데이터 유효성 검사 포함
+// reactive 프로필에서는 등록되지 않음 (조회 API는 리액티브 컨트롤러가 처리)
 @RestController
 @RequestMapping("/api/comments")
+@Profile("!" + WebConfig.REACTIVE_PROFILE)
 public class CommentController {
 
     private final CommentService commentService;
+    private final CommentStreamHub commentStreamHub;
 
     @Autowired
-    public CommentController(CommentService commentService) {
+    public CommentController(CommentService commentService, CommentStreamHub commentStreamHub) {
         this.commentService = commentService;
+        this.commentStreamHub = commentStreamHub;
     }
 
     // 댓글 생성 (일반 댓글 및 대댓글)
@@ -56,16 +72,84 @@ public class CommentController {
     }
 
     // 특정 게시글의 모든 댓글 조회
+    // 댓글 스레드 버전으로 ETag를 만들고, If-None-Match가 같으면 댓글을 조회하지 않고 바로 304를 응답한다.
     @GetMapping("/board/{boardId}")
-    public ResponseEntity<?> getCommentsByBoardId(@PathVariable Long boardId) {
+    public ResponseEntity<?> getCommentsByBoardId(@PathVariable Long boardId, WebRequest webRequest) {
         // 간단한 유효성 검사
         if (boardId == null || boardId <= 0) {
             return new ResponseEntity<>("올바른 게시글 ID를 입력해주세요.", HttpStatus.BAD_REQUEST);
         }
 
         try {
+            Long threadVersion = commentService.getCommentThreadVersion(boardId);
+            String etag = ETags.comments(boardId, threadVersion);
+            if (webRequest.checkNotModified(etag)) {
+                return ResponseEntity.status(HttpStatus.NOT_MODIFIED).eTag(etag).build();
+            }
+
             List<CommentResponseDTO> comments = commentService.getCommentsByBoardId(boardId);
             //특정 게시글의 댓글을 조회하는 service에 해당 게시글 id를 보냄
+            return ResponseEntity.ok().eTag(etag).body(comments);
+        } catch (IllegalArgumentException e) {
+            return new ResponseEntity<>(e.getMessage(), HttpStatus.BAD_REQUEST);
+        } catch (Exception e) {
+            return new ResponseEntity<>("댓글 조회 중 오류가 발생했습니다.", HttpStatus.INTERNAL_SERVER_ERROR);
+        }
+    }
+
+    // 특정 게시글의 댓글 변경을 실시간으로 받음 (Server-Sent Events)
+    // 커밋된 댓글 작성/수정/삭제가 created/updated/deleted 이벤트(데이터는 댓글 JSON)로 전달된다.
+    // 연결 직후에는 댓글 목록(GET /board/{boardId})을 한 번 조회하고 이후 변경만 반영하면 된다.
+    // 지나간 이벤트는 다시 보내지 않으므로 다시 연결했다면 댓글 목록을 ETag로 다시 조회한다.
+    // (본문 타입이 SseEmitter 여야 스트리밍으로 처리되므로 오류 메시지도 error 이벤트로 응답)
+    @GetMapping(value = "/board/{boardId}/stream", produces = MediaType.TEXT_EVENT_STREAM_VALUE)
+    public ResponseEntity<SseEmitter> streamComments(@PathVariable Long boardId) {
+        // 간단한 유효성 검사
+        if (boardId == null || boardId <= 0) {
+            return streamError(HttpStatus.BAD_REQUEST, "올바른 게시글 ID를 입력해주세요.");
+        }
+
+        try {
+            commentService.checkBoardExists(boardId);
+            return ResponseEntity.ok().body(commentStreamHub.subscribe(boardId));
+        } catch (IllegalArgumentException e) {
+            return streamError(HttpStatus.NOT_FOUND, e.getMessage());
+        } catch (IllegalStateException e) {
+            return streamError(HttpStatus.SERVICE_UNAVAILABLE, e.getMessage());
+        } catch (Exception e) {
+            return streamError(HttpStatus.INTERNAL_SERVER_ERROR, "실시간 댓글 연결 중 오류가 발생했습니다.");
+        }
+    }
+
+    // 오류 메시지 하나만 보내고 끝나는 SSE 응답
+    private ResponseEntity<SseEmitter> streamError(HttpStatus status, String message) {
+        SseEmitter emitter = new SseEmitter();
+        try {
+            emitter.send(SseEmitter.event().name("error").data(message));
+        } catch (IOException e) {
+            // 응답 전이므로 전송 내용은 연결될 때까지 보관됨 (발생하지 않음)
+        }
+        emitter.complete();
+        return ResponseEntity.status(status).body(emitter);
+    }
+
+    // 특정 게시글의 최상위 댓글만 커서 페이징으로 조회
+    // after 파라미터가 있을 때만 이 메서드로 매핑된다. (after= 처럼 값이 비어있으면 첫 페이지)
+    // 각 댓글의 대댓글은 replyCount만 내려주고, 실제 대댓글은 /{commentId}/replies 로 따로 조회
+    @GetMapping(value = "/board/{boardId}", params = "after")
+    public ResponseEntity<?> getRootCommentsByBoardId(@PathVariable Long boardId,
+                                                      @RequestParam String after,
+                                                      @RequestParam(defaultValue = "20") int size) {
+        // 간단한 유효성 검사
+        if (boardId == null || boardId <= 0) {
+            return new ResponseEntity<>("올바른 게시글 ID를 입력해주세요.", HttpStatus.BAD_REQUEST);
+        }
+        if (size <= 0 || size > 100) {
+            return new ResponseEntity<>("페이지 크기는 1 이상 100 이하여야 합니다.", HttpStatus.BAD_REQUEST);
+        }
+
+        try {
+            SliceResponseDTO<CommentResponseDTO> comments = commentService.getRootComments(boardId, after, size);
             return new ResponseEntity<>(comments, HttpStatus.OK);
         } catch (IllegalArgumentException e) {
             return new ResponseEntity<>(e.getMessage(), HttpStatus.BAD_REQUEST);
@@ -74,11 +158,55 @@ public class CommentController {
         }
     }
 
+    // 특정 댓글과 그 아래 모든 대댓글 조회 (계층구조)
+    @GetMapping("/{commentId}/thread")
+    public ResponseEntity<?> getCommentThread(@PathVariable Long commentId) {
+        // 간단한 유효성 검사
+        if (commentId == null || commentId <= 0) {
+            return new ResponseEntity<>("올바른 댓글 ID를 입력해주세요.", HttpStatus.BAD_REQUEST);
+        }
+
+        try {
+            List<CommentResponseDTO> thread = commentService.getCommentThread(commentId);
+            return new ResponseEntity<>(thread, HttpStatus.OK);
+        } catch (IllegalArgumentException e) {
+            return new ResponseEntity<>(e.getMessage(), HttpStatus.NOT_FOUND);
+        } catch (Exception e) {
+            return new ResponseEntity<>("댓글 조회 중 오류가 발생했습니다.", HttpStatus.INTERNAL_SERVER_ERROR);
+        }
+    }
+
+    // 특정 댓글의 대댓글을 커서 페이징으로 조회 (바로 아래 단계만)
+    @GetMapping("/{commentId}/replies")
+    public ResponseEntity<?> getReplies(@PathVariable Long commentId,
+                                        @RequestParam(required = false) String after,
+                                        @RequestParam(defaultValue = "20") int size) {
+        // 간단한 유효성 검사
+        if (commentId == null || commentId <= 0) {
+            return new ResponseEntity<>("올바른 부모 댓글 ID를 입력해주세요.", HttpStatus.BAD_REQUEST);
+        }
+        if (size <= 0 || size > 100) {
+            return new ResponseEntity<>("페이지 크기는 1 이상 100 이하여야 합니다.", HttpStatus.BAD_REQUEST);
+        }
+
+        try {
+            SliceResponseDTO<CommentResponseDTO> replies = commentService.getReplies(commentId, after, size);
+            return new ResponseEntity<>(replies, HttpStatus.OK);
+        } catch (IllegalArgumentException e) {
+            return new ResponseEntity<>(e.getMessage(), HttpStatus.BAD_REQUEST);
+        } catch (Exception e) {
+            return new ResponseEntity<>("대댓글 조회 중 오류가 발생했습니다.", HttpStatus.INTERNAL_SERVER_ERROR);
+        }
+    }
+
     // 댓글 수정
+    // If-Match 헤더(댓글 ETag)를 보내면 그 사이 다른 사람이 수정한 경우 412를 응답한다.
+    // (If-Match 없이 저장하는 순간 다른 수정과 겹친 경우는 409)
     @PutMapping("/{commentId}")
     public ResponseEntity<?> updateComment(@PathVariable Long commentId, 
                                           @Valid @RequestBody CommentRequestDTO requestDTO,
-                                          BindingResult bindingResult) {
+                                          BindingResult bindingResult,
+                                          @RequestHeader(value = HttpHeaders.IF_MATCH, required = false) String ifMatch) {
         // Path Variable 유효성 검사
         if (commentId == null || commentId <= 0) {
             return new ResponseEntity<>("올바른 댓글 ID를 입력해주세요.", HttpStatus.BAD_REQUEST);
@@ -93,8 +221,15 @@ public class CommentController {
         }
 
         try {
-            CommentResponseDTO responseDTO = commentService.updateComment(commentId, requestDTO);
-            return new ResponseEntity<>(responseDTO, HttpStatus.OK);
+            Long expectedVersion = ETags.commentVersion(ifMatch, commentId);
+            CommentResponseDTO responseDTO = commentService.updateComment(commentId, requestDTO, expectedVersion);
+            return ResponseEntity.ok().eTag(ETags.comment(responseDTO.getId(), responseDTO.getVersion())).body(responseDTO);
+        } catch (VersionMismatchException e) {
+            return new ResponseEntity<>("댓글이 그 사이 수정되었습니다. 새로고침 후 다시 시도해주세요.", HttpStatus.PRECONDITION_FAILED);
+        } catch (OptimisticLockingFailureException e) {
+            return new ResponseEntity<>("다른 사용자가 먼저 댓글을 수정했습니다. 새로고침 후 다시 시도해주세요.", HttpStatus.CONFLICT);
+        } catch (NotFoundException e) {
+            return new ResponseEntity<>(e.getMessage(), HttpStatus.NOT_FOUND);
         } catch (IllegalArgumentException e) {
             return new ResponseEntity<>(e.getMessage(), HttpStatus.BAD_REQUEST);
         } catch (Exception e) {
@@ -113,6 +248,8 @@ public class CommentController {
         try {
             commentService.deleteComment(commentId);
             return new ResponseEntity<>("댓글이 성공적으로 삭제되었습니다.", HttpStatus.OK);
+        } catch (NotFoundException e) {
+            return new ResponseEntity<>(e.getMessage(), HttpStatus.NOT_FOUND);
         } catch (IllegalArgumentException e) {
             return new ResponseEntity<>(e.getMessage(), HttpStatus.BAD_REQUEST);
         } catch (Exception e) {
@@ -0,0 +1,69 @@
+package com.ohgireffers.board.controller;
+
+import com.ohgireffers.board.exception.VersionMismatchException;
+import com.ohgireffers.board.model.entity.Board;
+import com.ohgireffers.board.model.entity.Comment;
+
+// 게시글/댓글 응답의 ETag 생성과 If-Match 헤더 해석 (서블릿, 리액티브 컨트롤러 공통)
+// ETag는 "종류-ID-v버전" 형식이며, If-Match에서 같은 형식의 버전을 꺼내 낙관적 잠금에 사용한다.
+// 게시글 응답에는 버전이 바뀌지 않아도 늘어나는 조회수가 들어 있으므로 약한(W/) ETag를 사용한다.
+// If-Match는 강한 비교(RFC 9110)만 허용하므로 약한 ETag는 어떤 버전과도 일치하지 않는 것으로 보고 412로 거절한다.
+// (게시글 수정시에는 응답 본문의 version으로 만든 강한 ETag "board-{id}-v{version}"를 보낸다)
+final class ETags {
+
+    private ETags() {
+    }
+
+    // 게시글 ETag (게시글 ID + 버전, 조회수는 제외한 의미상 같은 내용이라는 뜻의 약한 ETag)
+    static String board(Long id, Long version) {
+        return "W/\"" + boardPrefix(id) + version + "\"";
+    }
+
+    // 댓글 ETag (댓글 ID + 버전)
+    static String comment(Long id, Long version) {
+        return "\"" + commentPrefix(id) + version + "\"";
+    }
+
+    // 게시글 댓글 목록 ETag (게시글 ID + 댓글 스레드 버전)
+    static String comments(Long boardId, Long threadVersion) {
+        return "\"comments-" + boardId + "-v" + threadVersion + "\"";
+    }
+
+    // If-Match 헤더에서 게시글 버전 추출 (헤더가 없거나 * 이면 null)
+    static Long boardVersion(String ifMatch, Long id) {
+        return parseVersion(ifMatch, boardPrefix(id), Board.class, id);
+    }
+
+    // If-Match 헤더에서 댓글 버전 추출 (헤더가 없거나 * 이면 null)
+    static Long commentVersion(String ifMatch, Long id) {
+        return parseVersion(ifMatch, commentPrefix(id), Comment.class, id);
+    }
+
+    private static String boardPrefix(Long id) {
+        return "board-" + id + "-v";
+    }
+
+    private static String commentPrefix(Long id) {
+        return "comment-" + id + "-v";
+    }
+
+    // 약한 ETag면 VersionMismatchException (412), 형식이 다르거나 다른 게시글/댓글의 ETag면 IllegalArgumentException
+    private static Long parseVersion(String ifMatch, String tagPrefix, Class<?> entityClass, Long id) {
+        if (ifMatch == null || ifMatch.isBlank() || "*".equals(ifMatch.trim())) {
+            return null;
+        }
+        String tag = ifMatch.trim();
+        if (tag.startsWith("W/")) {
+            throw new VersionMismatchException(entityClass, id);
+        }
+        tag = tag.replace("\"", "");
+        if (!tag.startsWith(tagPrefix)) {
+            throw new IllegalArgumentException("If-Match 헤더가 올바르지 않습니다.");
+        }
+        try {
+            return Long.parseLong(tag.substring(tagPrefix.length()));
+        } catch (NumberFormatException e) {
+            throw new IllegalArgumentException("If-Match 헤더가 올바르지 않습니다.");
+        }
+    }
+}
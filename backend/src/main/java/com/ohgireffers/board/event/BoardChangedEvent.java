@@ -0,0 +1,54 @@
+package com.ohgireffers.board.event;
+
+import com.ohgireffers.board.model.dto.BoardSummaryDTO;
+
+// 게시글이 생성/수정/삭제되었을 때 발행되는 이벤트
+// 트랜잭션이 커밋된 뒤(@TransactionalEventListener AFTER_COMMIT)에 캐시 등을 갱신하는 데 사용한다.
+public class BoardChangedEvent {
+
+    public enum Type {
+        CREATED, UPDATED, DELETED
+    }
+
+    private final Type type;
+    private final Long boardId;
+    private final BoardSummaryDTO summary; // 변경 후 게시글 요약 (삭제면 null)
+
+    private BoardChangedEvent(Type type, Long boardId, BoardSummaryDTO summary) {
+        this.type = type;
+        this.boardId = boardId;
+        this.summary = summary;
+    }
+
+    public static BoardChangedEvent created(BoardSummaryDTO summary) {
+        return new BoardChangedEvent(Type.CREATED, summary.getId(), summary);
+    }
+
+    public static BoardChangedEvent updated(BoardSummaryDTO summary) {
+        return new BoardChangedEvent(Type.UPDATED, summary.getId(), summary);
+    }
+
+    public static BoardChangedEvent deleted(Long boardId) {
+        return new BoardChangedEvent(Type.DELETED, boardId, null);
+    }
+
+    public Type getType() {
+        return type;
+    }
+
+    public Long getBoardId() {
+        return boardId;
+    }
+
+    public BoardSummaryDTO getSummary() {
+        return summary;
+    }
+
+    @Override
+    public String toString() {
+        return "BoardChangedEvent{" +
+                "type=" + type +
+                ", boardId=" + boardId +
+                '}';
+    }
+}
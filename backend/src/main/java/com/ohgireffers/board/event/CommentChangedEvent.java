@@ -0,0 +1,55 @@
+package com.ohgireffers.board.event;
+
+import com.ohgireffers.board.model.dto.CommentResponseDTO;
+
+// 댓글이 작성/수정/삭제되었을 때 발행되는 이벤트
+// 트랜잭션이 커밋된 뒤(@TransactionalEventListener AFTER_COMMIT)에 실시간 댓글 스트림(CommentStreamHub)으로 전달한다.
+public class CommentChangedEvent {
+
+    public enum Type {
+        CREATED, UPDATED, DELETED
+    }
+
+    private final Type type;
+    private final Long boardId;
+    private final CommentResponseDTO comment; // 변경 후 댓글 (삭제면 삭제 직전 댓글, 대댓글은 함께 삭제됨)
+
+    private CommentChangedEvent(Type type, Long boardId, CommentResponseDTO comment) {
+        this.type = type;
+        this.boardId = boardId;
+        this.comment = comment;
+    }
+
+    public static CommentChangedEvent created(CommentResponseDTO comment) {
+        return new CommentChangedEvent(Type.CREATED, comment.getBoardId(), comment);
+    }
+
+    public static CommentChangedEvent updated(CommentResponseDTO comment) {
+        return new CommentChangedEvent(Type.UPDATED, comment.getBoardId(), comment);
+    }
+
+    public static CommentChangedEvent deleted(CommentResponseDTO comment) {
+        return new CommentChangedEvent(Type.DELETED, comment.getBoardId(), comment);
+    }
+
+    public Type getType() {
+        return type;
+    }
+
+    public Long getBoardId() {
+        return boardId;
+    }
+
+    public CommentResponseDTO getComment() {
+        return comment;
+    }
+
+    @Override
+    public String toString() {
+        return "CommentChangedEvent{" +
+                "type=" + type +
+                ", boardId=" + boardId +
+                ", commentId=" + (comment != null ? comment.getId() : null) +
+                '}';
+    }
+}
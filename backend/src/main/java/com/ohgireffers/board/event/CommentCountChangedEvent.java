@@ -0,0 +1,29 @@
+package com.ohgireffers.board.event;
+
+// 게시글의 댓글 수가 바뀌었을 때 발행되는 이벤트 (댓글 생성/삭제)
+public class CommentCountChangedEvent {
+
+    private final Long boardId;
+    private final long delta; // 증감량 (삭제면 음수)
+
+    public CommentCountChangedEvent(Long boardId, long delta) {
+        this.boardId = boardId;
+        this.delta = delta;
+    }
+
+    public Long getBoardId() {
+        return boardId;
+    }
+
+    public long getDelta() {
+        return delta;
+    }
+
+    @Override
+    public String toString() {
+        return "CommentCountChangedEvent{" +
+                "boardId=" + boardId +
+                ", delta=" + delta +
+                '}';
+    }
+}
@@ -0,0 +1,10 @@
+package com.ohgireffers.board.exception;
+
+// 요청한 게시글/댓글이 없을 때 발생 (컨트롤러에서 404로 응답)
+// 잘못된 요청 값과 같은 IllegalArgumentException 이므로 따로 처리하지 않는 곳에서는 기존처럼 400으로 응답된다.
+public class NotFoundException extends IllegalArgumentException {
+
+    public NotFoundException(String message) {
+        super(message);
+    }
+}
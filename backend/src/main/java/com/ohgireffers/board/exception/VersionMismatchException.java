@@ -0,0 +1,12 @@
+package com.ohgireffers.board.exception;
+
+import org.springframework.dao.OptimisticLockingFailureException;
+
+// 클라이언트가 보낸 버전(If-Match)이 현재 버전과 다를 때 발생 (컨트롤러에서 412로 응답)
+// 저장 시점에 다른 요청과 충돌한 경우(OptimisticLockingFailureException, 409)와 구분하기 위해 사용한다.
+public class VersionMismatchException extends OptimisticLockingFailureException {
+
+    public VersionMismatchException(Class<?> entityClass, Object id) {
+        super(entityClass.getSimpleName() + " " + id + "의 버전이 요청한 버전과 다릅니다.");
+    }
+}
@@ -0,0 +1,99 @@
+package com.ohgireffers.board.model.dto;
+
+import java.util.ArrayList;
+import java.util.List;
+
+// 게시글 일괄 등록 결과 DTO
+// 처리한 줄 수, 저장된 게시글 수, 실패한 줄과 실패 이유를 담는다.
+public class BoardImportResultDTO {
+
+    private long totalLines;     // 읽은 줄 수 (빈 줄 포함)
+    private long importedCount;  // 저장된 게시글 수
+    private long failedCount;    // 실패한 줄 수
+    private List<LineFailure> failures = new ArrayList<>(); // 실패한 줄 목록 (최대 개수까지만 담음)
+
+    // 기본 생성자
+    public BoardImportResultDTO() {}
+
+    public long getTotalLines() {
+        return totalLines;
+    }
+
+    public void setTotalLines(long totalLines) {
+        this.totalLines = totalLines;
+    }
+
+    public long getImportedCount() {
+        return importedCount;
+    }
+
+    public void setImportedCount(long importedCount) {
+        this.importedCount = importedCount;
+    }
+
+    public long getFailedCount() {
+        return failedCount;
+    }
+
+    public void setFailedCount(long failedCount) {
+        this.failedCount = failedCount;
+    }
+
+    public List<LineFailure> getFailures() {
+        return failures;
+    }
+
+    public void setFailures(List<LineFailure> failures) {
+        this.failures = failures;
+    }
+
+    @Override
+    public String toString() {
+        return "BoardImportResultDTO{" +
+                "totalLines=" + totalLines +
+                ", importedCount=" + importedCount +
+                ", failedCount=" + failedCount +
+                ", failures=" + failures +
+                '}';
+    }
+
+    // 실패한 줄 (줄 번호는 1부터 시작)
+    public static class LineFailure {
+
+        private long line;       // 줄 번호
+        private String message;  // 실패 이유
+
+        // 기본 생성자
+        public LineFailure() {}
+
+        // 전체 생성자
+        public LineFailure(long line, String message) {
+            this.line = line;
+            this.message = message;
+        }
+
+        public long getLine() {
+            return line;
+        }
+
+        public void setLine(long line) {
+            this.line = line;
+        }
+
+        public String getMessage() {
+            return message;
+        }
+
+        public void setMessage(String message) {
+            this.message = message;
+        }
+
+        @Override
+        public String toString() {
+            return "LineFailure{" +
+                    "line=" + line +
+                    ", message='" + message + '\'' +
+                    '}';
+        }
+    }
+}
@@ -13,6 +13,8 @@ public class BoardResponseDTO {
     private String content;    // 게시글 내용
     private LocalDate createAt;  // 생성일
     private LocalDate updatedAt; // 수정일
+    private Long version;        // 게시글 버전 (ETag 계산에 사용)
+    private long viewCount;      // 조회수 (아직 DB에 반영되지 않은 조회수 포함)
     
     // 기본 생성자
     public BoardResponseDTO() {}
@@ -25,6 +27,20 @@ public class BoardResponseDTO {
         this.content = board.getContent();
         this.createAt = board.getCreateAt();
         this.updatedAt = board.getUpdatedAt();
+        this.version = board.getVersion();
+        this.viewCount = board.getViewCount() != null ? board.getViewCount() : 0;
+    }
+
+    // 복사 생성자 (캐시에 저장된 DTO를 직접 수정하지 않고 복사본에 조회수를 더할 때 사용)
+    public BoardResponseDTO(BoardResponseDTO other) {
+        this.id = other.id;
+        this.title = other.title;
+        this.author = other.author;
+        this.content = other.content;
+        this.createAt = other.createAt;
+        this.updatedAt = other.updatedAt;
+        this.version = other.version;
+        this.viewCount = other.viewCount;
     }
 
     // Getter & Setter
@@ -76,6 +92,22 @@ public class BoardResponseDTO {
         this.updatedAt = updatedAt;
     }
 
+    public Long getVersion() {
+        return version;
+    }
+
+    public void setVersion(Long version) {
+        this.version = version;
+    }
+
+    public long getViewCount() {
+        return viewCount;
+    }
+
+    public void setViewCount(long viewCount) {
+        this.viewCount = viewCount;
+    }
+
     @Override
     public String toString() {
         return "BoardResponseDTO{" +
@@ -85,6 +117,8 @@ public class BoardResponseDTO {
                 ", content='" + content + '\'' +
                 ", createAt=" + createAt +
                 ", updatedAt=" + updatedAt +
+                ", version=" + version +
+                ", viewCount=" + viewCount +
                 '}';
     }
 }
@@ -0,0 +1,42 @@
+package com.ohgireffers.board.model.dto;
+
+// 게시글 검색 결과 DTO
+// 목록과 같은 게시글 요약에 검색 점수(관련도)를 함께 담는다.
+public class BoardSearchHitDTO {
+
+    private BoardSummaryDTO board; // 게시글 요약
+    private Float score;           // 검색 점수 (클수록 검색어와 관련이 높음)
+
+    // 기본 생성자
+    public BoardSearchHitDTO() {}
+
+    // 전체 생성자
+    public BoardSearchHitDTO(BoardSummaryDTO board, Float score) {
+        this.board = board;
+        this.score = score;
+    }
+
+    public BoardSummaryDTO getBoard() {
+        return board;
+    }
+
+    public void setBoard(BoardSummaryDTO board) {
+        this.board = board;
+    }
+
+    public Float getScore() {
+        return score;
+    }
+
+    public void setScore(Float score) {
+        this.score = score;
+    }
+
+    @Override
+    public String toString() {
+        return "BoardSearchHitDTO{" +
+                "board=" + board +
+                ", score=" + score +
+                '}';
+    }
+}
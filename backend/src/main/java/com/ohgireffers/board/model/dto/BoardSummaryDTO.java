@@ -0,0 +1,117 @@
+package com.ohgireffers.board.model.dto;
+
+import com.ohgireffers.board.model.entity.Board;
+
+import java.time.LocalDate;
+
+// 게시글 목록용 요약 DTO
+// 목록 화면에서는 본문 전체가 필요 없으므로 미리보기와 댓글 수만 담는다.
+// 리포지토리의 JPQL 생성자 표현식(select new ...)으로 바로 생성되므로 엔티티가 영속성 컨텍스트에 올라가지 않는다.
+public class BoardSummaryDTO {
+    public static final int PREVIEW_LENGTH = 100;
+    // 미리보기 최대 글자 수
+
+    private Long id;             // 게시글 ID
+    private String title;        // 게시글 제목
+    private String author;       // 작성자
+    private String preview;      // 본문 미리보기 (앞부분만 잘라서 조회)
+    private Long commentCount;   // 댓글 수
+    private LocalDate createAt;  // 생성일
+    private LocalDate updatedAt; // 수정일
+
+    // 기본 생성자
+    public BoardSummaryDTO() {}
+
+    // Board 엔티티를 받아서 요약 DTO로 변환하는 생성자 (쿼리 결과와 같은 형태로 미리보기를 자름)
+    public BoardSummaryDTO(Board board) {
+        this.id = board.getId();
+        this.title = board.getTitle();
+        this.author = board.getAuthor();
+        String content = board.getContent();
+        this.preview = content != null && content.length() > PREVIEW_LENGTH ? content.substring(0, PREVIEW_LENGTH) : content;
+        this.commentCount = board.getCommentCount() != null ? board.getCommentCount() : 0L;
+        this.createAt = board.getCreateAt();
+        this.updatedAt = board.getUpdatedAt();
+    }
+
+    // 전체 생성자 (JPQL 생성자 표현식에서 사용하므로 파라미터 순서를 쿼리와 맞춰야 함)
+    public BoardSummaryDTO(Long id, String title, String author, String preview, Long commentCount,
+                           LocalDate createAt, LocalDate updatedAt) {
+        this.id = id;
+        this.title = title;
+        this.author = author;
+        this.preview = preview;
+        this.commentCount = commentCount;
+        this.createAt = createAt;
+        this.updatedAt = updatedAt;
+    }
+
+    public Long getId() {
+        return id;
+    }
+
+    public void setId(Long id) {
+        this.id = id;
+    }
+
+    public String getTitle() {
+        return title;
+    }
+
+    public void setTitle(String title) {
+        this.title = title;
+    }
+
+    public String getAuthor() {
+        return author;
+    }
+
+    public void setAuthor(String author) {
+        this.author = author;
+    }
+
+    public String getPreview() {
+        return preview;
+    }
+
+    public void setPreview(String preview) {
+        this.preview = preview;
+    }
+
+    public Long getCommentCount() {
+        return commentCount;
+    }
+
+    public void setCommentCount(Long commentCount) {
+        this.commentCount = commentCount;
+    }
+
+    public LocalDate getCreateAt() {
+        return createAt;
+    }
+
+    public void setCreateAt(LocalDate createAt) {
+        this.createAt = createAt;
+    }
+
+    public LocalDate getUpdatedAt() {
+        return updatedAt;
+    }
+
+    public void setUpdatedAt(LocalDate updatedAt) {
+        this.updatedAt = updatedAt;
+    }
+
+    @Override
+    public String toString() {
+        return "BoardSummaryDTO{" +
+                "id=" + id +
+                ", title='" + title + '\'' +
+                ", author='" + author + '\'' +
+                ", preview='" + preview + '\'' +
+                ", commentCount=" + commentCount +
+                ", createAt=" + createAt +
+                ", updatedAt=" + updatedAt +
+                '}';
+    }
+}
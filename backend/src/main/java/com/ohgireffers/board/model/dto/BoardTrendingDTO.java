@@ -0,0 +1,42 @@
+package com.ohgireffers.board.model.dto;
+
+// 인기 게시글 DTO
+// 목록과 같은 게시글 요약에 인기 점수(시간에 따라 줄어드는 조회수/댓글 점수)를 함께 담는다.
+public class BoardTrendingDTO {
+
+    private BoardSummaryDTO board; // 게시글 요약
+    private Double score;          // 인기 점수 (클수록 최근 활동이 많음)
+
+    // 기본 생성자
+    public BoardTrendingDTO() {}
+
+    // 전체 생성자
+    public BoardTrendingDTO(BoardSummaryDTO board, Double score) {
+        this.board = board;
+        this.score = score;
+    }
+
+    public BoardSummaryDTO getBoard() {
+        return board;
+    }
+
+    public void setBoard(BoardSummaryDTO board) {
+        this.board = board;
+    }
+
+    public Double getScore() {
+        return score;
+    }
+
+    public void setScore(Double score) {
+        this.score = score;
+    }
+
+    @Override
+    public String toString() {
+        return "BoardTrendingDTO{" +
+                "board=" + board +
+                ", score=" + score +
+                '}';
+    }
+}
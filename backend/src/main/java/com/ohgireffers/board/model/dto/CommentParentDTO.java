@@ -0,0 +1,52 @@
+package com.ohgireffers.board.model.dto;
+
+// 대댓글 작성시 필요한 부모 댓글 정보만 담는 DTO
+// 부모 댓글 엔티티 전체를 읽지 않고 게시글 ID, 깊이, 경로 세 컬럼만 조회한다.
+public class CommentParentDTO {
+    private Long boardId;   // 부모 댓글이 달린 게시글 ID
+    private Integer depth;  // 부모 댓글 깊이
+    private String path;    // 부모 댓글 경로 (대댓글 경로의 앞부분)
+
+    // 기본 생성자
+    public CommentParentDTO() {}
+
+    // 전체 생성자 (JPQL 생성자 표현식에서 사용)
+    public CommentParentDTO(Long boardId, Integer depth, String path) {
+        this.boardId = boardId;
+        this.depth = depth;
+        this.path = path;
+    }
+
+    public Long getBoardId() {
+        return boardId;
+    }
+
+    public void setBoardId(Long boardId) {
+        this.boardId = boardId;
+    }
+
+    public Integer getDepth() {
+        return depth;
+    }
+
+    public void setDepth(Integer depth) {
+        this.depth = depth;
+    }
+
+    public String getPath() {
+        return path;
+    }
+
+    public void setPath(String path) {
+        this.path = path;
+    }
+
+    @Override
+    public String toString() {
+        return "CommentParentDTO{" +
+                "boardId=" + boardId +
+                ", depth=" + depth +
+                ", path='" + path + '\'' +
+                '}';
+    }
+}
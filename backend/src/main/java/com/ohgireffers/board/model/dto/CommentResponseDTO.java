@@ -24,8 +24,12 @@ public class CommentResponseDTO {
     // 생성일시
     private LocalDateTime modifiedDate;
     // 수정일시
+    private Long version;
+    // 댓글 버전 (수정시 If-Match 헤더로 사용)
     private List<CommentResponseDTO> replies;
     // 대댓글 목록
+    private Long replyCount;
+    // 바로 아래 대댓글 개수 (페이징 조회시에만 채워짐)
 
     // 기본 생성자
     public CommentResponseDTO() {}
@@ -47,6 +51,16 @@ public class CommentResponseDTO {
         this.modifiedDate = modifiedDate;
     }
 
+    // 전체 생성자 + 버전 (리포지토리의 JPQL 생성자 표현식에서 사용)
+    public CommentResponseDTO(Long id, String textBody, String user, Long boardId,
+                             Long parentCommentId, Boolean isCommentForComment,
+                             Integer depth, Long orderNumber,
+                             LocalDateTime createdDate, LocalDateTime modifiedDate, Long version) {
+        this(id, textBody, user, boardId, parentCommentId, isCommentForComment, depth, orderNumber,
+                createdDate, modifiedDate);
+        this.version = version;
+    }
+
     public Long getId() {
         return id;
     }
@@ -127,6 +141,14 @@ public class CommentResponseDTO {
         this.modifiedDate = modifiedDate;
     }
 
+    public Long getVersion() {
+        return version;
+    }
+
+    public void setVersion(Long version) {
+        this.version = version;
+    }
+
     public List<CommentResponseDTO> getReplies() {
         return replies;
     }
@@ -135,6 +157,14 @@ public class CommentResponseDTO {
         this.replies = replies;
     }
 
+    public Long getReplyCount() {
+        return replyCount;
+    }
+
+    public void setReplyCount(Long replyCount) {
+        this.replyCount = replyCount;
+    }
+
     @Override
     public String toString() {
         return "CommentResponseDTO{" +
@@ -148,7 +178,9 @@ public class CommentResponseDTO {
                 ", orderNumber=" + orderNumber +
                 ", createdDate=" + createdDate +
                 ", modifiedDate=" + modifiedDate +
+                ", version=" + version +
                 ", replies=" + replies +
+                ", replyCount=" + replyCount +
                 '}';
     }
 }
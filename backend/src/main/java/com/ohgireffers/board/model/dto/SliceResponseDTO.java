@@ -0,0 +1,65 @@
+package com.ohgireffers.board.model.dto;
+
+import java.util.List;
+
+// 커서 기반 목록 응답 DTO (게시글 목록, 댓글 목록에서 공통으로 사용)
+// 전체 개수(count)를 계산하지 않고 다음 페이지를 가리키는 커서만 전달한다.
+public class SliceResponseDTO<T> {
+    private List<T> content;    // 조회된 목록
+    private int size;           // 요청한 페이지 크기
+    private boolean hasNext;    // 다음 페이지 존재 여부
+    private String nextCursor;  // 다음 페이지 요청시 after 파라미터로 보낼 값 (없으면 null)
+
+    // 기본 생성자
+    public SliceResponseDTO() {}
+
+    // 전체 생성자
+    public SliceResponseDTO(List<T> content, int size, boolean hasNext, String nextCursor) {
+        this.content = content;
+        this.size = size;
+        this.hasNext = hasNext;
+        this.nextCursor = nextCursor;
+    }
+
+    public List<T> getContent() {
+        return content;
+    }
+
+    public void setContent(List<T> content) {
+        this.content = content;
+    }
+
+    public int getSize() {
+        return size;
+    }
+
+    public void setSize(int size) {
+        this.size = size;
+    }
+
+    public boolean isHasNext() {
+        return hasNext;
+    }
+
+    public void setHasNext(boolean hasNext) {
+        this.hasNext = hasNext;
+    }
+
+    public String getNextCursor() {
+        return nextCursor;
+    }
+
+    public void setNextCursor(String nextCursor) {
+        this.nextCursor = nextCursor;
+    }
+
+    @Override
+    public String toString() {
+        return "SliceResponseDTO{" +
+                "content=" + content +
+                ", size=" + size +
+                ", hasNext=" + hasNext +
+                ", nextCursor='" + nextCursor + '\'' +
+                '}';
+    }
+}
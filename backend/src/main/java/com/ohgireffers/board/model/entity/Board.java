@@ -2,14 +2,24 @@ package com.ohgireffers.board.model.entity;
 
 
 import jakarta.persistence.*;
+import org.hibernate.annotations.Cache;
+import org.hibernate.annotations.CacheConcurrencyStrategy;
 
 import java.time.LocalDate;
 
 @Entity //db의 테이블과 메핑을 시킴
-@Table(name = "board")
+@Table(name = "board", indexes = {
+        // 커서(키셋) 페이징용 인덱스 (created_at desc, id desc 순으로 스캔)
+        @Index(name = "idx_board_created_at_id", columnList = "created_at, id")
+})
 // 데이터베이스를 명시적으로 지정하기 위해서 사용함 엔티티만 쓰면 클래스 이름이 테이블 명으로 된다
+@Cache(usage = CacheConcurrencyStrategy.READ_WRITE, region = Board.CACHE_REGION)
+// Hibernate 2차 캐시 (findById 등 ID로 읽을 때 DB 대신 캐시에서 읽음, 크기는 application.yml의 board.entity-cache)
 public class Board {
 
+    public static final String CACHE_REGION = "board";
+    // 2차 캐시 영역 이름
+
 
     @Id //기본키를 지정하고 해당 값은 자동 생성되게 바꿈
     @GeneratedValue(strategy = GenerationType.IDENTITY)
@@ -33,6 +43,31 @@ public class Board {
     @Column(name = "updated_at")
     private LocalDate updatedAt;
 
+    // 댓글 수 (댓글 생성/삭제시 UPDATE 쿼리로 직접 증감)
+    // 엔티티 수정시 오래된 값으로 덮어쓰지 않도록 updatable = false
+    @Column(name = "comment_count", updatable = false)
+    private Long commentCount = 0L;
+
+    // 댓글 스레드 버전 (댓글 생성/수정/삭제시 UPDATE 쿼리로 1씩 증가, ETag 계산에 사용)
+    @Column(name = "comment_version", updatable = false)
+    private Long commentVersion = 0L;
+
+    // 조회수 (BoardViewCounter가 메모리에 모은 조회수를 주기적으로 UPDATE 쿼리로 더함)
+    // 엔티티 수정시 오래된 값으로 덮어쓰지 않도록 updatable = false
+    @Column(name = "view_count", updatable = false)
+    private Long viewCount = 0L;
+
+    // 삭제 진행 중 여부 (댓글이 많아 백그라운드에서 나눠 삭제하는 동안 true, 새 댓글을 받지 않음)
+    // 서버가 재시작되어도 남아 있으므로 시작시 true 인 게시글의 삭제를 이어서 진행한다. (BoardThreadDeleter)
+    @Column(name = "deleting", nullable = false, columnDefinition = "boolean default false")
+    private boolean deleting;
+
+    // 게시글 버전 (저장시 0, 수정될 때마다 JPA가 자동으로 1씩 증가, ETag 계산 및 낙관적 잠금에 사용)
+    // 새 게시글 여부를 버전이 null인지로 판단하므로 초기값을 두지 않고, 기존 게시글은 DB 기본값 0으로 채움
+    @Version
+    @Column(name = "version", nullable = false, columnDefinition = "bigint default 0")
+    private Long version;
+
     //db에서 값을 읽어와 엔티티 객체를 만들떄 기본생성자를 호출해서 객체를 먼저 생성한 뒤 각 필드에 값을 주입한다.
     // 만약 기본 생성자가 없으면 JPA가 객체를 만들 수 없어 예외가 발생합니다.
     public Board() {}
@@ -97,6 +132,47 @@ public class Board {
         this.updatedAt = updatedAt;
     }
 
+    public Long getCommentVersion() {
+        return commentVersion;
+    }
+
+    public void setCommentVersion(Long commentVersion) {
+        this.commentVersion = commentVersion;
+    }
+
+    public Long getVersion() {
+        return version;
+    }
+
+    public void setVersion(Long version) {
+        this.version = version;
+    }
+
+    public Long getCommentCount() {
+        return commentCount;
+    }
+
+    public void setCommentCount(Long commentCount) {
+        this.commentCount = commentCount;
+    }
+
+    public Long getViewCount() {
+        return viewCount;
+    }
+
+    public void setViewCount(Long viewCount) {
+        this.viewCount = viewCount;
+    }
+
+    public boolean isDeleting() {
+        return deleting;
+    }
+
+    // 삭제 진행 중으로 표시 (커밋되면 새 댓글을 받지 않음)
+    public void markDeleting() {
+        this.deleting = true;
+    }
+
     @Override
     public String toString() {
         return "Board{" +
@@ -106,6 +182,10 @@ public class Board {
                 ", content='" + content + '\'' +
                 ", createAt=" + createAt +
                 ", updatedAt=" + updatedAt +
+                ", commentCount=" + commentCount +
+                ", commentVersion=" + commentVersion +
+                ", viewCount=" + viewCount +
+                ", version=" + version +
                 '}';
     }
 }
\ No newline at end of file
@@ -1,14 +1,39 @@
 package com.ohgireffers.board.model.entity;
 
 import jakarta.persistence.*;
+import org.hibernate.annotations.Cache;
+import org.hibernate.annotations.CacheConcurrencyStrategy;
 import java.time.LocalDateTime;
 import java.util.ArrayList;
 import java.util.List;
 
 @Entity
-@Table(name = "comment")
+@Table(name = "comment", indexes = {
+        // 게시글별 댓글을 생성일시 순으로 읽기 위한 인덱스
+        @Index(name = "idx_comment_board_id_created_date", columnList = "board_id, created_date"),
+        // 게시글의 최상위 댓글(parent_comment_id is null)을 생성일시, ID 순으로 나눠 읽기 위한 인덱스 (정렬 없이 범위 검색)
+        @Index(name = "idx_comment_board_id_parent_id_created_date", columnList = "board_id, parent_comment_id, created_date, comment_id"),
+        // 대댓글을 생성일시 순으로 나눠 읽기 위한 인덱스
+        @Index(name = "idx_comment_parent_id_created_date", columnList = "parent_comment_id, created_date"),
+        // 게시글의 댓글을 화면 표시 순서(path)대로 바로 읽기 위한 인덱스
+        @Index(name = "idx_comment_board_id_path", columnList = "board_id, path")
+})
+@Cache(usage = CacheConcurrencyStrategy.READ_WRITE, region = Comment.CACHE_REGION)
+// Hibernate 2차 캐시 (크기는 application.yml의 board.entity-cache)
 public class Comment extends JpaBaseTimeEntity {
     // 엔티티의 생성 시간과 수정시간을 자동으로 관리해 주는 추상 클래스
+
+    public static final String CACHE_REGION = "comment";
+    // 댓글 2차 캐시 영역 이름
+    public static final String REPLIES_CACHE_REGION = "comment-replies";
+    // 대댓글 목록(replies) 2차 캐시 영역 이름 (대댓글 ID 목록만 저장하고 댓글 자체는 CACHE_REGION에서 읽음)
+
+    public static final int PATH_SEGMENT_LENGTH = 8;
+    // path에서 댓글 하나가 차지하는 길이 (댓글 ID를 36진수로 바꿔 앞을 0으로 채움)
+    public static final int MAX_PATH_LENGTH = 512;
+    // path 컬럼 최대 길이 (board_id와 함께 인덱스에 들어가므로 너무 길게 잡지 않음)
+    public static final int MAX_DEPTH = MAX_PATH_LENGTH / PATH_SEGMENT_LENGTH - 1;
+    // 최대 댓글 깊이 (최상위 댓글이 0)
     
     @Id
     @GeneratedValue(strategy = GenerationType.IDENTITY)
@@ -32,8 +57,10 @@ public class Comment extends JpaBaseTimeEntity {
     @JoinColumn(name = "parent_comment_id")
     private Comment parentComment; // 부모 댓글
 
-    @OneToMany(mappedBy = "parentComment", cascade = CascadeType.ALL)
+    @OneToMany(mappedBy = "parentComment")
+    @Cache(usage = CacheConcurrencyStrategy.READ_WRITE, region = Comment.REPLIES_CACHE_REGION)
     private List<Comment> replies = new ArrayList<>(); // 대댓글 목록
+    // 삭제를 전파(cascade)하면 대댓글을 한 건씩 읽어서 지우므로 대댓글 삭제는 CommentService에서 단계별 일괄 DELETE로 처리
 
 
 
@@ -48,6 +75,11 @@ public class Comment extends JpaBaseTimeEntity {
     @Column(name = "order_number")
     private Long orderNumber; // 댓글의 순서
 
+    @Column(name = "path", length = MAX_PATH_LENGTH)
+    private String path;
+    // 최상위 댓글부터 자신까지의 ID를 이어붙인 경로 (예: 000000010000000a)
+    // 문자열 순으로 정렬하면 부모 바로 뒤에 자식들이 오는 화면 표시 순서가 된다.
+
     // 기본 생성자
     public Comment() {}
 
@@ -62,12 +94,34 @@ public class Comment extends JpaBaseTimeEntity {
 
     // 대댓글 생성자
     public Comment(String textBody, String user, Board board, Comment parentComment) {
+        this(textBody, user, board, parentComment, parentComment.getDepth() + 1);
+    }
+
+    // 대댓글 생성자 (깊이 직접 지정)
+    // 부모 댓글이 getReferenceById로 얻은 프록시일 때 깊이를 읽느라 프록시가 초기화(SELECT)되지 않도록 사용
+    public Comment(String textBody, String user, Board board, Comment parentComment, int depth) {
         this.textBody = textBody;
         this.user = user;
         this.board = board;
         this.parentComment = parentComment;
         this.isCommentForComment = true;
-        this.depth = parentComment.getDepth() + 1;
+        this.depth = depth;
+    }
+
+    // 경로 지정 메서드 (ID가 생성된 뒤에 호출해야 함)
+    // 부모 경로 뒤에 자신의 ID 조각을 붙인다. 최상위 댓글이면 parentPath는 null
+    public void assignPath(String parentPath) {
+        this.path = (parentPath != null ? parentPath : "") + pathSegment(this.id);
+    }
+
+    // 댓글 ID를 고정 길이 36진수 문자열로 변환 (문자열 비교가 숫자 비교와 같아지도록 0으로 채움)
+    public static String pathSegment(Long id) {
+        String segment = Long.toString(id, 36);
+        StringBuilder sb = new StringBuilder(PATH_SEGMENT_LENGTH);
+        for (int i = segment.length(); i < PATH_SEGMENT_LENGTH; i++) {
+            sb.append('0');
+        }
+        return sb.append(segment).toString();
     }
 
     // 대댓글 추가 메서드
@@ -157,6 +211,14 @@ public class Comment extends JpaBaseTimeEntity {
         this.orderNumber = orderNumber;
     }
 
+    public String getPath() {
+        return path;
+    }
+
+    public void setPath(String path) {
+        this.path = path;
+    }
+
     @Override
     public String toString() {
         return "Comment{" +
@@ -166,6 +228,7 @@ public class Comment extends JpaBaseTimeEntity {
                 ", isCommentForComment=" + isCommentForComment +
                 ", depth=" + depth +
                 ", orderNumber=" + orderNumber +
+                ", path='" + path + '\'' +
                 '}';
     }
 }
@@ -20,6 +20,12 @@ public abstract class JpaBaseTimeEntity {
     @LastModifiedDate
     private LocalDateTime modifiedDate;
 
+    @Version
+    @Column(name = "version", nullable = false, columnDefinition = "bigint default 0")
+    private Long version;
+    // 낙관적 잠금용 버전 (수정될 때마다 1씩 증가, 동시에 수정하면 나중에 저장한 쪽이 실패함)
+    // 새 엔티티 여부를 버전이 null인지로 판단하므로 초기값을 두지 않음
+
     public LocalDateTime getCreatedDate() {
         return createdDate;
     }
@@ -27,4 +33,8 @@ public abstract class JpaBaseTimeEntity {
     public LocalDateTime getModifiedDate() {
         return modifiedDate;
     }
+
+    public Long getVersion() {
+        return version;
+    }
 }
@@ -0,0 +1,21 @@
+package com.ohgireffers.board.repository;
+
+// 게시글 댓글 수/댓글 스레드 버전 증감 (BoardRepository에 합쳐서 사용)
+// JPQL 일괄 UPDATE를 쓰면 Hibernate가 게시글 2차 캐시 영역 전체를 비우므로
+// SQL을 직접 실행하고 해당 게시글 캐시만 커밋 후 삭제한다. (BoardCommentCountRepositoryImpl)
+public interface BoardCommentCountRepository {
+
+    // 댓글 수 증감 (댓글 스레드 버전도 함께 증가)
+    // 엔티티를 읽어서 수정하지 않고 DB에서 바로 더하므로 동시에 댓글이 달려도 값이 유실되지 않는다.
+    int addCommentCount(Long id, long delta);
+
+    // 댓글 작성시 댓글 수 증가 (없거나 삭제 진행 중인 게시글이면 수정하지 않고 0을 반환)
+    // 댓글 INSERT 전에 실행하여 게시글 존재/삭제 여부 확인 SELECT를 따로 하지 않는다.
+    int addCommentCountUnlessDeleting(Long id, long delta);
+
+    // 댓글 스레드 버전만 증가 (댓글 수정시)
+    int increaseCommentVersion(Long id);
+
+    // ID 범위 내 게시글의 댓글 수를 실제 댓글 개수로 보정 (값이 다른 게시글만 수정), 보정한 게시글 수를 반환
+    int reconcileCommentCounts(Long fromId, Long toId);
+}
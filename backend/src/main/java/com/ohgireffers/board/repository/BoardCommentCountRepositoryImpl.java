@@ -0,0 +1,80 @@
+package com.ohgireffers.board.repository;
+
+import com.ohgireffers.board.model.entity.Board;
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.PersistenceContext;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.util.List;
+
+class BoardCommentCountRepositoryImpl implements BoardCommentCountRepository {
+
+    // 범위 내 댓글을 게시글별로 한 번만 세서(group by) 저장된 댓글 수와 다른 게시글 ID 조회
+    // (게시글마다 댓글 테이블을 다시 세는 상관 서브쿼리를 쓰지 않음)
+    private static final String DRIFTED_IDS_SQL =
+            "select b.id from board b " +
+            "left join (select c.board_id, count(*) as cnt from comment c " +
+            "where c.board_id between ? and ? group by c.board_id) counted on counted.board_id = b.id " +
+            "where b.id between ? and ? " +
+            "and (b.comment_count is null or b.comment_count <> coalesce(counted.cnt, 0))";
+
+    private final JdbcTemplate jdbcTemplate;
+
+    @PersistenceContext
+    private EntityManager entityManager;
+
+    @Autowired
+    BoardCommentCountRepositoryImpl(JdbcTemplate jdbcTemplate) {
+        this.jdbcTemplate = jdbcTemplate;
+    }
+
+    @Override
+    @Transactional
+    public int addCommentCount(Long id, long delta) {
+        return update("update board set comment_count = coalesce(comment_count, 0) + ?, " +
+                "comment_version = coalesce(comment_version, 0) + 1 where id = ?", id, delta, id);
+    }
+
+    @Override
+    @Transactional
+    public int addCommentCountUnlessDeleting(Long id, long delta) {
+        return update("update board set comment_count = coalesce(comment_count, 0) + ?, " +
+                "comment_version = coalesce(comment_version, 0) + 1 where id = ? and deleting = false", id, delta, id);
+    }
+
+    @Override
+    @Transactional
+    public int increaseCommentVersion(Long id) {
+        return update("update board set comment_version = coalesce(comment_version, 0) + 1 where id = ?", id, id);
+    }
+
+    @Override
+    @Transactional
+    public int reconcileCommentCounts(Long fromId, Long toId) {
+        List<Long> driftedIds = jdbcTemplate.queryForList(DRIFTED_IDS_SQL, Long.class, fromId, toId, fromId, toId);
+        // 조회와 수정 사이에 댓글이 달릴 수 있으므로 수정할 때 해당 게시글의 댓글만 다시 셈
+        for (Long id : driftedIds) {
+            update("update board set comment_count = (select count(*) from comment where board_id = ?) where id = ?",
+                    id, id, id);
+        }
+        return driftedIds.size();
+    }
+
+    private int update(String sql, Long id, Object... args) {
+        // JPQL 일괄 UPDATE와 같이 아직 DB에 반영되지 않은 변경(댓글 INSERT/DELETE)을 먼저 반영
+        entityManager.flush();
+        int updated = jdbcTemplate.update(sql, args);
+        // 커밋 전에 캐시를 지우면 다른 트랜잭션이 이전 값을 다시 넣을 수 있으므로 커밋 후 삭제
+        TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+            @Override
+            public void afterCommit() {
+                entityManager.getEntityManagerFactory().getCache().evict(Board.class, id);
+            }
+        });
+        return updated;
+    }
+}
@@ -1,20 +1,102 @@
 package com.ohgireffers.board.repository;
 
 
+import com.ohgireffers.board.model.dto.BoardSummaryDTO;
 import com.ohgireffers.board.model.entity.Board;
+import jakarta.persistence.QueryHint;
+import org.hibernate.jpa.HibernateHints;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Slice;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.jpa.repository.QueryHints;
+import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
+import java.time.LocalDate;
+import java.util.Collection;
+import java.util.List;
 import java.util.Optional;
+import java.util.stream.Stream;
 
 @Repository
-public interface BoardRepository extends JpaRepository<Board, Long> {
+public interface BoardRepository extends JpaRepository<Board, Long>, BoardCommentCountRepository {
     Optional<Board> findById(Long id);
     //optional 이메서드가 반환하는 결과가 객체를 포함할 수도 있고 포함하지 않을 수도 있는
     // 컨테이너 라는 것을 나타냄
     //null인지 아닌지 자동적으로 확인을 해줌
 
     Page<Board> findAll(Pageable pageable); // 페이징 지원하는 메서드
+
+    String EXPORT_FETCH_SIZE = "" + Integer.MIN_VALUE;
+    // 내보내기 조회의 fetch size (MySQL Connector/J는 Integer.MIN_VALUE 이면 결과를 한 번에 받지 않고 한 행씩 스트리밍)
+    // 연결 URL의 useCursorFetch처럼 모든 조회에 적용되지 않고 이 조회에만 적용된다.
+    // (스트리밍하는 동안 같은 연결로 다른 SQL을 실행할 수 없으므로 내보내기는 읽기만 함)
+
+    // 목록 조회용 요약 컬럼
+    // 본문은 앞부분(PREVIEW_LENGTH)만 잘라서 가져오고 댓글 수는 board에 저장된 값을 그대로 사용한다.
+    String SUMMARY_SELECT = "select new com.ohgireffers.board.model.dto.BoardSummaryDTO(" +
+            "b.id, b.title, b.author, substring(b.content, 1, " + BoardSummaryDTO.PREVIEW_LENGTH + "), " +
+            "coalesce(b.commentCount, 0), " +
+            "b.createAt, b.updatedAt) from Board b";
+
+    // 전체 게시글 요약 조회
+    @Query(SUMMARY_SELECT + " order by b.createAt desc, b.id desc")
+    List<BoardSummaryDTO> findAllSummaries();
+
+    // 페이징된 게시글 요약 조회 (정렬은 Pageable로 전달)
+    @Query(value = SUMMARY_SELECT, countQuery = "select count(b) from Board b")
+    Page<BoardSummaryDTO> findSummaries(Pageable pageable);
+
+    // 게시글의 댓글 수 조회 (게시글이 없으면 null)
+    @Query("select coalesce(b.commentCount, 0) from Board b where b.id = :id")
+    Long findCommentCountById(@Param("id") Long id);
+
+    // 게시글의 댓글 스레드 버전 조회 (게시글이 없으면 null)
+    @Query("select coalesce(b.commentVersion, 0) from Board b where b.id = :id")
+    Long findCommentVersionById(@Param("id") Long id);
+
+    // 삭제 진행 중으로 표시된 게시글 ID (서버 재시작 후 삭제를 이어서 진행)
+    @Query("select b.id from Board b where b.deleting = true")
+    List<Long> findDeletingIds();
+
+    // 가장 큰 게시글 ID 조회 (게시글이 없으면 null)
+    @Query("select max(b.id) from Board b")
+    Long findMaxId();
+
+    // ID 목록으로 게시글 요약 조회 (검색 결과 표시용, 순서는 보장하지 않음)
+    @Query(SUMMARY_SELECT + " where b.id in :ids")
+    List<BoardSummaryDTO> findSummariesByIds(@Param("ids") Collection<Long> ids);
+
+    // ID 순으로 게시글을 나눠서 조회 (검색 색인 재생성용, count 쿼리 없음)
+    List<Board> findByIdGreaterThanOrderByIdAsc(Long id, Pageable pageable);
+
+    // 지정한 날짜 이후 수정된 게시글을 ID 순으로 나눠서 조회 (시작시 검색 색인 보정용)
+    List<Board> findByIdGreaterThanAndUpdatedAtGreaterThanEqualOrderByIdAsc(Long id, LocalDate updatedAt, Pageable pageable);
+
+    // 전체 게시글을 ID 순으로 한 건씩 조회 (내보내기용, 읽기 전용 트랜잭션 안에서 사용하고 반드시 close)
+    // 결과를 목록으로 모으지 않고 DB에서 한 행씩 읽으며, 읽기 전용이라 변경 감지용 스냅샷도 만들지 않는다.
+    @QueryHints({
+            @QueryHint(name = HibernateHints.HINT_FETCH_SIZE, value = EXPORT_FETCH_SIZE),
+            @QueryHint(name = HibernateHints.HINT_READ_ONLY, value = "true"),
+            @QueryHint(name = HibernateHints.HINT_CACHEABLE, value = "false")
+    })
+    Stream<Board> streamAllByOrderByIdAsc();
+
+    // 커서(키셋) 페이징 - 첫 페이지
+    // Slice를 반환하므로 count 쿼리가 실행되지 않는다.
+    @Query(SUMMARY_SELECT + " order by b.createAt desc, b.id desc")
+    Slice<BoardSummaryDTO> findFirstSlice(Pageable pageable);
+
+    // 커서(키셋) 페이징 - 다음 페이지
+    // 마지막으로 받은 (createAt, id) 보다 뒤에 있는 게시글만 조회 (OFFSET 없이 인덱스를 타고 바로 이동)
+    // (createAt, id) < (:createAt, :id) 를 풀어 쓴 조건이며, 앞의 createAt <= :createAt 이 (created_at, id) 인덱스의
+    // 범위 검색 시작점이 된다. (OR 조건만 있으면 MySQL이 범위 검색 대신 인덱스 전체를 읽을 수 있음)
+    @Query(SUMMARY_SELECT +
+            " where b.createAt <= :createAt and (b.createAt < :createAt or b.id < :id)" +
+            " order by b.createAt desc, b.id desc")
+    Slice<BoardSummaryDTO> findSliceAfter(@Param("createAt") LocalDate createAt,
+                                          @Param("id") Long id,
+                                          Pageable pageable);
 }
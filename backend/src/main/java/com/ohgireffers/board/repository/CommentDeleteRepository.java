@@ -0,0 +1,12 @@
+package com.ohgireffers.board.repository;
+
+import java.util.Collection;
+
+// 댓글 일괄 삭제 (CommentRepository에 합쳐서 사용)
+// JPQL 일괄 DELETE를 쓰면 Hibernate가 댓글 2차 캐시 영역과 대댓글 목록 캐시 영역 전체를 비우므로
+// SQL을 직접 실행하고 지운 댓글과 그 부모 댓글의 대댓글 목록 캐시만 커밋 후 삭제한다. (CommentDeleteRepositoryImpl)
+public interface CommentDeleteRepository {
+
+    // ID 목록의 댓글 일괄 삭제 (부모와 자식이 함께 들어있지 않아야 함), 삭제한 댓글 수를 반환
+    int deleteAllByIds(Collection<Long> ids);
+}
@@ -0,0 +1,75 @@
+package com.ohgireffers.board.repository;
+
+import com.ohgireffers.board.model.entity.Comment;
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.PersistenceContext;
+import org.hibernate.Cache;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+
+class CommentDeleteRepositoryImpl implements CommentDeleteRepository {
+
+    private static final int IN_CLAUSE_SIZE = 1000;
+    // IN 절 하나에 넣을 최대 ID 수 (넘으면 나눠서 실행)
+
+    private static final String REPLIES_ROLE = Comment.class.getName() + ".replies";
+    // 대댓글 목록 컬렉션 캐시 이름
+
+    private final JdbcTemplate jdbcTemplate;
+
+    @PersistenceContext
+    private EntityManager entityManager;
+
+    @Autowired
+    CommentDeleteRepositoryImpl(JdbcTemplate jdbcTemplate) {
+        this.jdbcTemplate = jdbcTemplate;
+    }
+
+    @Override
+    @Transactional
+    public int deleteAllByIds(Collection<Long> ids) {
+        if (ids.isEmpty()) {
+            return 0;
+        }
+        // 아직 DB에 반영되지 않은 변경(댓글 INSERT 등)을 먼저 반영
+        entityManager.flush();
+
+        List<Long> idList = new ArrayList<>(ids);
+        Set<Long> parentIds = new HashSet<>();
+        int deleted = 0;
+        for (int from = 0; from < idList.size(); from += IN_CLAUSE_SIZE) {
+            List<Long> chunk = idList.subList(from, Math.min(from + IN_CLAUSE_SIZE, idList.size()));
+            String in = String.join(",", Collections.nCopies(chunk.size(), "?"));
+            parentIds.addAll(jdbcTemplate.queryForList("select distinct parent_comment_id from comment " +
+                    "where comment_id in (" + in + ") and parent_comment_id is not null", Long.class, chunk.toArray()));
+            deleted += jdbcTemplate.update("delete from comment where comment_id in (" + in + ")", chunk.toArray());
+        }
+
+        // 커밋 전에 캐시를 지우면 다른 트랜잭션이 이전 값을 다시 넣을 수 있으므로 커밋 후 삭제
+        TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+            @Override
+            public void afterCommit() {
+                Cache cache = entityManager.getEntityManagerFactory().getCache().unwrap(Cache.class);
+                for (Long id : idList) {
+                    cache.evictEntityData(Comment.class, id);
+                    cache.evictCollectionData(REPLIES_ROLE, id);
+                }
+                // 남아 있는 부모 댓글의 대댓글 목록에서 지운 댓글이 빠지도록 함
+                for (Long parentId : parentIds) {
+                    cache.evictCollectionData(REPLIES_ROLE, parentId);
+                }
+            }
+        });
+        return deleted;
+    }
+}
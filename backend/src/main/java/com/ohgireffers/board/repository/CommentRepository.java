@@ -1,19 +1,111 @@
 package com.ohgireffers.board.repository;
 
+import com.ohgireffers.board.model.dto.CommentParentDTO;
+import com.ohgireffers.board.model.dto.CommentResponseDTO;
 import com.ohgireffers.board.model.entity.Comment;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Slice;
 import org.springframework.data.jpa.repository.JpaRepository;
 import org.springframework.data.jpa.repository.Query;
 import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
+import java.time.LocalDateTime;
+import java.util.Collection;
 import java.util.List;
+import java.util.Optional;
 
 @Repository
-public interface CommentRepository extends JpaRepository<Comment, Long> {
+public interface CommentRepository extends JpaRepository<Comment, Long>, CommentDeleteRepository {
+
+    // 댓글 DTO 조회용 컬럼 (연관관계는 FK 값만 읽음)
+    String FLAT_SELECT = "select new com.ohgireffers.board.model.dto.CommentResponseDTO(" +
+            "c.id, c.textBody, c.user, c.board.id, c.parentComment.id, c.isCommentForComment, " +
+            "c.depth, c.orderNumber, c.createdDate, c.modifiedDate, c.version) from Comment c";
     
     // 특정 게시글의 모든 댓글 조회 (생성일시 순 정렬)
     List<Comment> findByBoardIdOrderByCreatedDateAsc(Long boardId);
     
+    // 특정 게시글의 모든 댓글을 DTO로 바로 조회 (화면 표시 순서인 path 순 정렬)
+    // board, parentComment 연관관계를 초기화하지 않고 FK 값만 읽어오므로 한 번의 쿼리로 끝난다.
+    // (board_id, path) 인덱스 순서 그대로 읽으므로 별도의 정렬이 필요 없다.
+    @Query(FLAT_SELECT + " where c.board.id = :boardId order by c.path asc, c.id asc")
+    List<CommentResponseDTO> findFlatByBoardId(@Param("boardId") Long boardId);
+    
+    // 특정 댓글과 그 아래 모든 대댓글 조회 (path 접두어 범위 검색)
+    @Query(FLAT_SELECT + " where c.board.id = :boardId and c.path like concat(:path, '%') order by c.path asc")
+    List<CommentResponseDTO> findSubtree(@Param("boardId") Long boardId, @Param("path") String path);
+
+    // 대댓글 작성용 부모 댓글 정보 조회 (게시글 ID, 깊이, 경로만 읽음)
+    @Query("select new com.ohgireffers.board.model.dto.CommentParentDTO(c.board.id, c.depth, c.path) " +
+            "from Comment c where c.id = :id")
+    Optional<CommentParentDTO> findParentInfoById(@Param("id") Long id);
+
+    // 특정 댓글과 그 아래 모든 대댓글 중 가장 깊은 단계 (path 접두어 범위)
+    @Query("select max(c.depth) from Comment c where c.board.id = :boardId and c.path like concat(:path, '%')")
+    Integer findMaxSubtreeDepth(@Param("boardId") Long boardId, @Param("path") String path);
+
+    // 특정 댓글 아래에서 한 단계(depth)의 댓글 ID 조회 (path 접두어 범위, 단계별 삭제용)
+    // 대댓글이 부모 댓글을 FK로 참조하므로 깊은 단계부터 지워야 한다.
+    @Query("select c.id from Comment c where c.board.id = :boardId and c.depth = :depth and c.path like concat(:path, '%')")
+    List<Long> findSubtreeIdsAtDepth(@Param("boardId") Long boardId, @Param("path") String path, @Param("depth") int depth);
+
+    // 게시글 댓글 중 가장 깊은 단계 (댓글이 없으면 null)
+    @Query("select max(c.depth) from Comment c where c.board.id = :boardId")
+    Integer findMaxDepthByBoardId(@Param("boardId") Long boardId);
+
+    // 게시글 댓글 중 한 단계(depth)의 댓글 ID 조회 (깊은 단계부터 삭제할 때 사용, 나눠서 지울 때는 일부만 조회)
+    @Query("select c.id from Comment c where c.board.id = :boardId and c.depth = :depth")
+    List<Long> findIdsByBoardIdAndDepth(@Param("boardId") Long boardId, @Param("depth") int depth, Pageable pageable);
+
+    // 여러 댓글의 바로 아래 대댓글 ID 조회 (path가 없는 댓글의 하위 댓글을 찾을 때 사용)
+    @Query("select c.id from Comment c where c.parentComment.id in :parentIds")
+    List<Long> findIdsByParentIds(@Param("parentIds") Collection<Long> parentIds);
+
+    // path가 아직 지정되지 않은 댓글 중 한 단계(depth)의 댓글을 afterId 다음부터 ID 순으로 조회 (부모 댓글을 함께 읽음)
+    // 기본키 범위로 이어서 읽으므로 배치마다 남은 댓글 전체를 정렬하지 않는다
+    @Query("select c from Comment c left join fetch c.parentComment " +
+            "where c.path is null and c.depth = :depth and c.id > :afterId order by c.id")
+    List<Comment> findPathlessByDepthAfterId(@Param("depth") int depth, @Param("afterId") long afterId, Pageable pageable);
+
+    // path가 아직 지정되지 않은 댓글의 가장 깊은 단계 (없으면 null)
+    @Query("select max(c.depth) from Comment c where c.path is null")
+    Integer findMaxPathlessDepth();
+
     // 특정 게시글의 댓글 개수 조회
     Long countByBoardId(Long boardId);
+
+    // 최상위 댓글 커서 페이징 - 첫 페이지 (생성일시, ID 순)
+    @Query(FLAT_SELECT + " where c.board.id = :boardId and c.parentComment is null" +
+            " order by c.createdDate asc, c.id asc")
+    Slice<CommentResponseDTO> findRootSlice(@Param("boardId") Long boardId, Pageable pageable);
+
+    // 최상위 댓글 커서 페이징 - 다음 페이지
+    // (createdDate, id) > (:createdDate, :id) 를 인덱스 범위 검색이 가능하도록 풀어 쓴 조건 (BoardRepository.findSliceAfter와 같은 방식)
+    @Query(FLAT_SELECT + " where c.board.id = :boardId and c.parentComment is null" +
+            " and c.createdDate >= :createdDate and (c.createdDate > :createdDate or c.id > :id)" +
+            " order by c.createdDate asc, c.id asc")
+    Slice<CommentResponseDTO> findRootSliceAfter(@Param("boardId") Long boardId,
+                                                 @Param("createdDate") LocalDateTime createdDate,
+                                                 @Param("id") Long id,
+                                                 Pageable pageable);
+
+    // 대댓글 커서 페이징 - 첫 페이지
+    @Query(FLAT_SELECT + " where c.parentComment.id = :parentId order by c.createdDate asc, c.id asc")
+    Slice<CommentResponseDTO> findReplySlice(@Param("parentId") Long parentId, Pageable pageable);
+
+    // 대댓글 커서 페이징 - 다음 페이지
+    @Query(FLAT_SELECT + " where c.parentComment.id = :parentId" +
+            " and c.createdDate >= :createdDate and (c.createdDate > :createdDate or c.id > :id)" +
+            " order by c.createdDate asc, c.id asc")
+    Slice<CommentResponseDTO> findReplySliceAfter(@Param("parentId") Long parentId,
+                                                  @Param("createdDate") LocalDateTime createdDate,
+                                                  @Param("id") Long id,
+                                                  Pageable pageable);
+
+    // 여러 댓글의 바로 아래 대댓글 개수를 한 번에 조회
+    // 결과는 [부모 댓글 ID, 대댓글 개수] 배열 목록
+    @Query("select c.parentComment.id, count(c) from Comment c" +
+            " where c.parentComment.id in :parentIds group by c.parentComment.id")
+    List<Object[]> countRepliesByParentIds(@Param("parentIds") Collection<Long> parentIds);
 }
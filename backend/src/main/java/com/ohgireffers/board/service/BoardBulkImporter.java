@@ -0,0 +1,166 @@
+package com.ohgireffers.board.service;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.ohgireffers.board.model.dto.BoardImportResultDTO;
+import com.ohgireffers.board.model.dto.BoardRequsetDTO;
+import com.ohgireffers.board.repository.BoardRepository;
+import jakarta.validation.ConstraintViolation;
+import jakarta.validation.Validator;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.dao.DataAccessException;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.io.BufferedReader;
+import java.io.IOException;
+import java.io.Reader;
+import java.sql.Date;
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+import java.util.stream.Collectors;
+
+// 게시글 일괄 등록 (NDJSON : 한 줄에 BoardRequsetDTO 하나)
+// 요청 본문을 한 줄씩 읽어서 검사한 뒤 정해진 개수만큼 모아 JDBC 배치 INSERT로 저장한다.
+// Board는 IDENTITY 전략이라 JPA로 저장하면 한 건마다 INSERT가 따로 실행되므로 JdbcTemplate을 직접 사용한다.
+// (MySQL은 rewriteBatchedStatements=true 설정으로 배치가 여러 행 INSERT 한 번으로 전송됨)
+@Component
+public class BoardBulkImporter {
+
+    static final String INSERT_SQL = "insert into board " +
+            "(title, contents, author, created_at, updated_at, comment_count, comment_version, view_count, version) " +
+            "values (?, ?, ?, ?, null, 0, 0, 0, 0)";
+    static final int MAX_REPORTED_FAILURES = 1000;
+    // 응답에 담을 최대 실패 줄 수 (실패 건수는 모두 셈)
+
+    private final JdbcTemplate jdbcTemplate;
+    private final TransactionTemplate transactionTemplate;
+    private final ObjectMapper objectMapper;
+    private final Validator validator;
+    private final BoardRepository boardRepository;
+    private final BoardFrontPageCache frontPageCache;
+    private final BoardSearchIndex searchIndex;
+    private final int batchSize;
+    // 한 번의 배치(트랜잭션)로 저장할 게시글 수
+
+    @Autowired
+    public BoardBulkImporter(JdbcTemplate jdbcTemplate, PlatformTransactionManager transactionManager,
+                             ObjectMapper objectMapper, Validator validator, BoardRepository boardRepository,
+                             BoardFrontPageCache frontPageCache, BoardSearchIndex searchIndex,
+                             @Value("${board.import.batch-size:1000}") int batchSize) {
+        this.jdbcTemplate = jdbcTemplate;
+        this.transactionTemplate = new TransactionTemplate(transactionManager);
+        this.objectMapper = objectMapper;
+        this.validator = validator;
+        this.boardRepository = boardRepository;
+        this.frontPageCache = frontPageCache;
+        this.searchIndex = searchIndex;
+        this.batchSize = Math.max(batchSize, 1);
+    }
+
+    // NDJSON 본문을 읽어서 게시글 일괄 등록
+    // 형식이 틀리거나 유효성 검사에 실패한 줄은 건너뛰고 결과에 줄 번호와 이유를 담는다. (빈 줄은 무시)
+    public BoardImportResultDTO importBoards(Reader reader) throws IOException {
+        Long lastIdBefore = boardRepository.findMaxId();
+        LocalDate today = LocalDate.now();
+        BoardImportResultDTO result = new BoardImportResultDTO();
+        List<ImportRow> batch = new ArrayList<>(batchSize);
+
+        BufferedReader lines = reader instanceof BufferedReader buffered ? buffered : new BufferedReader(reader);
+        long lineNumber = 0;
+        String line;
+        while ((line = lines.readLine()) != null) {
+            lineNumber++;
+            if (line.isBlank()) {
+                continue;
+            }
+            try {
+                batch.add(new ImportRow(lineNumber, parse(line)));
+            } catch (IllegalArgumentException e) {
+                addFailure(result, lineNumber, e.getMessage());
+            }
+            if (batch.size() == batchSize) {
+                insertBatch(batch, today, result);
+                batch.clear();
+            }
+        }
+        if (!batch.isEmpty()) {
+            insertBatch(batch, today, result);
+        }
+        result.setTotalLines(lineNumber);
+
+        // 이벤트 없이 저장했으므로 목록 캐시는 비우고, 새로 저장된 게시글은 검색 색인에 추가
+        if (result.getImportedCount() > 0) {
+            frontPageCache.invalidate();
+            searchIndex.indexBoardsAfter(lastIdBefore != null ? lastIdBefore : 0L);
+        }
+        return result;
+    }
+
+    // 한 줄을 게시글 요청으로 변환하고 게시글 등록과 같은 규칙으로 검사
+    private BoardRequsetDTO parse(String line) {
+        BoardRequsetDTO request;
+        try {
+            request = objectMapper.readValue(line, BoardRequsetDTO.class);
+        } catch (JsonProcessingException e) {
+            throw new IllegalArgumentException("JSON 형식이 올바르지 않습니다.");
+        }
+        if (request == null) {
+            throw new IllegalArgumentException("게시글 정보가 누락되었습니다.");
+        }
+
+        // 컨트롤러의 @Valid 검사 (어노테이션 규칙)
+        List<ConstraintViolation<BoardRequsetDTO>> violations = validator.validate(request).stream()
+                .sorted(Comparator.comparing(violation -> violation.getPropertyPath().toString()))
+                .toList();
+        if (!violations.isEmpty()) {
+            throw new IllegalArgumentException(violations.stream()
+                    .map(violation -> violation.getPropertyPath() + ": " + violation.getMessage())
+                    .collect(Collectors.joining(", ")));
+        }
+        // 서비스의 비즈니스 유효성 검사
+        BoardService.validateBoardRequest(request);
+        return request;
+    }
+
+    // 배치 하나를 한 트랜잭션으로 저장
+    // 배치 중 한 줄이라도 DB 오류가 나면 배치 전체가 롤백되므로, 어느 줄이 문제인지 알 수 있도록 한 줄씩 다시 저장한다.
+    private void insertBatch(List<ImportRow> batch, LocalDate today, BoardImportResultDTO result) {
+        try {
+            transactionTemplate.executeWithoutResult(status ->
+                    jdbcTemplate.batchUpdate(INSERT_SQL, batch, batch.size(), (ps, row) -> {
+                        ps.setString(1, row.request().getTitle());
+                        ps.setString(2, row.request().getContent());
+                        ps.setString(3, row.request().getAuthor());
+                        ps.setDate(4, Date.valueOf(today));
+                    }));
+            result.setImportedCount(result.getImportedCount() + batch.size());
+        } catch (DataAccessException e) {
+            for (ImportRow row : batch) {
+                try {
+                    jdbcTemplate.update(INSERT_SQL, row.request().getTitle(), row.request().getContent(),
+                            row.request().getAuthor(), Date.valueOf(today));
+                    result.setImportedCount(result.getImportedCount() + 1);
+                } catch (DataAccessException rowException) {
+                    addFailure(result, row.line(), "저장 중 오류가 발생했습니다: "
+                            + rowException.getMostSpecificCause().getMessage());
+                }
+            }
+        }
+    }
+
+    private void addFailure(BoardImportResultDTO result, long line, String message) {
+        result.setFailedCount(result.getFailedCount() + 1);
+        if (result.getFailures().size() < MAX_REPORTED_FAILURES) {
+            result.getFailures().add(new BoardImportResultDTO.LineFailure(line, message));
+        }
+    }
+
+    // 저장할 게시글과 원래 줄 번호
+    private record ImportRow(long line, BoardRequsetDTO request) {}
+}
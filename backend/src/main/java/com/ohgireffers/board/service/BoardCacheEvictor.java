@@ -0,0 +1,36 @@
+package com.ohgireffers.board.service;
+
+import com.ohgireffers.board.config.CacheConfig;
+import com.ohgireffers.board.event.BoardChangedEvent;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.cache.Cache;
+import org.springframework.cache.CacheManager;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionPhase;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+// 게시글 단건 조회 캐시(BOARD_CACHE) 삭제
+// 수정/삭제 메서드에서 @CacheEvict로 지우면 커밋 전에 지워지므로
+// 그 사이 다른 요청이 커밋 전 값을 읽어 캐시에 다시 넣을 수 있다. 그래서 커밋 후 이벤트를 받아서 지운다.
+@Component
+public class BoardCacheEvictor {
+
+    private final CacheManager cacheManager;
+
+    @Autowired
+    public BoardCacheEvictor(CacheManager cacheManager) {
+        this.cacheManager = cacheManager;
+    }
+
+    // 게시글 수정/삭제 반영 (생성된 게시글은 캐시에 없음)
+    @TransactionalEventListener(phase = TransactionPhase.AFTER_COMMIT)
+    public void onBoardChanged(BoardChangedEvent event) {
+        if (event.getType() == BoardChangedEvent.Type.CREATED) {
+            return;
+        }
+        Cache boardCache = cacheManager.getCache(CacheConfig.BOARD_CACHE);
+        if (boardCache != null) {
+            boardCache.evict(event.getBoardId());
+        }
+    }
+}
@@ -0,0 +1,146 @@
+package com.ohgireffers.board.service;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.ohgireffers.board.model.dto.BoardResponseDTO;
+import com.ohgireffers.board.model.entity.Board;
+import com.ohgireffers.board.repository.BoardRepository;
+import jakarta.persistence.EntityManager;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.io.BufferedWriter;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.io.OutputStreamWriter;
+import java.io.Writer;
+import java.nio.charset.StandardCharsets;
+import java.util.Iterator;
+import java.util.Locale;
+import java.util.stream.Stream;
+
+// 게시글 전체 내보내기 (NDJSON / CSV)
+// 게시글을 한 번에 목록으로 읽지 않고 DB 커서에서 한 건씩 읽어 바로 응답에 쓰므로
+// 게시글 수와 상관없이 메모리 사용량이 일정하다.
+@Component
+public class BoardExporter {
+
+    static final int CLEAR_INTERVAL = 1000;
+    // 이 개수만큼 쓸 때마다 영속성 컨텍스트를 비우고 응답을 flush
+    private static final String[] CSV_HEADER = {
+            "id", "title", "author", "content", "createAt", "updatedAt", "commentCount"
+    };
+
+    // 내보내기 형식
+    public enum Format {
+        NDJSON("application/x-ndjson", "ndjson"),
+        CSV("text/csv", "csv");
+
+        private final String contentType;
+        private final String extension;
+
+        Format(String contentType, String extension) {
+            this.contentType = contentType;
+            this.extension = extension;
+        }
+
+        public String getContentType() {
+            return contentType;
+        }
+
+        public String getExtension() {
+            return extension;
+        }
+
+        // 요청 파라미터 값으로 형식 찾기 (대소문자 무시)
+        public static Format from(String value) {
+            try {
+                return Format.valueOf(value.trim().toUpperCase(Locale.ROOT));
+            } catch (IllegalArgumentException | NullPointerException e) {
+                throw new IllegalArgumentException("지원하지 않는 형식입니다. (ndjson, csv)");
+            }
+        }
+    }
+
+    private final BoardRepository boardRepository;
+    private final EntityManager entityManager;
+    private final ObjectMapper objectMapper;
+
+    @Autowired
+    public BoardExporter(BoardRepository boardRepository, EntityManager entityManager, ObjectMapper objectMapper) {
+        this.boardRepository = boardRepository;
+        this.entityManager = entityManager;
+        this.objectMapper = objectMapper;
+    }
+
+    // 모든 게시글을 ID 순으로 출력 스트림에 씀
+    // 스트림이 열려있는 동안 DB 커서를 유지해야 하므로 읽기 전용 트랜잭션 안에서 실행한다.
+    @Transactional(readOnly = true)
+    public long export(Format format, OutputStream outputStream) throws IOException {
+        Writer writer = new BufferedWriter(new OutputStreamWriter(outputStream, StandardCharsets.UTF_8));
+        long count = 0;
+        try (Stream<Board> boards = boardRepository.streamAllByOrderByIdAsc()) {
+            if (format == Format.CSV) {
+                writeCsvRow(writer, CSV_HEADER);
+            }
+            Iterator<Board> iterator = boards.iterator();
+            while (iterator.hasNext()) {
+                Board board = iterator.next();
+                if (format == Format.CSV) {
+                    writeCsvRow(writer, new String[]{
+                            String.valueOf(board.getId()), board.getTitle(), board.getAuthor(), board.getContent(),
+                            toText(board.getCreateAt()), toText(board.getUpdatedAt()), toText(board.getCommentCount())
+                    });
+                } else {
+                    writer.write(objectMapper.writeValueAsString(new BoardResponseDTO(board)));
+                    writer.write('\n');
+                }
+
+                count++;
+                if (count % CLEAR_INTERVAL == 0) {
+                    // 이미 쓴 게시글은 다시 사용하지 않으므로 영속성 컨텍스트에서 내보내 메모리를 돌려줌
+                    entityManager.clear();
+                    writer.flush();
+                }
+            }
+        }
+        writer.flush();
+        return count;
+    }
+
+    // CSV 한 줄 쓰기 (쉼표, 따옴표, 줄바꿈이 들어간 값은 따옴표로 감싸고 따옴표는 두 번 씀)
+    static void writeCsvRow(Writer writer, String[] values) throws IOException {
+        for (int i = 0; i < values.length; i++) {
+            if (i > 0) {
+                writer.write(',');
+            }
+            String value = escapeFormula(values[i] != null ? values[i] : "");
+            if (value.indexOf(',') >= 0 || value.indexOf('"') >= 0
+                    || value.indexOf('\n') >= 0 || value.indexOf('\r') >= 0) {
+                writer.write('"');
+                writer.write(value.replace("\"", "\"\""));
+                writer.write('"');
+            } else {
+                writer.write(value);
+            }
+        }
+        writer.write("\r\n");
+    }
+
+    // 스프레드시트에서 수식으로 실행되지 않도록 =, +, -, @ (와 탭, CR)로 시작하는 값 앞에 작은따옴표를 붙임 (CSV injection)
+    // 사용자가 작성한 제목/본문/작성자를 그대로 내보내므로 모든 값에 적용한다.
+    static String escapeFormula(String value) {
+        if (value.isEmpty()) {
+            return value;
+        }
+        char first = value.charAt(0);
+        if (first == '=' || first == '+' || first == '-' || first == '@' || first == '\t' || first == '\r') {
+            return "'" + value;
+        }
+        return value;
+    }
+
+    private static String toText(Object value) {
+        return value != null ? value.toString() : "";
+    }
+}
@@ -0,0 +1,200 @@
+package com.ohgireffers.board.service;
+
+import com.ohgireffers.board.event.BoardChangedEvent;
+import com.ohgireffers.board.event.CommentCountChangedEvent;
+import com.ohgireffers.board.model.dto.BoardSummaryDTO;
+import com.ohgireffers.board.repository.BoardRepository;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageImpl;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionPhase;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.Comparator;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.function.LongSupplier;
+
+// 게시글 목록 앞쪽 페이지 캐시
+// 최신 게시글 (페이지 수 x 최대 페이지 크기)개를 정렬된 상태로 메모리에 들고 있어서
+// 앞쪽 페이지는 페이지 크기와 상관없이 DB 조회 없이 잘라서 응답한다.
+// 게시글 생성/수정/삭제, 댓글 수 변경은 트랜잭션 커밋 후 이벤트로 받아 목록을 부분적으로 갱신한다. (전체 삭제 X)
+// 이벤트는 이 서버에서 커밋된 변경만 전달되므로 다른 서버의 변경이나 DB 직접 수정은 반영되지 않는다.
+// 그래서 DB에서 읽은 지 board.front-page-cache.ttl-ms가 지나면 다음 조회에서 다시 읽는다.
+@Component
+public class BoardFrontPageCache {
+
+    // 목록 정렬 기준 (생성일 내림차순, 같으면 ID 내림차순) - 리포지토리 쿼리와 같아야 함
+    static final Comparator<BoardSummaryDTO> ORDER = Comparator
+            .comparing(BoardSummaryDTO::getCreateAt, Comparator.nullsLast(Comparator.reverseOrder()))
+            .thenComparing(BoardSummaryDTO::getId, Comparator.reverseOrder());
+
+    private final BoardRepository boardRepository;
+    private final int capacity;
+    // 캐시에 보관할 최대 게시글 수
+    private final long ttlNanos;
+    // DB에서 읽은 목록을 이벤트만으로 유지할 최대 시간
+    private final LongSupplier nanoTime;
+    private final AtomicBoolean reloading = new AtomicBoolean();
+    // 만료된 목록을 다시 읽는 중인지 (한 요청만 다시 읽고 나머지는 기존 목록으로 응답)
+
+    private volatile Snapshot snapshot;
+    // 현재 캐시 상태 (null 이면 아직 DB에서 읽지 않음). 읽기는 잠금 없이 이 참조만 사용
+    private long version;
+    // 이벤트를 반영할 때마다 증가 (DB에서 다시 읽는 동안 변경이 있었는지 확인용)
+
+    @Autowired
+    public BoardFrontPageCache(BoardRepository boardRepository,
+                               @Value("${board.front-page-cache.pages:3}") int pages,
+                               @Value("${board.front-page-cache.ttl-ms:30000}") long ttlMs) {
+        this(boardRepository, pages, ttlMs, System::nanoTime);
+    }
+
+    BoardFrontPageCache(BoardRepository boardRepository, int pages, long ttlMs, LongSupplier nanoTime) {
+        this.boardRepository = boardRepository;
+        this.capacity = Math.max(pages, 0) * BoardService.MAX_PAGE_SIZE;
+        this.ttlNanos = TimeUnit.MILLISECONDS.toNanos(Math.max(ttlMs, 0));
+        this.nanoTime = nanoTime;
+    }
+
+    // 캐시된 범위 안의 페이지면 결과를 반환하고, 범위 밖이면 null (DB에서 조회해야 함)
+    public Page<BoardSummaryDTO> getPage(int page, int size) {
+        long end = (long) page * size + size;
+        if (end > capacity) {
+            return null;
+        }
+
+        Snapshot current = snapshot;
+        if (current == null || (!current.complete() && current.boards().size() < end)) {
+            // 처음 조회했거나 삭제로 캐시된 게시글이 줄어든 경우 다시 읽음
+            current = reload();
+        } else if (nanoTime.getAsLong() - current.loadedAt() >= ttlNanos && reloading.compareAndSet(false, true)) {
+            // 만료된 경우 한 요청만 다시 읽음 (다른 요청은 다시 읽는 동안 기존 목록으로 응답)
+            try {
+                current = reload();
+            } finally {
+                reloading.set(false);
+            }
+        }
+
+        int from = Math.min(page * size, current.boards().size());
+        int to = (int) Math.min(end, current.boards().size());
+        return new PageImpl<>(current.boards().subList(from, to),
+                PageRequest.of(page, size, BoardService.LIST_SORT), current.total());
+    }
+
+    // 게시글 생성/수정/삭제 반영
+    @TransactionalEventListener(phase = TransactionPhase.AFTER_COMMIT)
+    public synchronized void onBoardChanged(BoardChangedEvent event) {
+        version++;
+        Snapshot current = snapshot;
+        if (current == null) {
+            return;
+        }
+
+        List<BoardSummaryDTO> boards = new ArrayList<>(current.boards());
+        long total = current.total();
+        boolean complete = current.complete();
+        int index = indexOf(boards, event.getBoardId());
+
+        switch (event.getType()) {
+            case CREATED -> {
+                total++;
+                int position = -Collections.binarySearch(boards, event.getSummary(), ORDER) - 1;
+                // 캐시 범위보다 뒤에 들어갈 게시글이면 캐시는 그대로
+                if (position >= 0 && (position < boards.size() || complete)) {
+                    boards.add(position, event.getSummary());
+                    if (boards.size() > capacity) {
+                        boards.remove(boards.size() - 1);
+                        complete = false;
+                    }
+                }
+            }
+            case UPDATED -> {
+                if (index >= 0) {
+                    // 댓글 수는 게시글 수정과 별개로 관리되므로 캐시된 값을 유지
+                    BoardSummaryDTO summary = copy(event.getSummary(), boards.get(index).getCommentCount());
+                    boards.set(index, summary);
+                }
+            }
+            case DELETED -> {
+                total = Math.max(total - 1, 0);
+                if (index >= 0) {
+                    boards.remove(index);
+                }
+            }
+        }
+        snapshot = new Snapshot(List.copyOf(boards), total, complete, current.loadedAt());
+    }
+
+    // 댓글 수 변경 반영
+    @TransactionalEventListener(phase = TransactionPhase.AFTER_COMMIT)
+    public synchronized void onCommentCountChanged(CommentCountChangedEvent event) {
+        version++;
+        Snapshot current = snapshot;
+        if (current == null) {
+            return;
+        }
+        int index = indexOf(current.boards(), event.getBoardId());
+        if (index < 0) {
+            return;
+        }
+
+        List<BoardSummaryDTO> boards = new ArrayList<>(current.boards());
+        BoardSummaryDTO board = boards.get(index);
+        boards.set(index, copy(board, Math.max(board.getCommentCount() + event.getDelta(), 0)));
+        snapshot = new Snapshot(List.copyOf(boards), current.total(), current.complete(), current.loadedAt());
+    }
+
+    // 캐시 전체 삭제 (일괄 등록처럼 이벤트 없이 게시글이 바뀐 경우, 다음 조회시 DB에서 다시 읽음)
+    public synchronized void invalidate() {
+        version++;
+        snapshot = null;
+    }
+
+    // DB에서 앞쪽 게시글과 전체 개수를 다시 읽음
+    // 읽는 동안 이벤트가 반영되었다면 읽은 값이 오래된 것일 수 있으므로 캐시에 저장하지 않는다.
+    // DB 조회는 synchronized 밖에서 하므로 가상 스레드에서 실행되어도 잠금을 잡은 채 대기하지 않는다.
+    private Snapshot reload() {
+        long startVersion;
+        synchronized (this) {
+            startVersion = version;
+        }
+
+        long loadedAt = nanoTime.getAsLong();
+        List<BoardSummaryDTO> boards = boardRepository.findFirstSlice(PageRequest.of(0, capacity)).getContent();
+        long total = boardRepository.count();
+        Snapshot loaded = new Snapshot(List.copyOf(boards), total, boards.size() < capacity, loadedAt);
+
+        synchronized (this) {
+            if (version == startVersion) {
+                snapshot = loaded;
+            }
+        }
+        return loaded;
+    }
+
+    private int indexOf(List<BoardSummaryDTO> boards, Long boardId) {
+        for (int i = 0; i < boards.size(); i++) {
+            if (boards.get(i).getId().equals(boardId)) {
+                return i;
+            }
+        }
+        return -1;
+    }
+
+    // 캐시에 들어있는 DTO는 여러 요청이 함께 읽으므로 수정하지 않고 복사본을 만든다.
+    private BoardSummaryDTO copy(BoardSummaryDTO board, Long commentCount) {
+        return new BoardSummaryDTO(board.getId(), board.getTitle(), board.getAuthor(), board.getPreview(),
+                commentCount, board.getCreateAt(), board.getUpdatedAt());
+    }
+
+    // 캐시된 게시글 목록, 전체 게시글 수, 모든 게시글이 캐시에 들어있는지 여부, DB에서 읽은 시각 (이벤트 반영으로는 바뀌지 않음)
+    private record Snapshot(List<BoardSummaryDTO> boards, long total, boolean complete, long loadedAt) {}
+}
@@ -0,0 +1,360 @@
+package com.ohgireffers.board.service;
+
+import com.ohgireffers.board.event.BoardChangedEvent;
+import com.ohgireffers.board.model.entity.Board;
+import com.ohgireffers.board.repository.BoardRepository;
+import jakarta.annotation.PreDestroy;
+import org.apache.lucene.analysis.Analyzer;
+import org.apache.lucene.analysis.LowerCaseFilter;
+import org.apache.lucene.analysis.TokenStream;
+import org.apache.lucene.analysis.Tokenizer;
+import org.apache.lucene.analysis.ngram.NGramTokenFilter;
+import org.apache.lucene.analysis.standard.StandardTokenizer;
+import org.apache.lucene.analysis.tokenattributes.CharTermAttribute;
+import org.apache.lucene.document.Document;
+import org.apache.lucene.document.Field;
+import org.apache.lucene.document.StringField;
+import org.apache.lucene.document.TextField;
+import org.apache.lucene.index.IndexWriter;
+import org.apache.lucene.index.IndexWriterConfig;
+import org.apache.lucene.index.StoredFields;
+import org.apache.lucene.index.Term;
+import org.apache.lucene.search.BooleanClause;
+import org.apache.lucene.search.BooleanQuery;
+import org.apache.lucene.search.BoostQuery;
+import org.apache.lucene.search.IndexSearcher;
+import org.apache.lucene.search.Query;
+import org.apache.lucene.search.ScoreDoc;
+import org.apache.lucene.search.SearcherManager;
+import org.apache.lucene.search.TermQuery;
+import org.apache.lucene.search.TopDocs;
+import org.apache.lucene.store.Directory;
+import org.apache.lucene.store.FSDirectory;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionPhase;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import java.io.IOException;
+import java.io.StringReader;
+import java.io.UncheckedIOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.locks.ReentrantLock;
+import java.util.function.LongFunction;
+
+// 게시글 제목/본문 검색용 역색인 (Lucene)
+// 단어를 2글자씩 겹치게 잘라(n-gram) 색인하므로 조사가 붙은 한국어 단어도 부분 일치로 찾을 수 있다. ("게시판에서" → "게시판")
+// 색인은 로컬 디렉터리에 저장되어 재시작시 다시 만들 필요가 없고, 게시글 변경은 커밋 후 이벤트로 받아 바로 반영한다.
+// 이벤트는 이 서버에서 커밋된 변경만 전달되므로, 색인 커밋에 마지막으로 색인한 게시글 ID와 날짜를 함께 저장해 두고
+// 시작할 때 그 이후 작성/수정된 게시글을 다시 색인한다. (꺼져 있는 동안이나 다른 서버에서 변경된 게시글 반영)
+@Component
+public class BoardSearchIndex {
+
+    private static final Logger log = LoggerFactory.getLogger(BoardSearchIndex.class);
+
+    static final String FIELD_ID = "id";
+    static final String FIELD_TITLE = "title";
+    static final String FIELD_CONTENT = "content";
+    private static final int GRAM_SIZE = 2;
+    // n-gram 길이
+    private static final float TITLE_BOOST = 2.0f;
+    // 제목에서 일치하면 본문보다 높은 점수
+    static final int MAX_SEARCH_WINDOW = 1000;
+    // 검색 결과 중 조회할 수 있는 최대 순위 (이보다 뒤쪽 페이지는 조회하지 않음)
+    private static final int REBUILD_BATCH_SIZE = 500;
+    // 재색인시 한 번에 읽을 게시글 수
+    private static final String MAX_ID_KEY = "maxId";
+    // 색인 커밋에 저장하는 값 : 색인한 게시글 중 가장 큰 ID (이보다 큰 게시글은 색인 이후 작성됨)
+    private static final String SYNCED_DATE_KEY = "syncedDate";
+    // 색인 커밋에 저장하는 값 : 마지막으로 DB와 맞춘 날짜 (이 날부터 수정된 게시글은 색인 이후 수정되었을 수 있음)
+
+    private final BoardRepository boardRepository;
+    private final Analyzer indexAnalyzer = new NGramAnalyzer();
+    private final Analyzer queryAnalyzer = new WordAnalyzer();
+    private final Directory directory;
+    private final IndexWriter indexWriter;
+    private final SearcherManager searcherManager;
+    // 검색용 IndexSearcher 관리 (변경 후 refresh 하면 커밋 전이라도 바로 검색됨)
+    private final ReentrantLock rebuildLock = new ReentrantLock();
+    // 전체 재색인이 동시에 두 번 실행되지 않도록 잠금
+    private final AtomicLong maxIndexedId = new AtomicLong();
+    private volatile LocalDate syncedDate;
+    // 저장된 색인에 기록이 없으면 null (처음 만들었거나 이전 형식의 색인)
+
+    @Autowired
+    public BoardSearchIndex(BoardRepository boardRepository,
+                            @Value("${board.search.index-dir:./data/search-index}") String indexDir) throws IOException {
+        this(boardRepository, FSDirectory.open(Files.createDirectories(Path.of(indexDir))));
+    }
+
+    BoardSearchIndex(BoardRepository boardRepository, Directory directory) throws IOException {
+        this.boardRepository = boardRepository;
+        this.directory = directory;
+        IndexWriterConfig config = new IndexWriterConfig(indexAnalyzer);
+        config.setOpenMode(IndexWriterConfig.OpenMode.CREATE_OR_APPEND);
+        this.indexWriter = new IndexWriter(directory, config);
+        this.searcherManager = new SearcherManager(indexWriter, null);
+
+        Map<String, String> commitData = new HashMap<>();
+        Iterable<Map.Entry<String, String>> liveCommitData = indexWriter.getLiveCommitData();
+        if (liveCommitData != null) {
+            liveCommitData.forEach(entry -> commitData.put(entry.getKey(), entry.getValue()));
+        }
+        if (commitData.containsKey(MAX_ID_KEY) && commitData.containsKey(SYNCED_DATE_KEY)) {
+            this.maxIndexedId.set(Long.parseLong(commitData.get(MAX_ID_KEY)));
+            this.syncedDate = LocalDate.parse(commitData.get(SYNCED_DATE_KEY));
+        }
+    }
+
+    // 저장된 색인을 DB와 맞춤, 전체 재색인했으면 true
+    // 마지막으로 색인한 ID보다 큰 게시글과 마지막으로 맞춘 날부터 수정된 게시글만 다시 색인하고 (수정일은 날짜 단위)
+    // 그래도 게시글 수가 다르면 (꺼져 있는 동안 삭제된 게시글이 있으면) 전체 재색인한다.
+    public boolean rebuildIfStale() throws IOException {
+        rebuildLock.lock();
+        try {
+            LocalDate since = syncedDate;
+            if (since == null) {
+                rebuild();
+                return true;
+            }
+
+            LocalDate startedAt = LocalDate.now();
+            indexBoards(lastId -> boardRepository.findByIdGreaterThanOrderByIdAsc(
+                    lastId, PageRequest.of(0, REBUILD_BATCH_SIZE)), maxIndexedId.get());
+            indexBoards(lastId -> boardRepository.findByIdGreaterThanAndUpdatedAtGreaterThanEqualOrderByIdAsc(
+                    lastId, since, PageRequest.of(0, REBUILD_BATCH_SIZE)), 0L);
+            syncedDate = startedAt;
+            commitIndex();
+            if (indexWriter.getDocStats().numDocs != boardRepository.count()) {
+                rebuild();
+                return true;
+            }
+            return false;
+        } finally {
+            rebuildLock.unlock();
+        }
+    }
+
+    // DB의 모든 게시글로 색인을 다시 만든다.
+    // DB/디스크 I/O 동안 잠금을 잡으므로 synchronized 대신 ReentrantLock 사용 (가상 스레드 고정 방지)
+    public void rebuild() throws IOException {
+        rebuildLock.lock();
+        try {
+            LocalDate startedAt = LocalDate.now();
+            indexWriter.deleteAll();
+            maxIndexedId.set(0L);
+            indexBoards(lastId -> boardRepository.findByIdGreaterThanOrderByIdAsc(
+                    lastId, PageRequest.of(0, REBUILD_BATCH_SIZE)), 0L);
+            syncedDate = startedAt;
+            commitIndex();
+        } finally {
+            rebuildLock.unlock();
+        }
+    }
+
+    // 지정한 ID보다 큰 게시글을 색인에 추가 (일괄 등록처럼 이벤트 없이 저장된 게시글 반영)
+    public void indexBoardsAfter(long lastId) throws IOException {
+        indexBoards(afterId -> boardRepository.findByIdGreaterThanOrderByIdAsc(
+                afterId, PageRequest.of(0, REBUILD_BATCH_SIZE)), lastId);
+        commitIndex();
+    }
+
+    // ID 순으로 나눠서 읽으면서 색인 (게시글이 많아도 한 번에 메모리에 올리지 않음)
+    private void indexBoards(LongFunction<List<Board>> nextBatch, long lastId) throws IOException {
+        List<Board> boards;
+        do {
+            boards = nextBatch.apply(lastId);
+            for (Board board : boards) {
+                index(board);
+                lastId = board.getId();
+            }
+        } while (boards.size() == REBUILD_BATCH_SIZE);
+        searcherManager.maybeRefresh();
+    }
+
+    private void index(Board board) throws IOException {
+        indexWriter.updateDocument(new Term(FIELD_ID, String.valueOf(board.getId())), toDocument(board));
+        maxIndexedId.accumulateAndGet(board.getId(), Math::max);
+    }
+
+    // 마지막으로 색인한 ID와 날짜를 함께 커밋
+    private void commitIndex() throws IOException {
+        LocalDate synced = syncedDate;
+        if (synced != null) {
+            indexWriter.setLiveCommitData(Map.of(
+                    MAX_ID_KEY, String.valueOf(maxIndexedId.get()),
+                    SYNCED_DATE_KEY, synced.toString()).entrySet());
+        }
+        indexWriter.commit();
+    }
+
+    // 게시글 생성/수정/삭제 반영
+    // 이벤트의 요약에는 본문 앞부분만 있으므로 커밋된 게시글을 다시 읽어서 색인한다.
+    // 색인 실패가 이미 커밋된 요청을 실패로 만들지 않도록 예외는 기록만 한다. (다음 재시작시 재색인으로 보정)
+    @TransactionalEventListener(phase = TransactionPhase.AFTER_COMMIT)
+    public void onBoardChanged(BoardChangedEvent event) {
+        try {
+            Term idTerm = new Term(FIELD_ID, String.valueOf(event.getBoardId()));
+            Board board = event.getType() == BoardChangedEvent.Type.DELETED
+                    ? null
+                    : boardRepository.findById(event.getBoardId()).orElse(null);
+            if (board == null) {
+                indexWriter.deleteDocuments(idTerm);
+            } else {
+                index(board);
+            }
+            searcherManager.maybeRefresh();
+        } catch (IOException | RuntimeException e) {
+            log.warn("게시글 검색 색인 갱신 실패: {}", event, e);
+        }
+    }
+
+    // 검색어와 일치하는 게시글 ID를 점수 순으로 조회
+    // 검색어의 모든 n-gram이 제목이나 본문에 있어야 하고, 점수는 BM25 (제목 일치에 가중치)
+    public Result search(String text, int offset, int limit) {
+        Query query = buildQuery(text);
+        if (query == null) {
+            return new Result(List.of(), 0);
+        }
+
+        try {
+            IndexSearcher searcher = searcherManager.acquire();
+            try {
+                TopDocs topDocs = searcher.search(query, offset + limit);
+                StoredFields storedFields = searcher.storedFields();
+                List<Hit> hits = new ArrayList<>();
+                for (int i = offset; i < topDocs.scoreDocs.length; i++) {
+                    ScoreDoc scoreDoc = topDocs.scoreDocs[i];
+                    String id = storedFields.document(scoreDoc.doc).get(FIELD_ID);
+                    hits.add(new Hit(Long.valueOf(id), scoreDoc.score));
+                }
+                // 전체 건수는 MAX_SEARCH_WINDOW 까지만 정확히 계산됨
+                return new Result(hits, Math.min(topDocs.totalHits.value, MAX_SEARCH_WINDOW));
+            } finally {
+                searcherManager.release(searcher);
+            }
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+
+    // 마지막 커밋 이후 변경된 내용을 디스크에 반영 (재시작시 다시 색인하지 않도록)
+    @Scheduled(fixedDelayString = "${board.search.commit-interval-ms:10000}")
+    public void commit() throws IOException {
+        if (indexWriter.hasUncommittedChanges()) {
+            commitIndex();
+        }
+    }
+
+    // 종료시 남은 변경을 커밋하고 색인 파일을 닫음
+    @PreDestroy
+    public void close() throws IOException {
+        searcherManager.close();
+        indexWriter.close();
+        directory.close();
+    }
+
+    private Document toDocument(Board board) {
+        Document document = new Document();
+        document.add(new StringField(FIELD_ID, String.valueOf(board.getId()), Field.Store.YES));
+        document.add(new TextField(FIELD_TITLE, nullToEmpty(board.getTitle()), Field.Store.NO));
+        document.add(new TextField(FIELD_CONTENT, nullToEmpty(board.getContent()), Field.Store.NO));
+        return document;
+    }
+
+    // 검색어의 각 n-gram이 (제목 또는 본문)에 있어야 하는 쿼리 (검색할 단어가 없으면 null)
+    private Query buildQuery(String text) {
+        Set<String> terms = queryTerms(text);
+        if (terms.isEmpty()) {
+            return null;
+        }
+
+        BooleanQuery.Builder builder = new BooleanQuery.Builder();
+        for (String term : terms) {
+            Query titleQuery = new BoostQuery(new TermQuery(new Term(FIELD_TITLE, term)), TITLE_BOOST);
+            Query contentQuery = new TermQuery(new Term(FIELD_CONTENT, term));
+            builder.add(new BooleanQuery.Builder()
+                    .add(titleQuery, BooleanClause.Occur.SHOULD)
+                    .add(contentQuery, BooleanClause.Occur.SHOULD)
+                    .build(), BooleanClause.Occur.MUST);
+        }
+        return builder.build();
+    }
+
+    // 검색어를 단어로 나눈 뒤 색인과 같은 방식으로 n-gram 생성
+    // 색인에는 원래 단어도 함께 들어있지만 검색은 n-gram으로만 하여 단어 일부로도 찾을 수 있게 함
+    // 한 글자 단어는 색인에 한 글자 n-gram이 없어 한 글자로 된 단어에만 일치하므로 검색어에서 제외한다.
+    // (검색어가 한 글자 단어뿐이면 빈 집합, BoardService에서 400으로 응답)
+    Set<String> queryTerms(String text) {
+        Set<String> terms = new LinkedHashSet<>();
+        if (text == null) {
+            return terms;
+        }
+        try (TokenStream stream = queryAnalyzer.tokenStream(FIELD_CONTENT, new StringReader(text))) {
+            CharTermAttribute termAttribute = stream.addAttribute(CharTermAttribute.class);
+            stream.reset();
+            while (stream.incrementToken()) {
+                int[] codePoints = termAttribute.toString().codePoints().toArray();
+                if (codePoints.length < GRAM_SIZE) {
+                    continue;
+                }
+                if (codePoints.length == GRAM_SIZE) {
+                    terms.add(new String(codePoints, 0, codePoints.length));
+                    continue;
+                }
+                for (int i = 0; i + GRAM_SIZE <= codePoints.length; i++) {
+                    terms.add(new String(codePoints, i, GRAM_SIZE));
+                }
+            }
+            stream.end();
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+        return terms;
+    }
+
+    private static String nullToEmpty(String value) {
+        return value != null ? value : "";
+    }
+
+    // 검색 결과 한 건 (게시글 ID, 점수)
+    public record Hit(Long boardId, float score) {}
+
+    // 검색 결과 (요청한 범위의 결과, 전체 건수)
+    public record Result(List<Hit> hits, long total) {}
+
+    // 색인용 분석기 : 단어 단위로 자르고 소문자로 바꾼 뒤 2글자씩 겹치게 자름 ("게시판" → "게시", "시판")
+    // 2글자 이하 단어와 원래 단어도 그대로 유지
+    private static final class NGramAnalyzer extends Analyzer {
+        @Override
+        protected TokenStreamComponents createComponents(String fieldName) {
+            Tokenizer tokenizer = new StandardTokenizer();
+            TokenStream stream = new LowerCaseFilter(tokenizer);
+            stream = new NGramTokenFilter(stream, GRAM_SIZE, GRAM_SIZE, true);
+            return new TokenStreamComponents(tokenizer, stream);
+        }
+    }
+
+    // 검색어용 분석기 : 단어 단위로 자르고 소문자로만 바꿈 (n-gram은 queryTerms에서 생성)
+    private static final class WordAnalyzer extends Analyzer {
+        @Override
+        protected TokenStreamComponents createComponents(String fieldName) {
+            Tokenizer tokenizer = new StandardTokenizer();
+            return new TokenStreamComponents(tokenizer, new LowerCaseFilter(tokenizer));
+        }
+    }
+}
@@ -1,22 +1,36 @@
 package com.ohgireffers.board.service;
 
+import com.ohgireffers.board.config.CacheConfig;
+import com.ohgireffers.board.event.BoardChangedEvent;
+import com.ohgireffers.board.exception.NotFoundException;
+import com.ohgireffers.board.exception.VersionMismatchException;
 import com.ohgireffers.board.model.dto.BoardRequsetDTO;
 import com.ohgireffers.board.model.dto.BoardResponseDTO;
+import com.ohgireffers.board.model.dto.BoardSearchHitDTO;
+import com.ohgireffers.board.model.dto.BoardSummaryDTO;
+import com.ohgireffers.board.model.dto.BoardTrendingDTO;
+import com.ohgireffers.board.model.dto.SliceResponseDTO;
 import com.ohgireffers.board.model.entity.Board;
 import com.ohgireffers.board.repository.BoardRepository;
 import jakarta.transaction.Transactional;
 import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.cache.annotation.Cacheable;
+import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageImpl;
 import org.springframework.data.domain.PageRequest;
 import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Slice;
 import org.springframework.data.domain.Sort;
 import org.springframework.stereotype.Service;
 import org.springframework.util.StringUtils;
 
 import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.HashMap;
 import java.util.List;
+import java.util.Map;
 import java.util.Optional;
-import java.util.stream.Collectors;
 
 // 게시글 관련 비즈니스 로직을 처리하는 서비스 클래스
 // 비즈니스 유효성 검사 포함
@@ -29,26 +43,38 @@ public class BoardService {
     // 내용 최대 길이
     private static final int MAX_AUTHOR_LENGTH = 20;
     // 작성자 최대 길이
-    private static final int MAX_PAGE_SIZE = 100;
+    static final int MAX_PAGE_SIZE = 100;
     // 페이지당 최대 게시글 수
+    static final Sort LIST_SORT = Sort.by("createAt").descending().and(Sort.by("id").descending());
+    // 목록 정렬 기준 (생성일 내림차순, 같은 날이면 ID 내림차순)
+    private static final int MAX_QUERY_LENGTH = 100;
+    // 검색어 최대 길이
     
     private BoardRepository boardRepository;
+    private BoardFrontPageCache frontPageCache;
+    private ApplicationEventPublisher eventPublisher;
+    private BoardSearchIndex searchIndex;
+    private BoardTrendingRanking trendingRanking;
+    private BoardThreadDeleter threadDeleter;
 
     // 의존성 주입을 위해서 사용
     @Autowired
-    public BoardService(BoardRepository boardRepository) {
+    public BoardService(BoardRepository boardRepository, BoardFrontPageCache frontPageCache,
+                        ApplicationEventPublisher eventPublisher, BoardSearchIndex searchIndex,
+                        BoardTrendingRanking trendingRanking, BoardThreadDeleter threadDeleter) {
         this.boardRepository = boardRepository;
+        this.frontPageCache = frontPageCache;
+        this.eventPublisher = eventPublisher;
+        this.searchIndex = searchIndex;
+        this.trendingRanking = trendingRanking;
+        this.threadDeleter = threadDeleter;
     }
 
     // 전체 조회
-    public List<BoardResponseDTO> findAllBoards() {
-        List<Board> boards = boardRepository.findAll();
-
-        // stream() 메서드를 호출하여 Stream 객체 생성
-        // Stream API는 컬렉션의 요소들을 함수형 스타일로 처리할 수 있도록 지원 (원본을 바꾸지 않음)
-        // map() 스트림의 각 요소를 다른 형태로 변환하는 역할 (Board -> BoardResponseDTO로 변환)
-        // collect() 최종연산으로 스트림의 요소들을 특정 결과 컨테이너로 수집하는 역할
-        return boards.stream().map(BoardResponseDTO::new).collect(Collectors.toList());
+    // 목록에는 본문 전체가 필요 없으므로 엔티티 대신 요약 DTO로 바로 조회한다.
+    // 결과를 모두 메모리에 올리므로 전체 게시글이 필요하면 BoardExporter(스트리밍)를 사용
+    public List<BoardSummaryDTO> findAllBoards() {
+        return boardRepository.findAllSummaries();
     }
 
     // 게시글 생성
@@ -65,10 +91,15 @@ public class BoardService {
         // updatedAt은 실제 수정이 일어날 때만 설정 (생성 시에는 null)
         
         Board savedBoard = boardRepository.save(board);
+        // 커밋 후 목록 캐시에 반영
+        eventPublisher.publishEvent(BoardChangedEvent.created(new BoardSummaryDTO(savedBoard)));
         return new BoardResponseDTO(savedBoard);
     }
 
     // 단일 조회
+    // 조회 결과를 캐시에 저장하여 같은 게시글을 다시 조회할 때는 DB에 접근하지 않는다. (수정/삭제 커밋 후 캐시 삭제)
+    // sync = true : 같은 게시글을 동시에 여러 요청이 조회해도 DB 조회는 한 번만 일어난다.
+    @Cacheable(cacheNames = CacheConfig.BOARD_CACHE, key = "#id", sync = true)
     public BoardResponseDTO getBoard(Long id) {
         // ID 유효성 검사
         validateBoardId(id);
@@ -83,8 +114,11 @@ public class BoardService {
     }
 
     // 게시글 수정
+    // expectedVersion : 클라이언트가 마지막으로 본 게시글 버전 (If-Match), null 이면 버전 확인 생략
+    // 버전이 다르면 VersionMismatchException, 저장 시점에 다른 요청이 먼저 수정했다면 OptimisticLockingFailureException 발생
+    // 단건 조회 캐시는 커밋 후 BoardCacheEvictor가 삭제
     @Transactional
-    public Board updateboard(Long id, BoardRequsetDTO boardRequsetDTO) {
+    public Board updateboard(Long id, BoardRequsetDTO boardRequsetDTO, Long expectedVersion) {
         // ID 유효성 검사
         validateBoardId(id);
         
@@ -92,7 +126,10 @@ public class BoardService {
         validateBoardRequest(boardRequsetDTO);
         
         Board existingBoard = boardRepository.findById(id)
-                .orElseThrow(() -> new IllegalArgumentException("수정할 게시글을 찾을 수 없습니다: " + id));
+                .orElseThrow(() -> new NotFoundException("수정할 게시글을 찾을 수 없습니다: " + id));
+        if (expectedVersion != null && !expectedVersion.equals(existingBoard.getVersion())) {
+            throw new VersionMismatchException(Board.class, id);
+        }
 
         // 기존 게시글 정보 업데이트
         existingBoard.setTitle(boardRequsetDTO.getTitle());
@@ -101,42 +138,155 @@ public class BoardService {
         existingBoard.setUpdatedAt(LocalDate.now());
         
         // 해당 값에 새로 요청온 값을 다시 쓰고 저장
-        return boardRepository.save(existingBoard);
+        // 바로 flush 하여 버전 충돌(UPDATE ... WHERE version = ?)을 이 메서드 안에서 확인
+        Board savedBoard = boardRepository.saveAndFlush(existingBoard);
+        eventPublisher.publishEvent(BoardChangedEvent.updated(new BoardSummaryDTO(savedBoard)));
+        return savedBoard;
     }
 
-    // 게시글 삭제
+    // 게시글 삭제 (댓글도 함께 삭제)
+    // 댓글은 깊은 단계부터 단계별 일괄 DELETE로 지운다. (BoardThreadDeleter)
+    // 댓글이 아주 많으면 삭제 진행 중으로 표시하고 백그라운드에서 나눠 지운 뒤 false를 반환한다. (게시글은 댓글을 모두 지운 뒤 삭제됨)
     @Transactional
     public boolean deleteboard(Long id) {
         // ID 유효성 검사
         validateBoardId(id);
         
         Board existingBoard = boardRepository.findById(id)
-                .orElseThrow(() -> new IllegalArgumentException("삭제할 게시글을 찾을 수 없습니다: " + id));
+                .orElseThrow(() -> new NotFoundException("삭제할 게시글을 찾을 수 없습니다: " + id));
 
         // 게시글 삭제 전 추가 검증 (예: 댓글이 있는지 확인 등)
         // validateBoardDeletion(existingBoard);
-        
+
+        if (existingBoard.isDeleting() || threadDeleter.isDeleting(id)
+                || threadDeleter.isLargeThread(existingBoard.getCommentCount())) {
+            // 커밋되면 새 댓글을 받지 않고, 서버가 재시작되어도 삭제를 이어서 진행
+            existingBoard.markDeleting();
+            threadDeleter.deleteInBackground(id);
+            return false;
+        }
+
+        threadDeleter.deleteComments(id);
         boardRepository.delete(existingBoard);
+        eventPublisher.publishEvent(BoardChangedEvent.deleted(id));
         return true;
     }
 
     // 페이징 처리된 게시글 목록 조회
     @Transactional
-    public Page<Board> getboardWithPaging(int page, int size) {
+    public Page<BoardSummaryDTO> getboardWithPaging(int page, int size) {
         // 페이징 파라미터 유효성 검사
         validatePagingParameters(page, size);
         
         // Pageable: 페이징 및 정렬 정보를 캡슐화하는 인터페이스
         // 이 객체를 repository에 전달하면 자동으로 페이징 쿼리를 생성해줌
         // 가져온 값을 정렬하는데 createAt을 기준으로 내림차순으로 설정
-        Pageable pageable = PageRequest.of(page, size, Sort.by("createAt").descending());
-        
-        return boardRepository.findAll(pageable); // 페이징된 결과 반환
+        Pageable pageable = PageRequest.of(page, size, LIST_SORT);
+
+        // 앞쪽 페이지는 메모리 캐시에서 바로 응답
+        Page<BoardSummaryDTO> cachedPage = frontPageCache.getPage(page, size);
+        if (cachedPage != null) {
+            return cachedPage;
+        }
+
+        return boardRepository.findSummaries(pageable); // 페이징된 요약 결과 반환
+    }
+
+    // 커서(키셋) 기반 게시글 목록 조회
+    // OFFSET 대신 마지막으로 본 게시글의 (createAt, id) 이후부터 조회하므로 뒤쪽 페이지도 속도가 일정하고
+    // Slice를 사용하여 count 쿼리를 실행하지 않는다.
+    @Transactional
+    public SliceResponseDTO<BoardSummaryDTO> getboardWithCursor(String after, int size) {
+        // 페이지 번호는 사용하지 않으므로 크기만 검사
+        validatePagingParameters(0, size);
+
+        Pageable pageable = PageRequest.of(0, size);
+        Slice<BoardSummaryDTO> boardSlice;
+        if (StringUtils.hasText(after)) {
+            KeysetCursor<LocalDate> cursor = KeysetCursor.decode(after, LocalDate::parse);
+            boardSlice = boardRepository.findSliceAfter(cursor.key(), cursor.id(), pageable);
+        } else {
+            // after 값이 비어있으면 첫 페이지
+            boardSlice = boardRepository.findFirstSlice(pageable);
+        }
+
+        List<BoardSummaryDTO> boards = boardSlice.getContent();
+        String nextCursor = null;
+        if (boardSlice.hasNext() && !boards.isEmpty()) {
+            BoardSummaryDTO last = boards.get(boards.size() - 1);
+            nextCursor = KeysetCursor.encode(last.getCreateAt(), last.getId());
+        }
+
+        return new SliceResponseDTO<>(boards, size, boardSlice.hasNext(), nextCursor);
+    }
+
+    // 게시글 검색 (제목/본문, 관련도 순)
+    // LIKE '%검색어%'로 본문 전체를 훑지 않고 검색 색인에서 순위를 계산한 뒤
+    // 해당 페이지의 게시글 요약만 ID로 한 번에 조회한다.
+    public Page<BoardSearchHitDTO> searchBoards(String query, int page, int size) {
+        if (!StringUtils.hasText(query)) {
+            throw new IllegalArgumentException("검색어를 입력해주세요.");
+        }
+        if (query.length() > MAX_QUERY_LENGTH) {
+            throw new IllegalArgumentException("검색어는 " + MAX_QUERY_LENGTH + "자 이하로 입력해주세요.");
+        }
+        if (searchIndex.queryTerms(query).isEmpty()) {
+            throw new IllegalArgumentException("검색어는 2글자 이상의 단어를 포함해야 합니다.");
+        }
+        validatePagingParameters(page, size);
+        if ((long) page * size + size > BoardSearchIndex.MAX_SEARCH_WINDOW) {
+            throw new IllegalArgumentException("검색 결과는 상위 " + BoardSearchIndex.MAX_SEARCH_WINDOW + "건까지만 조회할 수 있습니다.");
+        }
+
+        BoardSearchIndex.Result result = searchIndex.search(query, page * size, size);
+        List<Long> ids = result.hits().stream().map(BoardSearchIndex.Hit::boardId).toList();
+        Map<Long, BoardSummaryDTO> summaries = new HashMap<>();
+        if (!ids.isEmpty()) {
+            for (BoardSummaryDTO summary : boardRepository.findSummariesByIds(ids)) {
+                summaries.put(summary.getId(), summary);
+            }
+        }
+
+        // 색인 순위대로 정렬 (색인에 반영되기 직전에 삭제된 게시글은 제외)
+        List<BoardSearchHitDTO> hits = new ArrayList<>();
+        for (BoardSearchIndex.Hit hit : result.hits()) {
+            BoardSummaryDTO summary = summaries.get(hit.boardId());
+            if (summary != null) {
+                hits.add(new BoardSearchHitDTO(summary, hit.score()));
+            }
+        }
+        return new PageImpl<>(hits, PageRequest.of(page, size), result.total());
+    }
+
+    // 인기 게시글 조회 (인기 점수 내림차순)
+    // 순위는 메모리에서 바로 계산하고 해당 게시글 요약만 ID로 한 번에 조회한다.
+    public List<BoardTrendingDTO> getTrendingBoards(int size) {
+        validatePagingParameters(0, size);
+
+        List<BoardTrendingRanking.Ranked> ranked = trendingRanking.top(size);
+        if (ranked.isEmpty()) {
+            return List.of();
+        }
+        Map<Long, BoardSummaryDTO> summaries = new HashMap<>();
+        for (BoardSummaryDTO summary : boardRepository.findSummariesByIds(
+                ranked.stream().map(BoardTrendingRanking.Ranked::boardId).toList())) {
+            summaries.put(summary.getId(), summary);
+        }
+
+        // 순위대로 정렬 (순위에 반영되기 직전에 삭제된 게시글은 제외)
+        List<BoardTrendingDTO> boards = new ArrayList<>(ranked.size());
+        for (BoardTrendingRanking.Ranked rank : ranked) {
+            BoardSummaryDTO summary = summaries.get(rank.boardId());
+            if (summary != null) {
+                boards.add(new BoardTrendingDTO(summary, rank.score()));
+            }
+        }
+        return boards;
     }
 
 
-    // 게시글 생성/수정 요청의 기본 유효성 검사
-    private void validateBoardRequest(BoardRequsetDTO boardRequestDTO) {
+    // 게시글 생성/수정 요청의 기본 유효성 검사 (일괄 등록에서도 같은 규칙 사용)
+    static void validateBoardRequest(BoardRequsetDTO boardRequestDTO) {
         if (boardRequestDTO == null) {
             throw new IllegalArgumentException("게시글 정보가 누락되었습니다.");
         }
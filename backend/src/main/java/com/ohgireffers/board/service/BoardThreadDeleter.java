@@ -0,0 +1,174 @@
+package com.ohgireffers.board.service;
+
+import com.ohgireffers.board.event.BoardChangedEvent;
+import com.ohgireffers.board.event.CommentCountChangedEvent;
+import com.ohgireffers.board.repository.BoardRepository;
+import com.ohgireffers.board.repository.CommentRepository;
+import jakarta.annotation.PreDestroy;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Pageable;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+
+// 게시글 댓글 스레드 삭제
+// 대댓글이 부모 댓글을 FK로 참조하므로 가장 깊은 단계부터 단계(depth)마다 DELETE 문 하나로 지운다.
+// 댓글이 아주 많은 게시글(board.delete.async-threshold 초과)은 한 트랜잭션으로 지우면 댓글 테이블 잠금이 오래 유지되므로
+// 백그라운드에서 board.delete.chunk-size 개씩 나눠 각각 짧은 트랜잭션으로 지운 뒤 마지막에 게시글을 삭제한다.
+// 백그라운드 삭제할 게시글은 DB에 삭제 진행 중(deleting)으로 표시되어 새 댓글을 받지 않으며,
+// 삭제 중 서버가 종료되어도 다음 시작시(BoardDeleteInitializer) 남은 댓글부터 이어서 지운다.
+// (진행 중 목록 deleting 은 서버마다 따로 있으므로 여러 서버가 같은 게시글을 이어서 지울 수 있으나, 이미 지운 댓글은 다시 세지 않음)
+@Component
+public class BoardThreadDeleter {
+
+    private static final Logger log = LoggerFactory.getLogger(BoardThreadDeleter.class);
+
+    private final CommentRepository commentRepository;
+    private final BoardRepository boardRepository;
+    private final TransactionTemplate transactionTemplate;
+    private final ApplicationEventPublisher eventPublisher;
+    private final long asyncThreshold;
+    // 댓글 수가 이보다 많으면 백그라운드에서 나눠서 삭제
+    private final int chunkSize;
+    // 백그라운드 삭제에서 한 번의 트랜잭션으로 지울 댓글 수
+
+    private final Set<Long> deleting = ConcurrentHashMap.newKeySet();
+    // 백그라운드 삭제가 진행 중인 게시글 ID
+    private final ExecutorService executor = Executors.newSingleThreadExecutor(runnable -> {
+        Thread thread = new Thread(runnable, "board-delete");
+        thread.setDaemon(true);
+        return thread;
+    });
+
+    @Autowired
+    public BoardThreadDeleter(CommentRepository commentRepository, BoardRepository boardRepository,
+                              PlatformTransactionManager transactionManager, ApplicationEventPublisher eventPublisher,
+                              @Value("${board.delete.async-threshold:10000}") long asyncThreshold,
+                              @Value("${board.delete.chunk-size:1000}") int chunkSize) {
+        this.commentRepository = commentRepository;
+        this.boardRepository = boardRepository;
+        this.transactionTemplate = new TransactionTemplate(transactionManager);
+        this.eventPublisher = eventPublisher;
+        this.asyncThreshold = asyncThreshold;
+        this.chunkSize = Math.max(chunkSize, 1);
+    }
+
+    // 댓글 수가 많아 백그라운드에서 나눠 삭제해야 하는지
+    public boolean isLargeThread(Long commentCount) {
+        return commentCount != null && commentCount > asyncThreshold;
+    }
+
+    // 백그라운드 삭제가 진행 중인지
+    public boolean isDeleting(Long boardId) {
+        return deleting.contains(boardId);
+    }
+
+    // 게시글의 모든 댓글 삭제 (호출한 트랜잭션 안에서), 삭제한 댓글 수를 반환
+    public long deleteComments(Long boardId) {
+        Integer maxDepth = commentRepository.findMaxDepthByBoardId(boardId);
+        if (maxDepth == null) {
+            return 0;
+        }
+        long removed = 0;
+        for (int depth = maxDepth; depth >= 0; depth--) {
+            removed += commentRepository.deleteAllByIds(
+                    commentRepository.findIdsByBoardIdAndDepth(boardId, depth, Pageable.unpaged()));
+        }
+        return removed;
+    }
+
+    // 게시글과 댓글을 백그라운드에서 나눠 삭제 (이미 진행 중이면 다시 시작하지 않음)
+    // 트랜잭션 안에서 호출하면 삭제 진행 중 표시가 커밋된 뒤에 시작한다.
+    public void deleteInBackground(Long boardId) {
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+                @Override
+                public void afterCommit() {
+                    startPurge(boardId);
+                }
+            });
+        } else {
+            startPurge(boardId);
+        }
+    }
+
+    // 서버가 종료되어 끝나지 못한 백그라운드 삭제를 다시 시작, 다시 시작한 게시글 수를 반환
+    public int resumeUnfinished() {
+        List<Long> boardIds = boardRepository.findDeletingIds();
+        for (Long boardId : boardIds) {
+            startPurge(boardId);
+        }
+        return boardIds.size();
+    }
+
+    private void startPurge(Long boardId) {
+        if (!deleting.add(boardId)) {
+            return;
+        }
+        executor.execute(() -> {
+            try {
+                purge(boardId);
+            } catch (RuntimeException e) {
+                log.warn("게시글 {} 백그라운드 삭제 실패 (다시 삭제하면 남은 댓글부터 이어서 삭제)", boardId, e);
+            } finally {
+                deleting.remove(boardId);
+            }
+        });
+    }
+
+    // 종료시 대기 중인 삭제는 실행하지 않음 (진행 중인 트랜잭션은 끝까지 실행)
+    @PreDestroy
+    public void close() {
+        executor.shutdown();
+    }
+
+    // 깊은 단계부터 chunkSize 개씩 댓글을 지운 뒤 게시글 삭제
+    void purge(Long boardId) {
+        long removed = 0;
+        Integer maxDepth = commentRepository.findMaxDepthByBoardId(boardId);
+        for (int depth = maxDepth != null ? maxDepth : -1; depth >= 0; depth--) {
+            int level = depth;
+            int deleted;
+            do {
+                deleted = transactionTemplate.execute(status -> deleteChunk(boardId, level));
+                removed += deleted;
+            } while (deleted == chunkSize);
+        }
+
+        // 나눠 지우는 동안 작성된 댓글이 있으면 게시글과 같은 트랜잭션에서 함께 삭제
+        transactionTemplate.executeWithoutResult(status -> {
+            deleteComments(boardId);
+            boardRepository.findById(boardId).ifPresent(board -> {
+                boardRepository.delete(board);
+                // 커밋 후 단건/목록 캐시, 검색 색인, 인기 순위, 실시간 댓글 연결에 반영
+                eventPublisher.publishEvent(BoardChangedEvent.deleted(boardId));
+            });
+        });
+        log.info("게시글 {} 백그라운드 삭제 완료 (댓글 {}건)", boardId, removed);
+    }
+
+    // 한 단계의 댓글을 chunkSize 개까지 삭제하고 게시글 댓글 수에 반영, 삭제한 댓글 수를 반환
+    private int deleteChunk(Long boardId, int depth) {
+        List<Long> ids = commentRepository.findIdsByBoardIdAndDepth(boardId, depth, PageRequest.of(0, chunkSize));
+        if (ids.isEmpty()) {
+            return 0;
+        }
+        int deleted = commentRepository.deleteAllByIds(ids);
+        boardRepository.addCommentCount(boardId, -deleted);
+        eventPublisher.publishEvent(new CommentCountChangedEvent(boardId, -deleted));
+        return deleted;
+    }
+}
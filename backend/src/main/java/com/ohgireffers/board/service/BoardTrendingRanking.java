@@ -0,0 +1,201 @@
+package com.ohgireffers.board.service;
+
+import com.ohgireffers.board.event.BoardChangedEvent;
+import com.ohgireffers.board.event.CommentCountChangedEvent;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionPhase;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import java.sql.Date;
+import java.sql.Timestamp;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.TreeSet;
+
+// 인기 게시글 순위
+// 조회수와 댓글 작성에 가중치를 주고 시간이 지날수록 반감기(board.trending.half-life)마다 절반으로 줄어드는 점수로 순위를 매긴다.
+// 테이블을 다시 집계하지 않고 조회수 반영(BoardViewCounter)과 댓글 작성 이벤트가 들어올 때마다 해당 게시글 점수만 갱신하며,
+// 시작할 때 한 번 DB에서 최근 기록을 읽어 다시 만든다. (BoardTrendingInitializer)
+//
+// 점수는 기준 시각(landmark)으로 환산해서 저장한다. (weight * e^(λ(t - landmark)))
+// 모든 점수가 같은 비율로 줄어들기 때문에 시간이 지나도 순서가 바뀌지 않으므로 정렬된 상태를 그대로 유지하고
+// 조회할 때만 현재 시각 기준으로 되돌린다. 값이 너무 커지기 전에 기준 시각을 옮겨 다시 환산한다.
+@Component
+public class BoardTrendingRanking {
+
+    private static final Logger log = LoggerFactory.getLogger(BoardTrendingRanking.class);
+
+    static final double MAX_EXPONENT = 200;
+    // 기준 시각으로 환산한 지수가 이 값을 넘으면 기준 시각을 옮김 (double 범위 e^709 이내)
+    static final double MIN_SCORE = 1e-3;
+    // 기준 시각을 옮길 때 현재 점수가 이보다 작은 게시글은 순위에서 제외
+
+    static final String COMMENT_SQL = "select board_id, created_date from comment where created_date >= ?";
+    // 최근 댓글 작성 기록 (시작시 순위 재생성용)
+    static final String VIEW_SQL = "select id, view_count, created_at from board where created_at >= ? and view_count > 0";
+    // 최근 게시글의 누적 조회수 (조회 시각은 저장하지 않으므로 게시글 작성일에 조회된 것으로 계산)
+
+    // 점수 내림차순, 같으면 ID 내림차순 (최신 게시글 우선)
+    private static final Comparator<Entry> ORDER = Comparator
+            .comparingDouble(Entry::score).reversed()
+            .thenComparing(Entry::boardId, Comparator.reverseOrder());
+
+    private final JdbcTemplate jdbcTemplate;
+    private final double lambda;
+    // 밀리초당 감소율 (ln2 / 반감기)
+    private final double viewWeight;
+    private final double commentWeight;
+    private final int maxTracked;
+    // 메모리에 유지할 최대 게시글 수 (넘으면 점수가 가장 낮은 게시글부터 제외)
+    private final Duration rebuildWindow;
+    // 시작시 DB에서 읽을 기간
+
+    private final Map<Long, Entry> entries = new HashMap<>();
+    private final TreeSet<Entry> ranking = new TreeSet<>(ORDER);
+    private long landmark = System.currentTimeMillis();
+    // 점수 환산 기준 시각 (밀리초)
+
+    @Autowired
+    public BoardTrendingRanking(JdbcTemplate jdbcTemplate,
+                                @Value("${board.trending.half-life:6h}") Duration halfLife,
+                                @Value("${board.trending.view-weight:1}") double viewWeight,
+                                @Value("${board.trending.comment-weight:5}") double commentWeight,
+                                @Value("${board.trending.max-tracked:10000}") int maxTracked,
+                                @Value("${board.trending.rebuild-window:7d}") Duration rebuildWindow) {
+        this.jdbcTemplate = jdbcTemplate;
+        this.lambda = Math.log(2) / halfLife.toMillis();
+        this.viewWeight = viewWeight;
+        this.commentWeight = commentWeight;
+        this.maxTracked = maxTracked;
+        this.rebuildWindow = rebuildWindow;
+    }
+
+    // 조회수 반영 (BoardViewCounter가 DB에 반영한 증가분)
+    public void recordViews(Long boardId, long views) {
+        record(boardId, viewWeight * views, System.currentTimeMillis());
+    }
+
+    // 댓글 작성 반영 (삭제는 점수를 빼지 않고 시간에 따라 줄어들게 둠)
+    @TransactionalEventListener(phase = TransactionPhase.AFTER_COMMIT)
+    public void onCommentCountChanged(CommentCountChangedEvent event) {
+        if (event.getDelta() > 0) {
+            record(event.getBoardId(), commentWeight * event.getDelta(), System.currentTimeMillis());
+        }
+    }
+
+    // 삭제된 게시글은 순위에서 제외
+    @TransactionalEventListener(phase = TransactionPhase.AFTER_COMMIT)
+    public synchronized void onBoardChanged(BoardChangedEvent event) {
+        if (event.getType() == BoardChangedEvent.Type.DELETED) {
+            Entry entry = entries.remove(event.getBoardId());
+            if (entry != null) {
+                ranking.remove(entry);
+            }
+        }
+    }
+
+    // 현재 점수가 높은 게시글 limit개 (점수 내림차순)
+    public List<Ranked> top(int limit) {
+        return top(limit, System.currentTimeMillis());
+    }
+
+    // DB에서 최근 댓글 작성 기록과 게시글 조회수를 읽어 점수에 더함
+    // 시작할 때 한 번 실행하며, 읽는 동안 들어온 이벤트는 그대로 유지된다.
+    public void rebuild() {
+        long now = System.currentTimeMillis();
+        long since = now - rebuildWindow.toMillis();
+        int[] rows = new int[2];
+
+        jdbcTemplate.query(COMMENT_SQL, rs -> {
+            Timestamp createdDate = rs.getTimestamp(2);
+            if (createdDate != null) {
+                record(rs.getLong(1), commentWeight, Math.min(createdDate.getTime(), now));
+                rows[0]++;
+            }
+        }, new Timestamp(since));
+        jdbcTemplate.query(VIEW_SQL, rs -> {
+            Date createdAt = rs.getDate(3);
+            if (createdAt != null) {
+                record(rs.getLong(1), viewWeight * rs.getLong(2), Math.min(createdAt.getTime(), now));
+                rows[1]++;
+            }
+        }, new Date(since));
+
+        log.info("인기 게시글 순위 재생성 (댓글 {}건, 게시글 조회수 {}건, 순위 {}건)", rows[0], rows[1], size());
+    }
+
+    // 순위에 들어있는 게시글 수
+    public synchronized int size() {
+        return entries.size();
+    }
+
+    // time 시각에 일어난 weight 만큼의 활동을 점수에 더함
+    synchronized void record(Long boardId, double weight, long time) {
+        if (weight <= 0) {
+            return;
+        }
+        if (lambda * (time - landmark) > MAX_EXPONENT) {
+            rescale(time);
+        }
+
+        double added = weight * Math.exp(lambda * (time - landmark));
+        Entry previous = entries.get(boardId);
+        if (previous != null) {
+            ranking.remove(previous);
+        }
+        Entry entry = new Entry(boardId, previous != null ? previous.score() + added : added);
+        entries.put(boardId, entry);
+        ranking.add(entry);
+
+        if (entries.size() > maxTracked) {
+            Entry lowest = ranking.pollLast();
+            entries.remove(lowest.boardId());
+        }
+    }
+
+    synchronized List<Ranked> top(int limit, long now) {
+        double decay = Math.exp(-lambda * (now - landmark));
+        List<Ranked> result = new ArrayList<>(Math.min(limit, entries.size()));
+        for (Entry entry : ranking) {
+            if (result.size() == limit) {
+                break;
+            }
+            result.add(new Ranked(entry.boardId(), entry.score() * decay));
+        }
+        return result;
+    }
+
+    // 기준 시각을 now로 옮겨 모든 점수를 다시 환산 (순서는 그대로이므로 정렬은 유지됨)
+    private void rescale(long now) {
+        double decay = Math.exp(-lambda * (now - landmark));
+        List<Entry> rescaled = new ArrayList<>(entries.size());
+        for (Entry entry : ranking) {
+            double score = entry.score() * decay;
+            if (score >= MIN_SCORE) {
+                rescaled.add(new Entry(entry.boardId(), score));
+            }
+        }
+        entries.clear();
+        ranking.clear();
+        for (Entry entry : rescaled) {
+            entries.put(entry.boardId(), entry);
+            ranking.add(entry);
+        }
+        landmark = now;
+    }
+
+    // 기준 시각으로 환산한 게시글 점수
+    private record Entry(Long boardId, double score) {}
+
+    // 현재 시각 기준 게시글 점수
+    public record Ranked(Long boardId, double score) {}
+}
@@ -0,0 +1,218 @@
+package com.ohgireffers.board.service;
+
+import com.ohgireffers.board.config.CacheConfig;
+import com.ohgireffers.board.config.TwoLevelCache;
+import com.ohgireffers.board.model.dto.BoardResponseDTO;
+import com.ohgireffers.board.model.entity.Board;
+import com.ohgireffers.board.repository.BoardRepository;
+import jakarta.annotation.PreDestroy;
+import jakarta.persistence.EntityManagerFactory;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.cache.Cache;
+import org.springframework.cache.CacheManager;
+import org.springframework.cache.caffeine.CaffeineCache;
+import org.springframework.dao.DataAccessException;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.TreeMap;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.concurrent.locks.ReentrantLock;
+
+// 게시글 조회수 집계
+// 조회할 때마다 UPDATE 하면 인기 게시글의 같은 행에 잠금이 몰리므로 조회수는 메모리(게시글별 LongAdder)에 모아 두고
+// 일정 주기(board.view-count.flush-interval-ms)와 종료시에 게시글별 증가분을 배치 UPDATE로 한 번에 더한다.
+// 아직 DB에 반영되지 않은 조회수는 응답에 더해서 내려주므로 조회수는 바로 올라가는 것처럼 보인다.
+// 반영 후에는 캐시를 지우지 않고 캐시된 게시글의 조회수만 DB 값으로 올린다. (인기 게시글 캐시가 주기마다 비워지지 않도록)
+// (Redis 2단계 캐시를 쓰면 이 서버의 로컬 캐시만 갱신되며, 다른 서버는 로컬 캐시가 만료될 때 DB 값을 다시 읽음)
+@Component
+public class BoardViewCounter {
+
+    private static final Logger log = LoggerFactory.getLogger(BoardViewCounter.class);
+
+    static final String UPDATE_SQL = "update board set view_count = coalesce(view_count, 0) + ? where id = ?";
+
+    private final ConcurrentHashMap<Long, LongAdder> pending = new ConcurrentHashMap<>();
+    // 게시글별 아직 DB에 반영되지 않은 조회수 (LongAdder는 스레드별 칸에 나눠 더하므로 동시 조회에도 경합이 적음)
+    private final ConcurrentHashMap<Long, Long> inFlight = new ConcurrentHashMap<>();
+    // pending에서 꺼내 DB에 반영 중인 조회수 (반영이 끝나 캐시에 들어갈 때까지 응답에 계속 더함)
+    private final ReentrantLock flushLock = new ReentrantLock();
+    // 주기 작업과 종료시 반영이 겹치지 않도록 하는 잠금
+
+    private final JdbcTemplate jdbcTemplate;
+    private final TransactionTemplate transactionTemplate;
+    private final CacheManager cacheManager;
+    private final EntityManagerFactory entityManagerFactory;
+    private final BoardRepository boardRepository;
+    private final BoardTrendingRanking trendingRanking;
+    private final int batchSize;
+    // 한 번의 배치(트랜잭션)로 반영할 게시글 수
+
+    @Autowired
+    public BoardViewCounter(JdbcTemplate jdbcTemplate, PlatformTransactionManager transactionManager,
+                            CacheManager cacheManager, EntityManagerFactory entityManagerFactory,
+                            BoardRepository boardRepository, BoardTrendingRanking trendingRanking,
+                            @Value("${board.view-count.flush-batch-size:500}") int batchSize) {
+        this.jdbcTemplate = jdbcTemplate;
+        this.transactionTemplate = new TransactionTemplate(transactionManager);
+        this.cacheManager = cacheManager;
+        this.entityManagerFactory = entityManagerFactory;
+        this.boardRepository = boardRepository;
+        this.trendingRanking = trendingRanking;
+        this.batchSize = batchSize;
+    }
+
+    // 조회수 1 증가 (DB 접근 없음)
+    public void increment(Long boardId) {
+        LongAdder counter = pending.get(boardId);
+        if (counter == null) {
+            counter = pending.computeIfAbsent(boardId, id -> new LongAdder());
+        }
+        counter.increment();
+    }
+
+    // 아직 DB에 반영되지 않은 조회수 (반영 중인 조회수 포함)
+    public long pendingViews(Long boardId) {
+        LongAdder counter = pending.get(boardId);
+        return (counter != null ? counter.sum() : 0) + inFlight.getOrDefault(boardId, 0L);
+    }
+
+    // 응답용 게시글에 반영 전 조회수를 더함
+    // 캐시에 저장된 DTO를 그대로 수정하면 다음 조회에서 또 더해지므로 복사본을 만들어 반환한다.
+    public BoardResponseDTO withPendingViews(BoardResponseDTO board) {
+        long views = pendingViews(board.getId());
+        if (views <= 0) {
+            return board;
+        }
+        BoardResponseDTO copy = new BoardResponseDTO(board);
+        copy.setViewCount(board.getViewCount() + views);
+        return copy;
+    }
+
+    // 모인 조회수를 DB에 반영
+    // 게시글 ID 순으로 정렬해 UPDATE 하여 여러 서버가 동시에 반영해도 행 잠금 순서가 같도록 한다.
+    // 반영할 조회수는 UPDATE 전에 pending에서 빼고(반영 후 빼면 그 사이 실패시 같은 조회수가 두 번 더해질 수 있음)
+    // 반영에 실패한 배치는 pending에 되돌려 다음 주기에 다시 시도한다.
+    @Scheduled(fixedDelayString = "${board.view-count.flush-interval-ms:5000}")
+    public void flush() {
+        flushLock.lock();
+        try {
+            Map<Long, Long> deltas = new TreeMap<>();
+            for (Map.Entry<Long, LongAdder> entry : pending.entrySet()) {
+                long views = entry.getValue().sum();
+                if (views > 0) {
+                    // 읽은 만큼만 빼므로 그 사이에 늘어난 조회수는 남아 있음
+                    entry.getValue().add(-views);
+                    inFlight.put(entry.getKey(), views);
+                    deltas.put(entry.getKey(), views);
+                } else {
+                    removeIdle(entry.getKey(), entry.getValue());
+                }
+            }
+
+            List<Map.Entry<Long, Long>> batch = new ArrayList<>(batchSize);
+            for (Map.Entry<Long, Long> delta : deltas.entrySet()) {
+                batch.add(delta);
+                if (batch.size() == batchSize) {
+                    writeBatch(batch);
+                    batch.clear();
+                }
+            }
+            if (!batch.isEmpty()) {
+                writeBatch(batch);
+            }
+        } finally {
+            flushLock.unlock();
+        }
+    }
+
+    // 종료시 남은 조회수 반영
+    @PreDestroy
+    public void close() {
+        flush();
+    }
+
+    private void writeBatch(List<Map.Entry<Long, Long>> batch) {
+        List<Object[]> rows = new ArrayList<>(batch.size());
+        for (Map.Entry<Long, Long> delta : batch) {
+            rows.add(new Object[]{delta.getValue(), delta.getKey()});
+        }
+        try {
+            transactionTemplate.executeWithoutResult(status -> jdbcTemplate.batchUpdate(UPDATE_SQL, rows));
+        } catch (DataAccessException e) {
+            log.warn("조회수 반영 실패 (게시글 {}개, 다음 주기에 다시 시도)", batch.size(), e);
+            for (Map.Entry<Long, Long> delta : batch) {
+                pending.computeIfAbsent(delta.getKey(), id -> new LongAdder()).add(delta.getValue());
+                inFlight.remove(delta.getKey());
+            }
+            return;
+        }
+
+        refreshCachedBoards(batch.stream().map(Map.Entry::getKey).toList());
+        for (Map.Entry<Long, Long> delta : batch) {
+            inFlight.remove(delta.getKey());
+            // 인기 게시글 점수에는 DB에 반영된 조회수만 더함 (최대 반영 주기만큼 늦게 반영됨)
+            trendingRanking.recordViews(delta.getKey(), delta.getValue());
+        }
+    }
+
+    // 반영한 게시글을 한 번의 조회로 다시 읽어 캐시된 조회수를 DB 값으로 맞춤
+    // - 2차 캐시 : 같은 버전의 엔티티는 덮어쓰지 않으므로 지운 뒤 다시 읽어 채움 (조회수는 버전을 올리지 않음)
+    // - 게시글 단건 캐시 : 캐시에 있는 게시글만 조회수를 올린 복사본으로 교체 (없는 게시글은 다음 조회에서 읽음)
+    // 다시 읽기에 실패하면 2차 캐시는 다음 조회에서 채워지고 단건 캐시는 만료될 때까지 이전 조회수를 보여준다.
+    private void refreshCachedBoards(List<Long> boardIds) {
+        jakarta.persistence.Cache entityCache = entityManagerFactory.getCache();
+        for (Long boardId : boardIds) {
+            entityCache.evict(Board.class, boardId);
+        }
+        List<Board> boards;
+        try {
+            boards = transactionTemplate.execute(status -> boardRepository.findAllById(boardIds));
+        } catch (DataAccessException e) {
+            log.warn("조회수 반영 후 게시글 다시 읽기 실패 (게시글 {}개)", boardIds.size(), e);
+            return;
+        }
+
+        Cache boardCache = cacheManager.getCache(CacheConfig.BOARD_CACHE);
+        if (boardCache instanceof TwoLevelCache twoLevelCache) {
+            boardCache = twoLevelCache.getLocal();
+        }
+        if (!(boardCache instanceof CaffeineCache caffeineCache) || boards == null) {
+            return;
+        }
+        for (Board board : boards) {
+            long viewCount = board.getViewCount() != null ? board.getViewCount() : 0;
+            // 캐시 삭제(게시글 수정/삭제)와 겹쳐도 지워진 게시글을 다시 넣지 않도록 있는 항목만 원자적으로 교체
+            caffeineCache.getNativeCache().asMap().computeIfPresent(board.getId(), (id, cached) -> {
+                if (!(cached instanceof BoardResponseDTO dto) || dto.getViewCount() >= viewCount) {
+                    return cached;
+                }
+                BoardResponseDTO copy = new BoardResponseDTO(dto);
+                copy.setViewCount(viewCount);
+                return copy;
+            });
+        }
+    }
+
+    // 반영할 조회수가 없는 게시글은 맵에서 제거 (조회된 적 있는 게시글이 계속 쌓이지 않도록)
+    // 제거하는 순간 다른 스레드가 같은 카운터를 증가시켰다면 새 카운터로 옮긴다.
+    // (옮긴 뒤에도 제거된 카운터를 증가시키는 경우는 유실되지만 조회수 집계에서는 허용)
+    private void removeIdle(Long boardId, LongAdder counter) {
+        if (pending.remove(boardId, counter)) {
+            long late = counter.sum();
+            if (late > 0) {
+                pending.computeIfAbsent(boardId, id -> new LongAdder()).add(late);
+            }
+        }
+    }
+}
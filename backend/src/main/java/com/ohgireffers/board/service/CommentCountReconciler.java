@@ -0,0 +1,38 @@
+package com.ohgireffers.board.service;
+
+import com.ohgireffers.board.repository.BoardRepository;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+// 게시글에 저장된 댓글 수(comment_count)를 실제 댓글 개수와 주기적으로 맞춰주는 클래스
+// 댓글 생성/삭제시 증감 쿼리가 실패하거나 직접 DB를 수정한 경우 생긴 차이를 보정한다.
+// 값이 다른 게시글만 SQL로 직접 수정하고 해당 게시글의 2차 캐시만 비운다. (BoardCommentCountRepositoryImpl)
+@Component
+public class CommentCountReconciler {
+
+    private final BoardRepository boardRepository;
+    private final int chunkSize;
+    // 한 번에 보정할 게시글 ID 범위 (범위마다 별도 트랜잭션이라 락이 오래 잡히지 않음)
+
+    @Autowired
+    public CommentCountReconciler(BoardRepository boardRepository,
+                                  @Value("${board.comment-count.reconcile-chunk-size:1000}") int chunkSize) {
+        this.boardRepository = boardRepository;
+        this.chunkSize = Math.max(chunkSize, 1);
+    }
+
+    // 애플리케이션 시작 후 1분 뒤부터 설정된 간격(기본 10분)마다 실행
+    @Scheduled(initialDelayString = "${board.comment-count.reconcile-initial-delay-ms:60000}",
+            fixedDelayString = "${board.comment-count.reconcile-interval-ms:600000}")
+    public void reconcile() {
+        Long maxId = boardRepository.findMaxId();
+        if (maxId == null) {
+            return;
+        }
+        for (long fromId = 1; fromId <= maxId; fromId += chunkSize) {
+            boardRepository.reconcileCommentCounts(fromId, fromId + chunkSize - 1);
+        }
+    }
+}
@@ -1,87 +1,297 @@
 package com.ohgireffers.board.service;
 
+import com.ohgireffers.board.event.CommentChangedEvent;
+import com.ohgireffers.board.event.CommentCountChangedEvent;
+import com.ohgireffers.board.exception.NotFoundException;
+import com.ohgireffers.board.exception.VersionMismatchException;
+import com.ohgireffers.board.model.dto.CommentParentDTO;
 import com.ohgireffers.board.model.dto.CommentRequestDTO;
 import com.ohgireffers.board.model.dto.CommentResponseDTO;
+import com.ohgireffers.board.model.dto.SliceResponseDTO;
 import com.ohgireffers.board.model.entity.Board;
 import com.ohgireffers.board.model.entity.Comment;
 import com.ohgireffers.board.repository.BoardRepository;
 import com.ohgireffers.board.repository.CommentRepository;
 import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Slice;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
+import org.springframework.util.StringUtils;
 
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.HashMap;
 import java.util.List;
-import java.util.stream.Collectors;
+import java.util.Map;
 
 @Service
 @Transactional
 public class CommentService {
 
+    private static final int MAX_PAGE_SIZE = 100;
+    // 페이지당 최대 댓글 수
+
     private final CommentRepository commentRepository;
     private final BoardRepository boardRepository;
+    private final ApplicationEventPublisher eventPublisher;
 
     @Autowired
-    public CommentService(CommentRepository commentRepository, BoardRepository boardRepository) {
+    public CommentService(CommentRepository commentRepository, BoardRepository boardRepository,
+                          ApplicationEventPublisher eventPublisher) {
         this.commentRepository = commentRepository;
         this.boardRepository = boardRepository;
+        this.eventPublisher = eventPublisher;
     }
 
     // 댓글 생성
+    // 게시글과 부모 댓글은 엔티티를 읽지 않고 참조(프록시)로 FK만 지정한다.
+    // - 게시글 : 존재 여부만 확인(PK 조회) 후 getReferenceById (삭제 진행 중인 게시글은 없는 게시글로 처리)
+    // - 부모 댓글 : 깊이/경로 계산에 필요한 (board_id, depth, path)만 조회
+    // INSERT 중 발생한 제약조건 위반(DataIntegrityViolationException)은 원인을 알 수 없으므로 그대로 전달한다.
     public CommentResponseDTO createComment(CommentRequestDTO requestDTO) {
-        Board board = boardRepository.findById(requestDTO.getBoardId())
-                .orElseThrow(() -> new RuntimeException("게시글을 찾을 수 없습니다."));
-
         Comment comment;
+        String parentPath = null;
+        Board board = boardRepository.getReferenceById(requestDTO.getBoardId());
         if (requestDTO.getParentCommentId() != null) {
-            Comment parentComment = commentRepository.findById(requestDTO.getParentCommentId())
-                    .orElseThrow(() -> new RuntimeException("부모 댓글을 찾을 수 없습니다."));
-            comment = new Comment(requestDTO.getTextBody(), requestDTO.getUser(), board, parentComment);
+            CommentParentDTO parent = commentRepository.findParentInfoById(requestDTO.getParentCommentId())
+                    .orElseThrow(() -> new IllegalArgumentException("부모 댓글을 찾을 수 없습니다."));
+            if (!parent.getBoardId().equals(requestDTO.getBoardId())) {
+                throw new IllegalArgumentException("부모 댓글이 해당 게시글의 댓글이 아닙니다.");
+            }
+            if (parent.getDepth() >= Comment.MAX_DEPTH) {
+                throw new IllegalArgumentException("대댓글은 최대 " + Comment.MAX_DEPTH + "단계까지 작성할 수 있습니다.");
+            }
+            Comment parentComment = commentRepository.getReferenceById(requestDTO.getParentCommentId());
+            comment = new Comment(requestDTO.getTextBody(), requestDTO.getUser(), board, parentComment,
+                    parent.getDepth() + 1);
+            parentPath = parent.getPath();
         } else {
             comment = new Comment(requestDTO.getTextBody(), requestDTO.getUser(), board);
         }
 
+        // 게시글의 댓글 수 증가 (UPDATE ... SET comment_count = comment_count + 1 WHERE deleting = false)
+        // 수정된 행이 없으면 없거나 삭제 진행 중인 게시글 -> INSERT 하지 않고 거절 (예외로 트랜잭션 롤백)
+        if (boardRepository.addCommentCountUnlessDeleting(requestDTO.getBoardId(), 1) == 0) {
+            throw new IllegalArgumentException("게시글을 찾을 수 없습니다.");
+        }
         Comment savedComment = commentRepository.save(comment);
-        return convertToDTO(savedComment);
+        // path에는 자신의 ID가 들어가므로 INSERT로 ID가 생성된 뒤에 지정 (ID는 INSERT 때 DB에서 생성됨)
+        // 바로 flush 하여 path 수정으로 올라간 버전이 응답에 담기도록 함
+        savedComment.assignPath(parentPath);
+        commentRepository.flush();
+        eventPublisher.publishEvent(new CommentCountChangedEvent(requestDTO.getBoardId(), 1));
+        CommentResponseDTO responseDTO = convertToDTO(savedComment);
+        eventPublisher.publishEvent(CommentChangedEvent.created(responseDTO));
+        return responseDTO;
     }
 
     // 게시글의 모든 댓글 조회 (계층구조)
     @Transactional(readOnly = true)
     public List<CommentResponseDTO> getCommentsByBoardId(Long boardId) {
-        List<Comment> allComments = commentRepository.findByBoardIdOrderByCreatedDateAsc(boardId);
+        List<CommentResponseDTO> allComments = commentRepository.findFlatByBoardId(boardId);
         return organizeCommentsHierarchy(allComments);
     }
 
+    // 특정 댓글과 그 아래 모든 대댓글 조회 (계층구조)
+    // path가 같은 접두어로 시작하는 댓글만 인덱스 범위로 읽는다.
+    @Transactional(readOnly = true)
+    public List<CommentResponseDTO> getCommentThread(Long commentId) {
+        Comment comment = commentRepository.findById(commentId)
+                .orElseThrow(() -> new IllegalArgumentException("댓글을 찾을 수 없습니다."));
+
+        List<CommentResponseDTO> subtree = commentRepository.findSubtree(comment.getBoard().getId(), comment.getPath());
+        return organizeCommentsHierarchy(subtree);
+    }
+
+    // 게시글의 최상위 댓글 커서 페이징 조회
+    // 대댓글은 포함하지 않고 각 댓글의 바로 아래 대댓글 개수만 함께 내려준다.
+    @Transactional(readOnly = true)
+    public SliceResponseDTO<CommentResponseDTO> getRootComments(Long boardId, String after, int size) {
+        validatePageSize(size);
+
+        Pageable pageable = PageRequest.of(0, size);
+        Slice<CommentResponseDTO> slice;
+        if (StringUtils.hasText(after)) {
+            KeysetCursor<LocalDateTime> cursor = KeysetCursor.decode(after, LocalDateTime::parse);
+            slice = commentRepository.findRootSliceAfter(boardId, cursor.key(), cursor.id(), pageable);
+        } else {
+            slice = commentRepository.findRootSlice(boardId, pageable);
+        }
+        return toSliceResponse(slice, size);
+    }
+
+    // 특정 댓글의 대댓글 커서 페이징 조회 (바로 아래 단계만)
+    @Transactional(readOnly = true)
+    public SliceResponseDTO<CommentResponseDTO> getReplies(Long parentCommentId, String after, int size) {
+        validatePageSize(size);
+
+        Pageable pageable = PageRequest.of(0, size);
+        Slice<CommentResponseDTO> slice;
+        if (StringUtils.hasText(after)) {
+            KeysetCursor<LocalDateTime> cursor = KeysetCursor.decode(after, LocalDateTime::parse);
+            slice = commentRepository.findReplySliceAfter(parentCommentId, cursor.key(), cursor.id(), pageable);
+        } else {
+            slice = commentRepository.findReplySlice(parentCommentId, pageable);
+        }
+        return toSliceResponse(slice, size);
+    }
+
     // 댓글 수정
-    public CommentResponseDTO updateComment(Long commentId, CommentRequestDTO requestDTO) {
+    // expectedVersion : 클라이언트가 마지막으로 본 댓글 버전 (If-Match), null 이면 버전 확인 생략
+    // 버전이 다르면 VersionMismatchException, 저장 시점에 다른 요청이 먼저 수정했다면 OptimisticLockingFailureException 발생
+    public CommentResponseDTO updateComment(Long commentId, CommentRequestDTO requestDTO, Long expectedVersion) {
         Comment comment = commentRepository.findById(commentId)
-                .orElseThrow(() -> new RuntimeException("댓글을 찾을 수 없습니다."));
+                .orElseThrow(() -> new NotFoundException("댓글을 찾을 수 없습니다."));
+        if (expectedVersion != null && !expectedVersion.equals(comment.getVersion())) {
+            throw new VersionMismatchException(Comment.class, commentId);
+        }
 
         comment.setTextBody(requestDTO.getTextBody());
-        Comment updatedComment = commentRepository.save(comment);
-        return convertToDTO(updatedComment);
+        // 바로 flush 하여 버전 충돌을 이 메서드 안에서 확인
+        Comment updatedComment = commentRepository.saveAndFlush(comment);
+        // 댓글 스레드가 바뀌었으므로 ETag 계산용 버전 증가
+        boardRepository.increaseCommentVersion(comment.getBoard().getId());
+        CommentResponseDTO responseDTO = convertToDTO(updatedComment);
+        eventPublisher.publishEvent(CommentChangedEvent.updated(responseDTO));
+        return responseDTO;
     }
 
     // 댓글 삭제 (물리적 삭제)
+    // 댓글과 그 아래 대댓글을 한 건씩 읽지 않고 단계(depth)별 일괄 DELETE로 지운다. (deleteSubtree)
     public void deleteComment(Long commentId) {
         Comment comment = commentRepository.findById(commentId)
-                .orElseThrow(() -> new RuntimeException("댓글을 찾을 수 없습니다."));
+                .orElseThrow(() -> new NotFoundException("댓글을 찾을 수 없습니다."));
+
+        Long boardId = comment.getBoard().getId();
+        // 삭제 후에는 엔티티 값을 읽을 수 없으므로 이벤트로 보낼 댓글을 먼저 변환
+        CommentResponseDTO deletedComment = convertToDTO(comment);
+
+        long removedCount = deleteSubtree(boardId, comment);
+        // 게시글의 댓글 수 감소 (값이 어긋나더라도 CommentCountReconciler가 주기적으로 보정)
+        boardRepository.addCommentCount(boardId, -removedCount);
+        eventPublisher.publishEvent(new CommentCountChangedEvent(boardId, -removedCount));
+        eventPublisher.publishEvent(CommentChangedEvent.deleted(deletedComment));
+    }
+
+    // 댓글과 그 아래 모든 대댓글 삭제, 삭제한 댓글 수를 반환
+    // 대댓글이 부모 댓글을 FK로 참조하므로 한 DELETE 문에서 부모가 자식보다 먼저 지워지면 제약조건에 걸린다.
+    // 그래서 가장 깊은 단계부터 단계마다 ID 조회와 DELETE 문 하나로 지우며, 문장 수는 대댓글 수가 아닌 깊이에 비례한다.
+    // (DELETE는 SQL로 직접 실행하고 지운 댓글의 2차 캐시만 커밋 후 삭제, CommentDeleteRepository)
+    private long deleteSubtree(Long boardId, Comment comment) {
+        if (comment.getPath() == null) {
+            return deleteSubtreeByParent(comment.getId());
+        }
+
+        Integer maxDepth = commentRepository.findMaxSubtreeDepth(boardId, comment.getPath());
+        long removed = 0;
+        for (int depth = maxDepth != null ? maxDepth : comment.getDepth(); depth >= comment.getDepth(); depth--) {
+            removed += commentRepository.deleteAllByIds(
+                    commentRepository.findSubtreeIdsAtDepth(boardId, comment.getPath(), depth));
+        }
+        return removed;
+    }
+
+    // path가 아직 채워지지 않은 댓글은 부모 ID로 한 단계씩 내려가며 ID를 모은 뒤 깊은 단계부터 삭제
+    private long deleteSubtreeByParent(Long commentId) {
+        List<List<Long>> levels = new ArrayList<>();
+        List<Long> level = List.of(commentId);
+        while (!level.isEmpty()) {
+            levels.add(level);
+            level = commentRepository.findIdsByParentIds(level);
+        }
+
+        long removed = 0;
+        for (int i = levels.size() - 1; i >= 0; i--) {
+            removed += commentRepository.deleteAllByIds(levels.get(i));
+        }
+        return removed;
+    }
 
-        // 자식 댓글들이 있는지 확인
-        if (!comment.getReplies().isEmpty()) {
-            // 자식 댓글들도 함께 삭제 (CASCADE 설정으로 자동 처리됨)
+    // path가 비어있는 기존 댓글에 path 채우기 (depth 단계의 댓글을 afterId 다음부터 batchSize 개)
+    // 얕은 단계부터 처리하므로 부모의 path는 이전 단계에서 이미 채워져 있다. 마지막으로 읽은 댓글 ID를 반환 (없으면 null)
+    public Long backfillCommentPaths(int depth, long afterId, int batchSize) {
+        List<Comment> comments = commentRepository.findPathlessByDepthAfterId(depth, afterId, PageRequest.of(0, batchSize));
+        for (Comment comment : comments) {
+            Comment parentComment = comment.getParentComment();
+            if (parentComment != null && parentComment.getPath() == null) {
+                continue; // 부모 path가 아직 없으면 건너뜀 (다음 시작시 다시 처리)
+            }
+            comment.assignPath(parentComment != null ? parentComment.getPath() : null);
+        }
+        return comments.isEmpty() ? null : comments.get(comments.size() - 1).getId();
+    }
+
+    // path가 비어있는 댓글의 가장 깊은 단계 (없으면 null)
+    @Transactional(readOnly = true)
+    public Integer findMaxPathlessDepth() {
+        return commentRepository.findMaxPathlessDepth();
+    }
+
+    // 게시글의 댓글 스레드 버전 조회 (ETag 계산용)
+    // 댓글 목록을 읽지 않고 게시글 한 행의 값만 읽으므로 변경 여부를 싸게 확인할 수 있다.
+    @Transactional(readOnly = true)
+    public Long getCommentThreadVersion(Long boardId) {
+        Long version = boardRepository.findCommentVersionById(boardId);
+        return version != null ? version : 0L;
+    }
+
+    // 게시글 존재 확인 (없으면 IllegalArgumentException)
+    @Transactional(readOnly = true)
+    public void checkBoardExists(Long boardId) {
+        if (!boardRepository.existsById(boardId)) {
+            throw new IllegalArgumentException("해당 ID의 게시글을 찾을 수 없습니다: " + boardId);
         }
-        
-        commentRepository.delete(comment);
     }
 
     // 댓글 개수 조회
     @Transactional(readOnly = true)
     public Long getCommentCountByBoardId(Long boardId) {
-        return commentRepository.countByBoardId(boardId);
+        // 댓글 테이블을 세지 않고 게시글에 저장된 댓글 수를 읽음
+        Long count = boardRepository.findCommentCountById(boardId);
+        return count != null ? count : 0L;
+    }
+
+    // 조회된 댓글에 대댓글 개수를 채우고 다음 커서를 만들어 응답 DTO로 변환
+    private SliceResponseDTO<CommentResponseDTO> toSliceResponse(Slice<CommentResponseDTO> slice, int size) {
+        List<CommentResponseDTO> comments = slice.getContent();
+        if (!comments.isEmpty()) {
+            // 대댓글 개수는 페이지 단위로 한 번의 group by 쿼리로 조회
+            Map<Long, Long> replyCounts = new HashMap<>();
+            List<Long> ids = new ArrayList<>(comments.size());
+            for (CommentResponseDTO comment : comments) {
+                ids.add(comment.getId());
+            }
+            for (Object[] row : commentRepository.countRepliesByParentIds(ids)) {
+                replyCounts.put((Long) row[0], (Long) row[1]);
+            }
+            for (CommentResponseDTO comment : comments) {
+                comment.setReplyCount(replyCounts.getOrDefault(comment.getId(), 0L));
+            }
+        }
+
+        String nextCursor = null;
+        if (slice.hasNext() && !comments.isEmpty()) {
+            CommentResponseDTO last = comments.get(comments.size() - 1);
+            nextCursor = KeysetCursor.encode(last.getCreatedDate(), last.getId());
+        }
+        return new SliceResponseDTO<>(comments, size, slice.hasNext(), nextCursor);
+    }
+
+    // 페이지 크기 유효성 검사
+    private void validatePageSize(int size) {
+        if (size <= 0) {
+            throw new IllegalArgumentException("페이지 크기는 1 이상이어야 합니다.");
+        }
+        if (size > MAX_PAGE_SIZE) {
+            throw new IllegalArgumentException("페이지 크기는 " + MAX_PAGE_SIZE + " 이하여야 합니다.");
+        }
     }
 
     // Comment를 DTO로 변환
-    private CommentResponseDTO convertToDTO(Comment comment) {
+    static CommentResponseDTO convertToDTO(Comment comment) {
 
         //
         CommentResponseDTO dto = new CommentResponseDTO();
@@ -95,40 +305,33 @@ public class CommentService {
         dto.setOrderNumber(comment.getOrderNumber());
         dto.setCreatedDate(comment.getCreatedDate());
         dto.setModifiedDate(comment.getModifiedDate());
+        dto.setVersion(comment.getVersion());
         return dto;
     }
 
     // 계층구조 정렬 메서드
-    private List<CommentResponseDTO> organizeCommentsHierarchy(List<Comment> comments) {
-        // 1. 모든 댓글을 DTO로 변환
-        List<CommentResponseDTO> allDtos = comments.stream()
-                .map(this::convertToDTO)
-                .collect(Collectors.toList());
-
-        // 2. 최상위 댓글만 필터링
-        List<CommentResponseDTO> rootComments = allDtos.stream()
-                .filter(dto -> dto.getParentCommentId() == null)
-                .collect(Collectors.toList());
+    // 부모 ID별로 자식 목록을 한 번에 모아서 연결하므로 댓글 수에 비례하는 시간(O(n))만 걸린다.
+    // 입력 목록의 순서(path 순)가 각 대댓글 목록 안에서도 그대로 유지된다.
+    // 부모가 목록에 없는 댓글(일부 스레드만 조회한 경우의 시작 댓글)은 최상위로 취급한다.
+    static List<CommentResponseDTO> organizeCommentsHierarchy(List<CommentResponseDTO> comments) {
+        // 1. 댓글 ID로 DTO를 찾을 수 있도록 맵 구성 (대댓글 목록 초기화)
+        Map<Long, CommentResponseDTO> dtoById = new HashMap<>(comments.size() * 2);
+        for (CommentResponseDTO dto : comments) {
+            dto.setReplies(new ArrayList<>());
+            dtoById.put(dto.getId(), dto);
+        }
 
-        // 3. 각 최상위 댓글에 대댓글 연결
-        for (CommentResponseDTO rootComment : rootComments) {
-            attachReplies(rootComment, allDtos);
+        // 2. 최상위 댓글은 결과에, 대댓글은 부모의 replies에 추가
+        List<CommentResponseDTO> rootComments = new ArrayList<>();
+        for (CommentResponseDTO dto : comments) {
+            CommentResponseDTO parentDto = dto.getParentCommentId() != null ? dtoById.get(dto.getParentCommentId()) : null;
+            if (parentDto != null) {
+                parentDto.getReplies().add(dto);
+            } else {
+                rootComments.add(dto);
+            }
         }
 
         return rootComments;
     }
-
-    // 대댓글 연결 메서드 (재귀)
-    private void attachReplies(CommentResponseDTO parentDto, List<CommentResponseDTO> allDtos) {
-        List<CommentResponseDTO> replies = allDtos.stream()
-                .filter(dto -> parentDto.getId().equals(dto.getParentCommentId()))
-                .collect(Collectors.toList());
-
-        parentDto.setReplies(replies);
-
-        // 재귀적으로 대댓글의 대댓글도 처리
-        for (CommentResponseDTO reply : replies) {
-            attachReplies(reply, allDtos);
-        }
-    }
 }
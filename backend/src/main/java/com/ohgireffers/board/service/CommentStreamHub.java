@@ -0,0 +1,361 @@
+package com.ohgireffers.board.service;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.ohgireffers.board.event.BoardChangedEvent;
+import com.ohgireffers.board.event.CommentChangedEvent;
+import jakarta.annotation.PreDestroy;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.http.MediaType;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionPhase;
+import org.springframework.transaction.event.TransactionalEventListener;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
+
+import java.io.IOException;
+import java.util.Locale;
+import java.util.Set;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executor;
+import java.util.concurrent.LinkedBlockingQueue;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.LongSupplier;
+
+// 게시글별 실시간 댓글 스트림 (Server-Sent Events)
+// 커밋된 댓글 작성/수정/삭제 이벤트를 같은 게시글을 보고 있는 구독자 모두에게 전달한다.
+// 이벤트 하나당 JSON 변환은 한 번만 하고 구독자별로는 그 문자열을 큐에 넣기만 하므로,
+// 한 게시글을 수천 명이 보고 있어도 DB 조회나 변환 비용은 구독자 수와 관계없이 한 번이다.
+//
+// 전송은 구독자별 크기 제한 큐(board.comment-stream.buffer-size)와 전송 스레드 풀에서 한다.
+// 댓글을 작성한 요청 스레드는 큐에 넣기만 하고 네트워크에 쓰지 않으며,
+// 큐가 가득 찰 만큼 받지 못하는 느린 구독자는 연결을 끊는다. (클라이언트는 다시 연결한 뒤 댓글 목록을 다시 조회)
+// 전송 한 번이 board.comment-stream.send-timeout-ms 안에 끝나지 않는 구독자도 연결을 끊고,
+// 그 전송이 소켓 쓰기 제한 시간까지 스레드를 붙잡고 있는 동안에는 전송 스레드를 하나 더 두어 다른 구독자 전송이 밀리지 않게 한다.
+@Component
+public class CommentStreamHub {
+
+    private static final Logger log = LoggerFactory.getLogger(CommentStreamHub.class);
+
+    private final ConcurrentHashMap<Long, Set<Subscriber>> channels = new ConcurrentHashMap<>();
+    // 게시글 ID별 구독자 (마지막 구독자가 나가면 게시글 항목도 제거)
+    private final AtomicInteger subscriberCount = new AtomicInteger();
+    private final AtomicLong evictedCount = new AtomicLong();
+    // 느려서 연결을 끊은 구독자 수 (누적)
+
+    private final ObjectMapper objectMapper;
+    private final Executor sender;
+    private final ExecutorService ownedSender;
+    // 직접 만든 전송 스레드 풀 (종료시 정리, 테스트에서 받은 Executor는 null)
+    private final int bufferSize;
+    private final long timeoutMs;
+    private final long sendTimeoutNanos;
+    // 전송 한 번의 제한 시간 (넘으면 느린 구독자로 보고 연결 종료)
+    private final int maxSubscribers;
+    private final LongSupplier nanoTime;
+    private final int senderThreads;
+    // 전송 스레드 풀의 기본 크기 (직접 만든 풀이 아니면 0)
+    private int stalledSends;
+    // 제한 시간을 넘겨 스레드를 붙잡고 있는 전송 수 (그만큼 전송 스레드 풀을 늘림, 풀 크기 변경과 함께 this로 동기화)
+
+    @Autowired
+    public CommentStreamHub(ObjectMapper objectMapper,
+                            @Value("${board.comment-stream.buffer-size:32}") int bufferSize,
+                            @Value("${board.comment-stream.timeout-ms:1800000}") long timeoutMs,
+                            @Value("${board.comment-stream.max-subscribers:10000}") int maxSubscribers,
+                            @Value("${board.comment-stream.sender-threads:4}") int senderThreads,
+                            @Value("${board.comment-stream.send-timeout-ms:5000}") long sendTimeoutMs) {
+        this(objectMapper, newSenderPool(senderThreads), bufferSize, timeoutMs, sendTimeoutMs, maxSubscribers,
+                System::nanoTime);
+    }
+
+    CommentStreamHub(ObjectMapper objectMapper, Executor sender, int bufferSize, long timeoutMs, long sendTimeoutMs,
+                     int maxSubscribers, LongSupplier nanoTime) {
+        this.objectMapper = objectMapper;
+        this.sender = sender;
+        this.ownedSender = sender instanceof ExecutorService executorService ? executorService : null;
+        this.bufferSize = bufferSize;
+        this.timeoutMs = timeoutMs;
+        this.sendTimeoutNanos = TimeUnit.MILLISECONDS.toNanos(sendTimeoutMs);
+        this.maxSubscribers = maxSubscribers;
+        this.nanoTime = nanoTime;
+        this.senderThreads = ownedSender instanceof ThreadPoolExecutor pool ? pool.getCorePoolSize() : 0;
+    }
+
+    // 게시글 댓글 스트림 구독
+    // 연결 유지 시간은 SseEmitter에 직접 지정하므로 전역 비동기 요청 제한 시간(spring.mvc.async.request-timeout)과 관계없다.
+    // 구독자가 너무 많으면 IllegalStateException
+    public SseEmitter subscribe(Long boardId) {
+        return subscribe(boardId, new SseEmitter(timeoutMs));
+    }
+
+    SseEmitter subscribe(Long boardId, SseEmitter emitter) {
+        if (subscriberCount.incrementAndGet() > maxSubscribers) {
+            subscriberCount.decrementAndGet();
+            throw new IllegalStateException("실시간 댓글 구독자가 너무 많습니다.");
+        }
+
+        Subscriber subscriber = new Subscriber(boardId, emitter);
+        // 연결이 끝나면(클라이언트 종료, 시간 초과, 전송 오류) 구독 해제
+        emitter.onCompletion(() -> unsubscribe(subscriber));
+        emitter.onTimeout(() -> unsubscribe(subscriber));
+        emitter.onError(e -> unsubscribe(subscriber));
+        channels.compute(boardId, (id, subscribers) -> {
+            Set<Subscriber> set = subscribers != null ? subscribers : ConcurrentHashMap.newKeySet();
+            set.add(subscriber);
+            return set;
+        });
+        // 첫 전송 전에는 응답 헤더가 나가지 않으므로 바로 연결 확인용 주석을 보냄
+        subscriber.enqueue(Frame.comment("connected"));
+        return emitter;
+    }
+
+    // 커밋된 댓글 변경을 구독자에게 전달 (구독자가 없으면 JSON 변환도 하지 않음)
+    @TransactionalEventListener(phase = TransactionPhase.AFTER_COMMIT)
+    public void onCommentChanged(CommentChangedEvent event) {
+        Set<Subscriber> subscribers = channels.get(event.getBoardId());
+        if (subscribers == null || subscribers.isEmpty()) {
+            return;
+        }
+
+        String data;
+        try {
+            data = objectMapper.writeValueAsString(event.getComment());
+        } catch (JsonProcessingException e) {
+            log.warn("실시간 댓글 이벤트 변환 실패 ({})", event, e);
+            return;
+        }
+        Frame frame = Frame.event(event.getType().name().toLowerCase(Locale.ROOT), data);
+        for (Subscriber subscriber : subscribers) {
+            subscriber.enqueue(frame);
+        }
+    }
+
+    // 삭제된 게시글의 구독자는 연결 종료
+    @TransactionalEventListener(phase = TransactionPhase.AFTER_COMMIT)
+    public void onBoardChanged(BoardChangedEvent event) {
+        if (event.getType() != BoardChangedEvent.Type.DELETED) {
+            return;
+        }
+        Set<Subscriber> subscribers = channels.get(event.getBoardId());
+        if (subscribers != null) {
+            for (Subscriber subscriber : subscribers) {
+                subscriber.close();
+            }
+        }
+    }
+
+    // 주기적으로 모든 구독자에게 빈 주석을 보냄
+    // 중간 프록시가 유휴 연결을 끊지 않게 하고, 이미 끊긴 연결은 전송 오류로 찾아서 정리한다.
+    @Scheduled(fixedDelayString = "${board.comment-stream.heartbeat-interval-ms:15000}")
+    public void heartbeat() {
+        for (Set<Subscriber> subscribers : channels.values()) {
+            for (Subscriber subscriber : subscribers) {
+                subscriber.enqueue(Frame.comment("ping"));
+            }
+        }
+    }
+
+    // 제한 시간 안에 끝나지 않은 전송을 찾아 그 구독자의 연결을 끊음
+    // 멈춘 전송은 소켓 쓰기 제한 시간이 지나야 스레드를 돌려주므로 그동안 전송 스레드 풀을 하나씩 늘려 둔다.
+    @Scheduled(fixedDelayString = "${board.comment-stream.send-timeout-ms:5000}")
+    public void evictStalledSubscribers() {
+        long now = nanoTime.getAsLong();
+        for (Set<Subscriber> subscribers : channels.values()) {
+            for (Subscriber subscriber : subscribers) {
+                subscriber.evictIfStalled(now);
+            }
+        }
+    }
+
+    // 현재 구독자 수
+    public int subscriberCount() {
+        return subscriberCount.get();
+    }
+
+    // 느려서 연결을 끊은 구독자 수 (누적)
+    public long evictedCount() {
+        return evictedCount.get();
+    }
+
+    // 종료시 모든 연결을 닫고 전송 스레드 정리
+    @PreDestroy
+    public void close() {
+        for (Set<Subscriber> subscribers : channels.values()) {
+            for (Subscriber subscriber : subscribers) {
+                subscriber.close();
+            }
+        }
+        if (ownedSender != null) {
+            ownedSender.shutdown();
+        }
+    }
+
+    private void unsubscribe(Subscriber subscriber) {
+        if (!subscriber.removed.compareAndSet(false, true)) {
+            return;
+        }
+        subscriberCount.decrementAndGet();
+        channels.computeIfPresent(subscriber.boardId, (id, subscribers) -> {
+            subscribers.remove(subscriber);
+            return subscribers.isEmpty() ? null : subscribers;
+        });
+    }
+
+    // 멈춘 전송이 생기거나 끝날 때 전송 스레드 풀 크기 조정 (직접 만든 풀만, 늘릴 때는 최대 크기부터)
+    private synchronized void adjustStalledSends(int delta) {
+        stalledSends += delta;
+        if (!(ownedSender instanceof ThreadPoolExecutor pool)) {
+            return;
+        }
+        int size = senderThreads + Math.max(stalledSends, 0);
+        if (size > pool.getMaximumPoolSize()) {
+            pool.setMaximumPoolSize(size);
+            pool.setCorePoolSize(size);
+        } else {
+            pool.setCorePoolSize(size);
+            pool.setMaximumPoolSize(size);
+        }
+    }
+
+    private static ExecutorService newSenderPool(int threads) {
+        AtomicInteger sequence = new AtomicInteger();
+        return new ThreadPoolExecutor(threads, threads, 0L, TimeUnit.MILLISECONDS, new LinkedBlockingQueue<>(),
+                runnable -> {
+                    Thread thread = new Thread(runnable, "comment-stream-" + sequence.incrementAndGet());
+                    thread.setDaemon(true);
+                    return thread;
+                });
+    }
+
+    // 구독자 한 명 (SSE 연결 하나)
+    // 보낼 이벤트는 큐에 쌓고, 전송 스레드 하나가 큐를 비울 때까지 순서대로 보낸다.
+    // 연결 종료(complete)도 전송 스레드에서 하므로 이벤트를 넣는 쪽은 네트워크 쓰기를 기다리지 않는다.
+    private final class Subscriber implements Runnable {
+
+        private static final int IDLE = 0;
+        private static final int SENDING = 1;
+        private static final int STALLED = 2;
+        // 전송 상태 (STALLED : 제한 시간을 넘겨 연결을 끊었고 전송 스레드 풀을 하나 늘린 상태)
+
+        private final Long boardId;
+        private final SseEmitter emitter;
+        private final ArrayBlockingQueue<Frame> queue = new ArrayBlockingQueue<>(bufferSize);
+        private final AtomicBoolean scheduled = new AtomicBoolean();
+        // 전송 작업이 실행 중이거나 대기 중인지
+        private final AtomicBoolean removed = new AtomicBoolean();
+        private final AtomicBoolean completed = new AtomicBoolean();
+        // 서버 쪽에서 연결 종료(complete)를 했는지
+        private volatile boolean closed;
+        // 서버가 연결을 끊기로 한 상태 (느린 구독자, 삭제된 게시글, 종료)
+        private final AtomicInteger sendState = new AtomicInteger(IDLE);
+        private volatile long sendStartedNanos;
+        // 진행 중인 전송을 시작한 시각
+
+        private Subscriber(Long boardId, SseEmitter emitter) {
+            this.boardId = boardId;
+            this.emitter = emitter;
+        }
+
+        private void enqueue(Frame frame) {
+            if (closed || removed.get()) {
+                return;
+            }
+            if (!queue.offer(frame)) {
+                evictedCount.incrementAndGet();
+                log.debug("실시간 댓글 구독자 연결 종료 (게시글 {}, 전송 대기 {}건 초과)", boardId, bufferSize);
+                close();
+                return;
+            }
+            schedule();
+        }
+
+        private void close() {
+            closed = true;
+            queue.clear();
+            unsubscribe(this);
+            schedule();
+        }
+
+        // 진행 중인 전송이 제한 시간을 넘겼으면 연결을 끊음
+        // 전송이 끝나면(소켓 쓰기 제한 시간으로 실패하더라도) 전송 스레드가 연결 종료와 늘린 풀 크기 복구를 처리한다.
+        private void evictIfStalled(long now) {
+            if (sendState.get() == SENDING && now - sendStartedNanos >= sendTimeoutNanos
+                    && sendState.compareAndSet(SENDING, STALLED)) {
+                adjustStalledSends(1);
+                evictedCount.incrementAndGet();
+                log.debug("실시간 댓글 구독자 연결 종료 (게시글 {}, 전송 {}ms 초과)", boardId,
+                        TimeUnit.NANOSECONDS.toMillis(sendTimeoutNanos));
+                close();
+            }
+        }
+
+        private void schedule() {
+            if (scheduled.compareAndSet(false, true)) {
+                sender.execute(this);
+            }
+        }
+
+        @Override
+        public void run() {
+            try {
+                Frame frame;
+                while (!closed && (frame = queue.poll()) != null) {
+                    sendStartedNanos = nanoTime.getAsLong();
+                    sendState.set(SENDING);
+                    try {
+                        emitter.send(frame.toEvent());
+                    } catch (IOException | IllegalStateException e) {
+                        // 클라이언트가 연결을 끊음 (오류 콜백으로 구독이 해제되지만 먼저 해제해 둠)
+                        queue.clear();
+                        unsubscribe(this);
+                        return;
+                    } finally {
+                        // 제한 시간을 넘겨 풀을 늘려 둔 전송이면 원래 크기로 되돌림
+                        if (sendState.getAndSet(IDLE) == STALLED) {
+                            adjustStalledSends(-1);
+                        }
+                    }
+                }
+                if (closed && completed.compareAndSet(false, true)) {
+                    emitter.complete();
+                }
+            } finally {
+                scheduled.set(false);
+                // 실행을 마치는 사이에 들어온 이벤트나 종료 요청이 있으면 다시 실행
+                if ((closed && !completed.get()) || (!removed.get() && !queue.isEmpty())) {
+                    schedule();
+                }
+            }
+        }
+    }
+
+    // 전송할 SSE 항목 (JSON으로 변환된 이벤트 또는 주석)
+    private record Frame(String name, String data, String comment) {
+
+        static Frame event(String name, String data) {
+            return new Frame(name, data, null);
+        }
+
+        static Frame comment(String comment) {
+            return new Frame(null, null, comment);
+        }
+
+        // SseEventBuilder는 전송할 때 내용이 바뀌므로 구독자마다 새로 만듦 (데이터는 이미 변환된 문자열)
+        SseEmitter.SseEventBuilder toEvent() {
+            if (comment != null) {
+                return SseEmitter.event().comment(comment);
+            }
+            return SseEmitter.event().name(name).data(data, MediaType.APPLICATION_JSON);
+        }
+    }
+}
@@ -0,0 +1,36 @@
+package com.ohgireffers.board.service;
+
+import java.nio.charset.StandardCharsets;
+import java.time.format.DateTimeParseException;
+import java.util.Base64;
+import java.util.function.Function;
+
+// 커서(키셋) 페이징의 커서 (마지막으로 받은 항목의 정렬 키와 ID)
+// 클라이언트가 해석할 필요 없도록 "정렬키_ID"를 URL에 그대로 쓸 수 있는 Base64 문자열로 변환한다.
+// (게시글 목록은 작성일, 댓글 목록은 작성일시를 정렬 키로 사용)
+record KeysetCursor<K>(K key, Long id) {
+
+    private static final String DELIMITER = "_";
+    // 커서 내부의 정렬 키와 id 구분자
+
+    // (정렬 키, ID)를 커서 문자열로 변환
+    static String encode(Object key, Long id) {
+        String raw = key + DELIMITER + id;
+        return Base64.getUrlEncoder().withoutPadding().encodeToString(raw.getBytes(StandardCharsets.UTF_8));
+    }
+
+    // 커서 문자열을 (정렬 키, ID)로 복원 (형식이 틀리면 IllegalArgumentException)
+    static <K> KeysetCursor<K> decode(String cursor, Function<String, K> keyParser) {
+        try {
+            String raw = new String(Base64.getUrlDecoder().decode(cursor), StandardCharsets.UTF_8);
+            String[] parts = raw.split(DELIMITER, -1);
+            if (parts.length != 2) {
+                throw new IllegalArgumentException("올바르지 않은 커서입니다.");
+            }
+            return new KeysetCursor<>(keyParser.apply(parts[0]), Long.parseLong(parts[1]));
+        } catch (DateTimeParseException | IllegalArgumentException e) {
+            // Base64 디코딩 실패와 숫자 변환 실패(NumberFormatException)도 IllegalArgumentException
+            throw new IllegalArgumentException("올바르지 않은 커서입니다.");
+        }
+    }
+}
@@ -0,0 +1,44 @@
+package com.ohgireffers.board.config;
+
+import com.zaxxer.hikari.HikariDataSource;
+import org.springframework.boot.autoconfigure.jdbc.DataSourceProperties;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.boot.context.properties.EnableConfigurationProperties;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.context.annotation.Profile;
+import org.springframework.web.reactive.config.CorsRegistry;
+import org.springframework.web.reactive.config.WebFluxConfigurer;
+
+@Configuration
+@Profile(ReactiveReadConfig.PROFILE)
+@EnableConfigurationProperties(DataSourceProperties.class)
+// 읽기 전용 리액티브 스택 설정 (reactive 프로필)
+// 요청 처리는 WebFlux(Netty), 조회는 R2DBC로 하므로 DB 응답을 기다리는 동안 요청 스레드를 잡고 있지 않는다.
+// 서블릿 컨트롤러(BoardController, CommentController)는 이 프로필에서 등록되지 않으므로 조회 API만 제공하고,
+// 쓰기 요청은 기본 프로필로 실행한 서버에서 처리한다. (DB 연결 정보는 application-reactive.yml)
+// WebFlux, R2DBC 의존성은 reactive 소스셋에만 있으므로 기본 실행 파일(bootJar)에는 포함되지 않는다. (build.gradle 참고)
+public class ReactiveReadConfig implements WebFluxConfigurer {
+
+    public static final String PROFILE = WebConfig.REACTIVE_PROFILE;
+
+    // JDBC 커넥션 풀 (JPA, 주기 작업용)
+    // R2DBC ConnectionFactory가 있으면 스프링 부트가 DataSource를 자동으로 만들지 않으므로 spring.datasource 설정으로 직접 생성
+    @Bean
+    @ConfigurationProperties("spring.datasource.hikari")
+    public HikariDataSource dataSource(DataSourceProperties properties) {
+        return properties.initializeDataSourceBuilder().type(HikariDataSource.class).build();
+    }
+
+    @Override
+    public void addCorsMappings(CorsRegistry registry) {
+        // 서블릿 스택(WebConfig)과 같은 규칙 (조회 메서드만 허용)
+        registry.addMapping("/**")
+                .allowedOrigins("http://localhost:3000")
+                .allowedMethods("GET", "HEAD", "OPTIONS")
+                .allowedHeaders("*")
+                .exposedHeaders("ETag")
+                .allowCredentials(true)
+                .maxAge(3600);
+    }
+}
@@ -0,0 +1,70 @@
+package com.ohgireffers.board.controller;
+
+import com.ohgireffers.board.config.ReactiveReadConfig;
+import com.ohgireffers.board.service.BoardViewCounter;
+import com.ohgireffers.board.service.ReactiveBoardReader;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.context.annotation.Profile;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.*;
+import org.springframework.web.server.ServerWebExchange;
+import reactor.core.publisher.Mono;
+
+// 게시글 조회 REST API 컨트롤러 (리액티브 스택, reactive 프로필)
+// BoardController의 조회 API와 같은 경로, 같은 응답을 R2DBC로 처리한다.
+@RestController
+@RequestMapping("/board")
+@Profile(ReactiveReadConfig.PROFILE)
+public class ReactiveBoardController {
+
+    private final ReactiveBoardReader boardReader;
+    private final BoardViewCounter boardViewCounter;
+
+    @Autowired
+    public ReactiveBoardController(ReactiveBoardReader boardReader, BoardViewCounter boardViewCounter) {
+        this.boardReader = boardReader;
+        this.boardViewCounter = boardViewCounter;
+    }
+
+    // 단일 조회 - ID를 이용해서 조회 (ETag, 조회수 처리는 BoardController와 같음)
+    @GetMapping("/{id}")
+    public Mono<ResponseEntity<?>> findboardbyid(@PathVariable Long id, ServerWebExchange exchange) {
+        // Path Variable 유효성 검사
+        if (id == null || id <= 0) {
+            return Mono.just(new ResponseEntity<>("올바른 게시글 ID를 입력해주세요.", HttpStatus.BAD_REQUEST));
+        }
+
+        return boardReader.getBoard(id)
+                .<ResponseEntity<?>>map(board -> {
+                    boardViewCounter.increment(id);
+                    String etag = ETags.board(board.getId(), board.getVersion());
+                    if (exchange.checkNotModified(etag)) {
+                        return ResponseEntity.status(HttpStatus.NOT_MODIFIED).eTag(etag).build();
+                    }
+                    return ResponseEntity.ok().eTag(etag).body(boardViewCounter.withPendingViews(board));
+                })
+                .onErrorResume(IllegalArgumentException.class,
+                        e -> Mono.just(new ResponseEntity<>(e.getMessage(), HttpStatus.NOT_FOUND)))
+                .onErrorResume(e -> Mono.just(new ResponseEntity<>("게시글 조회 중 오류가 발생했습니다.", HttpStatus.INTERNAL_SERVER_ERROR)));
+    }
+
+    // 페이징 처리된 게시글 목록 조회
+    @GetMapping("/")
+    public Mono<ResponseEntity<?>> getpages(
+            @RequestParam(defaultValue = "0") int page,
+            @RequestParam(defaultValue = "10") int size) {
+
+        // 페이징 파라미터 유효성 검사
+        if (page < 0) {
+            return Mono.just(new ResponseEntity<>("페이지 번호는 0 이상이어야 합니다.", HttpStatus.BAD_REQUEST));
+        }
+        if (size <= 0 || size > 100) {
+            return Mono.just(new ResponseEntity<>("페이지 크기는 1 이상 100 이하여야 합니다.", HttpStatus.BAD_REQUEST));
+        }
+
+        return boardReader.getBoardPage(page, size)
+                .<ResponseEntity<?>>map(ResponseEntity::ok)
+                .onErrorResume(e -> Mono.just(new ResponseEntity<>("게시글 목록 조회 중 오류가 발생했습니다.", HttpStatus.INTERNAL_SERVER_ERROR)));
+    }
+}
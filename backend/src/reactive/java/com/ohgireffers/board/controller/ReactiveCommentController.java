@@ -0,0 +1,59 @@
+package com.ohgireffers.board.controller;
+
+import com.ohgireffers.board.config.ReactiveReadConfig;
+import com.ohgireffers.board.service.ReactiveBoardReader;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.context.annotation.Profile;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.*;
+import org.springframework.web.server.ServerWebExchange;
+import reactor.core.publisher.Mono;
+
+// 댓글 조회 REST API 컨트롤러 (리액티브 스택, reactive 프로필)
+// CommentController의 게시글 댓글 조회와 같은 경로, 같은 응답을 R2DBC로 처리한다.
+@RestController
+@RequestMapping("/api/comments")
+@Profile(ReactiveReadConfig.PROFILE)
+public class ReactiveCommentController {
+
+    private final ReactiveBoardReader boardReader;
+
+    @Autowired
+    public ReactiveCommentController(ReactiveBoardReader boardReader) {
+        this.boardReader = boardReader;
+    }
+
+    // 특정 게시글의 모든 댓글 조회 (계층구조, ETag 처리는 CommentController와 같음)
+    @GetMapping("/board/{boardId}")
+    public Mono<ResponseEntity<?>> getCommentsByBoardId(@PathVariable Long boardId, ServerWebExchange exchange) {
+        // 간단한 유효성 검사
+        if (boardId == null || boardId <= 0) {
+            return Mono.just(new ResponseEntity<>("올바른 게시글 ID를 입력해주세요.", HttpStatus.BAD_REQUEST));
+        }
+
+        return boardReader.getCommentThreadVersion(boardId)
+                .flatMap(threadVersion -> {
+                    String etag = ETags.comments(boardId, threadVersion);
+                    if (exchange.checkNotModified(etag)) {
+                        return Mono.<ResponseEntity<?>>just(ResponseEntity.status(HttpStatus.NOT_MODIFIED).eTag(etag).build());
+                    }
+                    return boardReader.getCommentTree(boardId)
+                            .<ResponseEntity<?>>map(comments -> ResponseEntity.ok().eTag(etag).body(comments));
+                })
+                .onErrorResume(e -> Mono.just(new ResponseEntity<>("댓글 조회 중 오류가 발생했습니다.", HttpStatus.INTERNAL_SERVER_ERROR)));
+    }
+
+    // 특정 게시글의 모든 댓글을 한 줄에 하나씩 스트리밍 (Accept: application/x-ndjson)
+    // 계층구조로 묶지 않고 화면 표시 순서(path)대로 내보내며 각 댓글의 parentCommentId, depth로 계층을 알 수 있다.
+    // 클라이언트가 읽는 속도에 맞춰 DB에서 읽으므로 댓글이 많아도 서버 메모리를 많이 쓰지 않는다.
+    @GetMapping(value = "/board/{boardId}", produces = MediaType.APPLICATION_NDJSON_VALUE)
+    public ResponseEntity<?> streamCommentsByBoardId(@PathVariable Long boardId) {
+        // 간단한 유효성 검사
+        if (boardId == null || boardId <= 0) {
+            return ResponseEntity.badRequest().contentType(MediaType.TEXT_PLAIN).body("올바른 게시글 ID를 입력해주세요.");
+        }
+        return ResponseEntity.ok().body(boardReader.streamComments(boardId));
+    }
+}
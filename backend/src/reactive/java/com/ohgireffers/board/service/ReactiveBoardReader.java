@@ -0,0 +1,139 @@
+package com.ohgireffers.board.service;
+
+import com.ohgireffers.board.config.ReactiveReadConfig;
+import com.ohgireffers.board.model.dto.BoardResponseDTO;
+import com.ohgireffers.board.model.dto.BoardSummaryDTO;
+import com.ohgireffers.board.model.dto.CommentResponseDTO;
+import io.r2dbc.spi.Readable;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.context.annotation.Profile;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageImpl;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.r2dbc.core.DatabaseClient;
+import org.springframework.stereotype.Service;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.List;
+
+// 리액티브 스택의 게시글/댓글 조회 (reactive 프로필)
+// R2DBC로 조회하므로 DB 응답을 기다리는 동안 스레드를 점유하지 않는다.
+// 응답 DTO와 정렬 기준은 서블릿 스택(BoardService, CommentService)과 같다.
+@Service
+@Profile(ReactiveReadConfig.PROFILE)
+public class ReactiveBoardReader {
+
+    static final String BOARD_SQL = "select id, title, author, contents, created_at, updated_at, version, view_count " +
+            "from board where id = :id";
+    // 목록 요약 (BoardRepository.SUMMARY_SELECT와 같은 컬럼, 본문은 앞부분만)
+    static final String SUMMARY_SQL = "select id, title, author, substring(contents, 1, " + BoardSummaryDTO.PREVIEW_LENGTH +
+            ") as preview, coalesce(comment_count, 0) as comment_count, created_at, updated_at " +
+            "from board order by created_at desc, id desc limit :limit offset :offset";
+    static final String COUNT_SQL = "select count(*) from board";
+    // 게시글의 댓글을 화면 표시 순서(path)대로 조회 (CommentRepository.findFlatByBoardId와 같은 순서)
+    // (user는 DB에 따라 예약어로 해석될 수 있으므로 테이블 별칭을 붙여서 조회)
+    static final String COMMENTS_SQL = "select c.comment_id, c.text_body, c.user as user_name, c.board_id, c.parent_comment_id, " +
+            "c.is_comment_for_comment, c.depth, c.order_number, c.created_date, c.modified_date, c.version " +
+            "from comment c where c.board_id = :boardId order by c.path asc, c.comment_id asc";
+    static final String COMMENT_VERSION_SQL = "select coalesce(comment_version, 0) from board where id = :id";
+
+    private final DatabaseClient databaseClient;
+
+    @Autowired
+    public ReactiveBoardReader(DatabaseClient databaseClient) {
+        this.databaseClient = databaseClient;
+    }
+
+    // 단일 조회 (없으면 IllegalArgumentException)
+    public Mono<BoardResponseDTO> getBoard(Long id) {
+        return databaseClient.sql(BOARD_SQL)
+                .bind("id", id)
+                .map(ReactiveBoardReader::toBoard)
+                .one()
+                .switchIfEmpty(Mono.error(() -> new IllegalArgumentException("해당 ID의 게시글을 찾을 수 없습니다: " + id)));
+    }
+
+    // 페이징 처리된 게시글 요약 목록 (목록 조회와 개수 조회를 동시에 실행)
+    public Mono<Page<BoardSummaryDTO>> getBoardPage(int page, int size) {
+        Mono<List<BoardSummaryDTO>> content = databaseClient.sql(SUMMARY_SQL)
+                .bind("limit", size)
+                .bind("offset", (long) page * size)
+                .map(ReactiveBoardReader::toSummary)
+                .all()
+                .collectList();
+        Mono<Long> total = databaseClient.sql(COUNT_SQL)
+                .map(row -> row.get(0, Long.class))
+                .one();
+        return Mono.zip(content, total)
+                .map(result -> new PageImpl<>(result.getT1(),
+                        PageRequest.of(page, size, BoardService.LIST_SORT), result.getT2()));
+    }
+
+    // 게시글의 댓글을 화면 표시 순서대로 하나씩 내보냄 (계층구조로 묶지 않음)
+    // 구독자가 요청한 만큼만 DB에서 읽어 전달하므로 댓글이 많아도 메모리에 한꺼번에 올리지 않는다.
+    public Flux<CommentResponseDTO> streamComments(Long boardId) {
+        return databaseClient.sql(COMMENTS_SQL)
+                .bind("boardId", boardId)
+                .map(ReactiveBoardReader::toComment)
+                .all();
+    }
+
+    // 게시글의 모든 댓글 조회 (계층구조, 서블릿 스택과 같은 응답)
+    public Mono<List<CommentResponseDTO>> getCommentTree(Long boardId) {
+        return streamComments(boardId)
+                .collectList()
+                .map(CommentService::organizeCommentsHierarchy);
+    }
+
+    // 게시글의 댓글 스레드 버전 조회 (ETag 계산용, 게시글이 없으면 0)
+    public Mono<Long> getCommentThreadVersion(Long boardId) {
+        return databaseClient.sql(COMMENT_VERSION_SQL)
+                .bind("id", boardId)
+                .map(row -> row.get(0, Long.class))
+                .one()
+                .defaultIfEmpty(0L);
+    }
+
+    private static BoardResponseDTO toBoard(Readable row) {
+        BoardResponseDTO board = new BoardResponseDTO();
+        board.setId(row.get("id", Long.class));
+        board.setTitle(row.get("title", String.class));
+        board.setAuthor(row.get("author", String.class));
+        board.setContent(row.get("contents", String.class));
+        board.setCreateAt(row.get("created_at", LocalDate.class));
+        board.setUpdatedAt(row.get("updated_at", LocalDate.class));
+        board.setVersion(row.get("version", Long.class));
+        Long viewCount = row.get("view_count", Long.class);
+        board.setViewCount(viewCount != null ? viewCount : 0);
+        return board;
+    }
+
+    private static BoardSummaryDTO toSummary(Readable row) {
+        return new BoardSummaryDTO(
+                row.get("id", Long.class),
+                row.get("title", String.class),
+                row.get("author", String.class),
+                row.get("preview", String.class),
+                row.get("comment_count", Long.class),
+                row.get("created_at", LocalDate.class),
+                row.get("updated_at", LocalDate.class));
+    }
+
+    private static CommentResponseDTO toComment(Readable row) {
+        return new CommentResponseDTO(
+                row.get("comment_id", Long.class),
+                row.get("text_body", String.class),
+                row.get("user_name", String.class),
+                row.get("board_id", Long.class),
+                row.get("parent_comment_id", Long.class),
+                row.get("is_comment_for_comment", Boolean.class),
+                row.get("depth", Integer.class),
+                row.get("order_number", Long.class),
+                row.get("created_date", LocalDateTime.class),
+                row.get("modified_date", LocalDateTime.class),
+                row.get("version", Long.class));
+    }
+}
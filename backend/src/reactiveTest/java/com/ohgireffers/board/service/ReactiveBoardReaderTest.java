@@ -0,0 +1,114 @@
+package com.ohgireffers.board.service;
+
+import com.ohgireffers.board.config.ReactiveReadConfig;
+import com.ohgireffers.board.model.dto.BoardRequsetDTO;
+import com.ohgireffers.board.model.dto.BoardResponseDTO;
+import com.ohgireffers.board.model.dto.CommentRequestDTO;
+import com.ohgireffers.board.model.dto.CommentResponseDTO;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.test.web.reactive.server.WebTestClient;
+
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+// 리액티브 조회 스택 테스트 (reactive 프로필)
+// 서블릿 스택과 같은 경로에서 같은 DTO, ETag를 응답하는지 H2(JDBC로 저장, R2DBC로 조회)로 확인한다.
+// (test 프로필을 뒤에 두어 reactive 프로필의 MySQL R2DBC 주소 대신 테스트 DB를 사용)
+@SpringBootTest(webEnvironment = SpringBootTest.WebEnvironment.RANDOM_PORT)
+@ActiveProfiles({ReactiveReadConfig.PROFILE, "test"})
+class ReactiveBoardReaderTest {
+
+	@Autowired
+	private WebTestClient webTestClient;
+
+	@Autowired
+	private BoardService boardService;
+
+	@Autowired
+	private CommentService commentService;
+
+	@Test
+	void getBoardReturnsSameBodyAndETagAsServletStack() {
+		BoardResponseDTO created = boardService.createBoard(new BoardRequsetDTO(null, "리액티브", "리액티브 조회", "tester"));
+		String etag = "W/\"board-" + created.getId() + "-v" + created.getVersion() + "\"";
+
+		BoardResponseDTO board = webTestClient.get().uri("/board/{id}", created.getId())
+				.exchange()
+				.expectStatus().isOk()
+				.expectHeader().valueEquals("ETag", etag)
+				.expectBody(BoardResponseDTO.class)
+				.returnResult().getResponseBody();
+		assertThat(board.getTitle()).isEqualTo("리액티브");
+		assertThat(board.getContent()).isEqualTo("리액티브 조회");
+		assertThat(board.getViewCount()).isEqualTo(1);
+
+		webTestClient.get().uri("/board/{id}", created.getId())
+				.header("If-None-Match", etag)
+				.exchange()
+				.expectStatus().isNotModified();
+		webTestClient.get().uri("/board/{id}", Long.MAX_VALUE)
+				.exchange()
+				.expectStatus().isNotFound();
+	}
+
+	@Test
+	void getPagesReturnsNewestFirst() {
+		boardService.createBoard(new BoardRequsetDTO(null, "첫 번째", "목록 조회", "tester"));
+		Long newest = boardService.createBoard(new BoardRequsetDTO(null, "두 번째", "목록 조회", "tester")).getId();
+
+		webTestClient.get().uri("/board/?page=0&size=1")
+				.exchange()
+				.expectStatus().isOk()
+				.expectBody()
+				.jsonPath("$.content.length()").isEqualTo(1)
+				.jsonPath("$.content[0].id").isEqualTo(newest.intValue())
+				.jsonPath("$.content[0].preview").isEqualTo("목록 조회");
+		webTestClient.get().uri("/board/?page=0&size=101")
+				.exchange()
+				.expectStatus().isEqualTo(HttpStatus.BAD_REQUEST);
+	}
+
+	@Test
+	void commentsAreReturnedAsTreeOrStreamedFlat() {
+		Long boardId = boardService.createBoard(new BoardRequsetDTO(null, "댓글", "댓글 조회", "tester")).getId();
+		Long rootId = commentService.createComment(new CommentRequestDTO("최상위", "tester", boardId, null)).getId();
+		Long replyId = commentService.createComment(new CommentRequestDTO("대댓글", "tester", boardId, rootId)).getId();
+		Long secondId = commentService.createComment(new CommentRequestDTO("두 번째", "tester", boardId, null)).getId();
+
+		List<CommentResponseDTO> tree = webTestClient.get().uri("/api/comments/board/{boardId}", boardId)
+				.exchange()
+				.expectStatus().isOk()
+				.expectHeader().exists("ETag")
+				.expectBodyList(CommentResponseDTO.class)
+				.returnResult().getResponseBody();
+		assertThat(tree).extracting(CommentResponseDTO::getId).containsExactly(rootId, secondId);
+		assertThat(tree.get(0).getReplies()).extracting(CommentResponseDTO::getId).containsExactly(replyId);
+
+		List<CommentResponseDTO> stream = webTestClient.get().uri("/api/comments/board/{boardId}", boardId)
+				.accept(MediaType.APPLICATION_NDJSON)
+				.exchange()
+				.expectStatus().isOk()
+				.expectHeader().contentTypeCompatibleWith(MediaType.APPLICATION_NDJSON)
+				.returnResult(CommentResponseDTO.class)
+				.getResponseBody()
+				.collectList()
+				.block();
+		assertThat(stream).extracting(CommentResponseDTO::getId).containsExactly(rootId, replyId, secondId);
+		assertThat(stream.get(1).getParentCommentId()).isEqualTo(rootId);
+	}
+
+	@Test
+	void writeRoutesAreNotServed() {
+		webTestClient.post().uri("/board/create")
+				.contentType(MediaType.APPLICATION_JSON)
+				.bodyValue("{\"title\":\"제목\",\"content\":\"내용\",\"author\":\"tester\"}")
+				.exchange()
+				.expectStatus().is4xxClientError();
+	}
+}
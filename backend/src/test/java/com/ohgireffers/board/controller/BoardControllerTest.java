@@ -0,0 +1,96 @@
+package com.ohgireffers.board.controller;
+
+import com.ohgireffers.board.exception.NotFoundException;
+import com.ohgireffers.board.exception.VersionMismatchException;
+import com.ohgireffers.board.model.entity.Board;
+import com.ohgireffers.board.service.BoardBulkImporter;
+import com.ohgireffers.board.service.BoardExporter;
+import com.ohgireffers.board.service.BoardService;
+import com.ohgireffers.board.service.BoardViewCounter;
+import org.junit.jupiter.api.Test;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.MediaType;
+import org.springframework.orm.ObjectOptimisticLockingFailureException;
+import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.test.web.servlet.MvcResult;
+import org.springframework.test.web.servlet.ResultActions;
+import org.springframework.test.web.servlet.setup.MockMvcBuilders;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.ArgumentMatchers.isNull;
+import static org.mockito.Mockito.*;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.delete;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.put;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.request;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+// 게시글 수정/삭제 응답 코드 테스트
+// If-Match 버전이 다르거나 약한 ETag(W/)면 412, 저장 시점에 충돌하면 409, If-Match 형식이 틀리면 400, 게시글이 없으면 404
+// 내보내기는 전역 설정이 아닌 내보내기 전용 비동기 제한 시간을 사용
+class BoardControllerTest {
+
+	private static final String BODY = "{\"title\":\"제목\",\"content\":\"내용\",\"author\":\"tester\"}";
+
+	private final BoardService boardService = mock(BoardService.class);
+	private final MockMvc mockMvc = MockMvcBuilders.standaloneSetup(new BoardController(boardService,
+			mock(BoardBulkImporter.class), mock(BoardExporter.class), mock(BoardViewCounter.class), 600_000)).build();
+
+	@Test
+	void staleIfMatchReturns412() throws Exception {
+		when(boardService.updateboard(eq(1L), any(), eq(3L))).thenThrow(new VersionMismatchException(Board.class, 1L));
+
+		update("\"board-1-v3\"").andExpect(status().isPreconditionFailed());
+	}
+
+	@Test
+	void weakIfMatchReturns412() throws Exception {
+		// 조회 응답의 약한 ETag는 강한 비교에서 일치하지 않으므로 버전을 확인하지 않고 거절
+		update("W/\"board-1-v3\"").andExpect(status().isPreconditionFailed());
+		verifyNoInteractions(boardService);
+	}
+
+	@Test
+	void concurrentSaveReturns409() throws Exception {
+		when(boardService.updateboard(eq(1L), any(), isNull()))
+				.thenThrow(new ObjectOptimisticLockingFailureException(Board.class, 1L));
+
+		update(null).andExpect(status().isConflict());
+	}
+
+	@Test
+	void malformedIfMatchReturns400() throws Exception {
+		update("\"board-1-vX\"").andExpect(status().isBadRequest());
+		// 다른 게시글의 ETag
+		update("\"board-2-v3\"").andExpect(status().isBadRequest());
+		verifyNoInteractions(boardService);
+	}
+
+	@Test
+	void missingBoardReturns404() throws Exception {
+		when(boardService.updateboard(eq(1L), any(), isNull())).thenThrow(new NotFoundException("수정할 게시글을 찾을 수 없습니다: 1"));
+		when(boardService.deleteboard(1L)).thenThrow(new NotFoundException("삭제할 게시글을 찾을 수 없습니다: 1"));
+
+		update(null).andExpect(status().isNotFound());
+		mockMvc.perform(delete("/board/1")).andExpect(status().isNotFound());
+	}
+
+	@Test
+	void exportUsesItsOwnAsyncTimeout() throws Exception {
+		MvcResult result = mockMvc.perform(get("/board/export").param("format", "csv"))
+				.andExpect(request().asyncStarted())
+				.andReturn();
+
+		assertThat(result.getRequest().getAsyncContext().getTimeout()).isEqualTo(600_000);
+	}
+
+	private ResultActions update(String ifMatch) throws Exception {
+		var request = put("/board/1").contentType(MediaType.APPLICATION_JSON).content(BODY);
+		if (ifMatch != null) {
+			request.header(HttpHeaders.IF_MATCH, ifMatch);
+		}
+		return mockMvc.perform(request);
+	}
+}
@@ -0,0 +1,109 @@
+package com.ohgireffers.board.controller;
+
+import com.ohgireffers.board.exception.NotFoundException;
+import com.ohgireffers.board.exception.VersionMismatchException;
+import com.ohgireffers.board.model.dto.CommentResponseDTO;
+import com.ohgireffers.board.model.entity.Comment;
+import com.ohgireffers.board.service.CommentService;
+import com.ohgireffers.board.service.CommentStreamHub;
+import org.junit.jupiter.api.Test;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.MediaType;
+import org.springframework.orm.ObjectOptimisticLockingFailureException;
+import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.test.web.servlet.MvcResult;
+import org.springframework.test.web.servlet.ResultActions;
+import org.springframework.test.web.servlet.setup.MockMvcBuilders;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
+
+import java.time.LocalDateTime;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.ArgumentMatchers.isNull;
+import static org.mockito.Mockito.*;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.delete;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.put;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.header;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.request;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+// 댓글 수정/삭제 응답 코드 테스트
+// If-Match 버전이 다르거나 약한 ETag(W/)면 412, 저장 시점에 충돌하면 409, If-Match 형식이 틀리면 400, 댓글이 없으면 404
+// 실시간 댓글 스트림은 전역 비동기 제한 시간이 아닌 SseEmitter에 지정한 연결 유지 시간을 사용
+class CommentControllerTest {
+
+	private static final String BODY = "{\"textBody\":\"수정한 댓글\",\"user\":\"tester\",\"boardId\":1}";
+
+	private final CommentService commentService = mock(CommentService.class);
+	private final CommentStreamHub commentStreamHub = mock(CommentStreamHub.class);
+	private final MockMvc mockMvc = MockMvcBuilders
+			.standaloneSetup(new CommentController(commentService, commentStreamHub)).build();
+
+	@Test
+	void matchingIfMatchReturnsNewETag() throws Exception {
+		LocalDateTime now = LocalDateTime.now();
+		when(commentService.updateComment(eq(5L), any(), eq(2L)))
+				.thenReturn(new CommentResponseDTO(5L, "수정한 댓글", "tester", 1L, null, false, 0, null, now, now, 3L));
+
+		update("\"comment-5-v2\"").andExpect(status().isOk()).andExpect(header().string(HttpHeaders.ETAG, "\"comment-5-v3\""));
+	}
+
+	@Test
+	void staleIfMatchReturns412() throws Exception {
+		when(commentService.updateComment(eq(5L), any(), eq(2L))).thenThrow(new VersionMismatchException(Comment.class, 5L));
+
+		update("\"comment-5-v2\"").andExpect(status().isPreconditionFailed());
+	}
+
+	@Test
+	void weakIfMatchReturns412() throws Exception {
+		update("W/\"comment-5-v2\"").andExpect(status().isPreconditionFailed());
+		verifyNoInteractions(commentService);
+	}
+
+	@Test
+	void concurrentSaveReturns409() throws Exception {
+		when(commentService.updateComment(eq(5L), any(), isNull()))
+				.thenThrow(new ObjectOptimisticLockingFailureException(Comment.class, 5L));
+
+		update("*").andExpect(status().isConflict());
+	}
+
+	@Test
+	void malformedIfMatchReturns400() throws Exception {
+		update("\"board-5-v2\"").andExpect(status().isBadRequest());
+		update("\"comment-5-v\"").andExpect(status().isBadRequest());
+		verifyNoInteractions(commentService);
+	}
+
+	@Test
+	void missingCommentReturns404() throws Exception {
+		when(commentService.updateComment(eq(5L), any(), isNull())).thenThrow(new NotFoundException("댓글을 찾을 수 없습니다."));
+		doThrow(new NotFoundException("댓글을 찾을 수 없습니다.")).when(commentService).deleteComment(5L);
+
+		update(null).andExpect(status().isNotFound());
+		mockMvc.perform(delete("/api/comments/5")).andExpect(status().isNotFound());
+	}
+
+	@Test
+	void streamUsesEmitterTimeout() throws Exception {
+		when(commentStreamHub.subscribe(1L)).thenReturn(new SseEmitter(1_800_000L));
+
+		MvcResult result = mockMvc.perform(get("/api/comments/board/1/stream"))
+				.andExpect(request().asyncStarted())
+				.andReturn();
+
+		assertThat(result.getRequest().getAsyncContext().getTimeout()).isEqualTo(1_800_000L);
+	}
+
+	private ResultActions update(String ifMatch) throws Exception {
+		var request = put("/api/comments/5").contentType(MediaType.APPLICATION_JSON).content(BODY);
+		if (ifMatch != null) {
+			request.header(HttpHeaders.IF_MATCH, ifMatch);
+		}
+		return mockMvc.perform(request);
+	}
+}
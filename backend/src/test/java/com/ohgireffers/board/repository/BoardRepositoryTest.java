@@ -0,0 +1,87 @@
+package com.ohgireffers.board.repository;
+
+import com.ohgireffers.board.model.dto.BoardSummaryDTO;
+import com.ohgireffers.board.model.entity.Board;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Slice;
+import org.springframework.test.context.ActiveProfiles;
+
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+// 게시글 커서(키셋) 페이징 쿼리 테스트
+// 작성일(created_at)은 날짜 단위라 같은 날 게시글이 많으므로 같은 날짜 안에서 ID 순으로 빠짐없이 이어지는지 확인
+// (다른 테스트가 만든 게시글이 DB에 남아 있으므로 이 테스트의 게시글은 가장 최근 날짜로 만들어 목록 앞쪽에 오게 함)
+@SpringBootTest
+@ActiveProfiles("test")
+class BoardRepositoryTest {
+
+	private static final LocalDate DAY1 = LocalDate.of(2999, 1, 1);
+	private static final LocalDate DAY2 = LocalDate.of(2999, 1, 2);
+
+	@Autowired
+	private BoardRepository boardRepository;
+
+	private final List<Long> ids = new ArrayList<>();
+
+	@BeforeEach
+	void setUp() {
+		// 작성 순서 : DAY1 2개, DAY2 3개
+		for (LocalDate day : List.of(DAY1, DAY1, DAY2, DAY2, DAY2)) {
+			ids.add(boardRepository.save(new Board(null, "제목", "tester", "내용", day, null)).getId());
+		}
+	}
+
+	@AfterEach
+	void tearDown() {
+		boardRepository.deleteAllById(ids);
+	}
+
+	@Test
+	void firstSliceIsNewestFirst() {
+		Slice<BoardSummaryDTO> first = boardRepository.findFirstSlice(PageRequest.of(0, 2));
+
+		assertThat(first.getContent()).extracting(BoardSummaryDTO::getId).containsExactly(ids.get(4), ids.get(3));
+		assertThat(first.hasNext()).isTrue();
+	}
+
+	@Test
+	void nextSliceContinuesWithinSameDateAndAcrossDates() {
+		// 마지막 게시글이 DAY2의 두 번째 게시글이면 같은 날의 남은 게시글 다음에 DAY1 게시글이 이어짐
+		Slice<BoardSummaryDTO> next = boardRepository.findSliceAfter(DAY2, ids.get(3), PageRequest.of(0, 2));
+
+		assertThat(next.getContent()).extracting(BoardSummaryDTO::getId).containsExactly(ids.get(2), ids.get(1));
+		assertThat(next.hasNext()).isTrue();
+
+		Slice<BoardSummaryDTO> last = boardRepository.findSliceAfter(DAY1, ids.get(1), PageRequest.of(0, 2));
+
+		// DAY1의 첫 게시글 다음에는 이 테스트 이전에 작성된 게시글이 이어짐
+		assertThat(last.getContent()).extracting(BoardSummaryDTO::getId)
+				.startsWith(ids.get(0))
+				.doesNotContainAnyElementsOf(ids.subList(1, ids.size()));
+	}
+
+	@Test
+	void walkingAllSlicesReturnsEveryBoardOnce() {
+		List<Long> seen = new ArrayList<>();
+		Slice<BoardSummaryDTO> slice = boardRepository.findFirstSlice(PageRequest.of(0, 2));
+		seen.addAll(slice.map(BoardSummaryDTO::getId).getContent());
+		while (slice.hasNext()) {
+			BoardSummaryDTO lastSeen = slice.getContent().get(slice.getNumberOfElements() - 1);
+			slice = boardRepository.findSliceAfter(lastSeen.getCreateAt(), lastSeen.getId(), PageRequest.of(0, 2));
+			seen.addAll(slice.map(BoardSummaryDTO::getId).getContent());
+		}
+
+		// 마지막 조각까지 모든 게시글을 한 번씩 (이 테스트의 게시글이 가장 앞에)
+		assertThat(seen).startsWith(ids.get(4), ids.get(3), ids.get(2), ids.get(1), ids.get(0));
+		assertThat(seen).doesNotHaveDuplicates().hasSize((int) boardRepository.count());
+	}
+}
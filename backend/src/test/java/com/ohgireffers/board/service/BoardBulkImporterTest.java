@@ -0,0 +1,90 @@
+package com.ohgireffers.board.service;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.ohgireffers.board.model.dto.BoardImportResultDTO;
+import com.ohgireffers.board.repository.BoardRepository;
+import jakarta.validation.Validation;
+import org.junit.jupiter.api.Test;
+import org.springframework.dao.DataIntegrityViolationException;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.transaction.PlatformTransactionManager;
+
+import java.io.StringReader;
+import java.util.Collection;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.*;
+import static org.mockito.Mockito.*;
+
+// 게시글 일괄 등록 테스트
+// 배치 크기만큼 나눠서 저장되는지, 실패한 줄이 줄 번호와 함께 보고되는지 확인
+class BoardBulkImporterTest {
+
+	private final JdbcTemplate jdbcTemplate = mock(JdbcTemplate.class);
+	private final BoardRepository boardRepository = mock(BoardRepository.class);
+	private final BoardFrontPageCache frontPageCache = mock(BoardFrontPageCache.class);
+	private final BoardSearchIndex searchIndex = mock(BoardSearchIndex.class);
+
+	@Test
+	void insertsValidLinesInBatchesAndReportsInvalidLines() throws Exception {
+		when(boardRepository.findMaxId()).thenReturn(10L);
+		String body = String.join("\n",
+				line("제목1", "내용1", "작성자"),
+				line("제목2", "내용2", "작성자"),
+				"{잘못된 json",
+				"",
+				line("", "내용4", "작성자"),
+				line("제목5", "내용5", "작성자"));
+
+		BoardImportResultDTO result = importer(2).importBoards(new StringReader(body));
+
+		assertThat(result.getTotalLines()).isEqualTo(6);
+		assertThat(result.getImportedCount()).isEqualTo(3);
+		assertThat(result.getFailedCount()).isEqualTo(2);
+		assertThat(result.getFailures()).extracting(BoardImportResultDTO.LineFailure::getLine).containsExactly(3L, 5L);
+		assertThat(result.getFailures().get(0).getMessage()).isEqualTo("JSON 형식이 올바르지 않습니다.");
+		assertThat(result.getFailures().get(1).getMessage()).contains("title");
+		// 2건 배치 한 번 + 남은 1건 배치 한 번
+		verify(jdbcTemplate).batchUpdate(eq(BoardBulkImporter.INSERT_SQL), any(Collection.class), eq(2), any());
+		verify(jdbcTemplate).batchUpdate(eq(BoardBulkImporter.INSERT_SQL), any(Collection.class), eq(1), any());
+		verify(frontPageCache).invalidate();
+		verify(searchIndex).indexBoardsAfter(10L);
+	}
+
+	@Test
+	void retriesFailedBatchRowByRowToFindFailingLine() throws Exception {
+		when(jdbcTemplate.batchUpdate(anyString(), any(Collection.class), anyInt(), any()))
+				.thenThrow(new DataIntegrityViolationException("batch failed"));
+		when(jdbcTemplate.update(eq(BoardBulkImporter.INSERT_SQL), eq("제목2"), any(), any(), any()))
+				.thenThrow(new DataIntegrityViolationException("row failed"));
+		String body = String.join("\n",
+				line("제목1", "내용1", "작성자"),
+				line("제목2", "내용2", "작성자"),
+				line("제목3", "내용3", "작성자"));
+
+		BoardImportResultDTO result = importer(10).importBoards(new StringReader(body));
+
+		assertThat(result.getImportedCount()).isEqualTo(2);
+		assertThat(result.getFailures()).extracting(BoardImportResultDTO.LineFailure::getLine).containsExactly(2L);
+		verify(searchIndex).indexBoardsAfter(0L);
+	}
+
+	@Test
+	void leavesCachesAloneWhenNothingWasImported() throws Exception {
+		BoardImportResultDTO result = importer(10).importBoards(new StringReader(line("제목", "내용", "!")));
+
+		assertThat(result.getImportedCount()).isZero();
+		assertThat(result.getFailedCount()).isEqualTo(1);
+		verifyNoInteractions(frontPageCache, searchIndex);
+	}
+
+	private BoardBulkImporter importer(int batchSize) {
+		return new BoardBulkImporter(jdbcTemplate, mock(PlatformTransactionManager.class), new ObjectMapper(),
+				Validation.buildDefaultValidatorFactory().getValidator(), boardRepository,
+				frontPageCache, searchIndex, batchSize);
+	}
+
+	private String line(String title, String content, String author) {
+		return "{\"title\":\"" + title + "\",\"content\":\"" + content + "\",\"author\":\"" + author + "\"}";
+	}
+}
@@ -0,0 +1,68 @@
+package com.ohgireffers.board.service;
+
+import com.ohgireffers.board.config.CacheConfig;
+import com.ohgireffers.board.model.dto.BoardRequsetDTO;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.cache.Cache;
+import org.springframework.cache.CacheManager;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+// 게시글 단건 조회 캐시 삭제 시점 테스트
+// 수정/삭제 트랜잭션이 커밋되기 전에는 캐시를 그대로 두고 커밋 후에 지우는지 확인
+@SpringBootTest
+@ActiveProfiles("test")
+class BoardCacheEvictorTest {
+
+	@Autowired
+	private BoardService boardService;
+
+	@Autowired
+	private CacheManager cacheManager;
+
+	@Autowired
+	private PlatformTransactionManager transactionManager;
+
+	@Test
+	void evictsUpdatedBoardOnlyAfterCommit() {
+		Long id = createBoard();
+		boardService.getBoard(id);
+		Cache boardCache = cacheManager.getCache(CacheConfig.BOARD_CACHE);
+
+		new TransactionTemplate(transactionManager).executeWithoutResult(status -> {
+			boardService.updateboard(id, new BoardRequsetDTO(null, "수정", "수정한 내용", "tester"), null);
+			// 커밋 전에는 다른 요청이 이전 값을 다시 캐시에 넣지 않도록 지우지 않음
+			assertThat(boardCache.get(id)).isNotNull();
+		});
+
+		assertThat(boardCache.get(id)).isNull();
+		assertThat(boardService.getBoard(id).getTitle()).isEqualTo("수정");
+	}
+
+	@Test
+	void evictsDeletedBoardAndKeepsCacheOnRollback() {
+		Long kept = createBoard();
+		Long deleted = createBoard();
+		boardService.getBoard(kept);
+		boardService.getBoard(deleted);
+		Cache boardCache = cacheManager.getCache(CacheConfig.BOARD_CACHE);
+
+		new TransactionTemplate(transactionManager).executeWithoutResult(status -> {
+			boardService.deleteboard(kept);
+			status.setRollbackOnly();
+		});
+		boardService.deleteboard(deleted);
+
+		assertThat(boardCache.get(kept)).isNotNull();
+		assertThat(boardCache.get(deleted)).isNull();
+	}
+
+	private Long createBoard() {
+		return boardService.createBoard(new BoardRequsetDTO(null, "캐시", "캐시 삭제 테스트", "tester")).getId();
+	}
+}
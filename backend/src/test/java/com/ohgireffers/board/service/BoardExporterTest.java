@@ -0,0 +1,78 @@
+package com.ohgireffers.board.service;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.SerializationFeature;
+import com.ohgireffers.board.model.entity.Board;
+import com.ohgireffers.board.repository.BoardRepository;
+import jakarta.persistence.EntityManager;
+import org.junit.jupiter.api.Test;
+
+import java.io.ByteArrayOutputStream;
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDate;
+import java.util.stream.LongStream;
+import java.util.stream.Stream;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.Mockito.*;
+
+// 게시글 내보내기 테스트
+// 게시글마다 한 줄씩 쓰는지, CSV 값이 올바르게 감싸지는지, 수식으로 시작하는 값을 막는지, 일정 개수마다 영속성 컨텍스트를 비우는지 확인
+class BoardExporterTest {
+
+	private static final LocalDate TODAY = LocalDate.of(2025, 1, 1);
+
+	private final BoardRepository boardRepository = mock(BoardRepository.class);
+	private final EntityManager entityManager = mock(EntityManager.class);
+	private final BoardExporter exporter = new BoardExporter(boardRepository, entityManager,
+			new ObjectMapper().findAndRegisterModules().disable(SerializationFeature.WRITE_DATES_AS_TIMESTAMPS));
+
+	@Test
+	void writesOneJsonLinePerBoardAndClearsPersistenceContextPeriodically() throws Exception {
+		int count = BoardExporter.CLEAR_INTERVAL * 2 + 5;
+		when(boardRepository.streamAllByOrderByIdAsc()).thenReturn(
+				LongStream.rangeClosed(1, count).mapToObj(id -> board(id, "제목 " + id, "내용")));
+		ByteArrayOutputStream out = new ByteArrayOutputStream();
+
+		long written = exporter.export(BoardExporter.Format.NDJSON, out);
+
+		String[] lines = out.toString(StandardCharsets.UTF_8).split("\n");
+		assertThat(written).isEqualTo(count);
+		assertThat(lines).hasSize(count);
+		assertThat(lines[0]).contains("\"id\":1", "\"title\":\"제목 1\"", "\"createAt\":\"2025-01-01\"");
+		verify(entityManager, times(2)).clear();
+	}
+
+	@Test
+	void quotesCsvValuesContainingSeparatorsQuotesAndNewLines() throws Exception {
+		when(boardRepository.streamAllByOrderByIdAsc()).thenReturn(Stream.of(
+				board(1L, "쉼표, 있는 제목", "\"인용\" 내용\n두 번째 줄")));
+		ByteArrayOutputStream out = new ByteArrayOutputStream();
+
+		exporter.export(BoardExporter.Format.CSV, out);
+
+		assertThat(out.toString(StandardCharsets.UTF_8)).isEqualTo(
+				"id,title,author,content,createAt,updatedAt,commentCount\r\n" +
+				"1,\"쉼표, 있는 제목\",author,\"\"\"인용\"\" 내용\n두 번째 줄\",2025-01-01,,0\r\n");
+	}
+
+	@Test
+	void prefixesCsvValuesThatSpreadsheetsWouldRunAsFormulas() throws Exception {
+		when(boardRepository.streamAllByOrderByIdAsc()).thenReturn(Stream.of(
+				board(1L, "=HYPERLINK(\"http://example.com\",\"클릭\")", "+1+2"),
+				board(2L, "@SUM(A1)", "-10 목록"),
+				board(3L, "평범한 제목 = 수식 아님", "내용")));
+		ByteArrayOutputStream out = new ByteArrayOutputStream();
+
+		exporter.export(BoardExporter.Format.CSV, out);
+
+		String[] lines = out.toString(StandardCharsets.UTF_8).split("\r\n");
+		assertThat(lines[1]).isEqualTo("1,\"'=HYPERLINK(\"\"http://example.com\"\",\"\"클릭\"\")\",author,'+1+2,2025-01-01,,0");
+		assertThat(lines[2]).isEqualTo("2,'@SUM(A1),author,'-10 목록,2025-01-01,,0");
+		assertThat(lines[3]).isEqualTo("3,평범한 제목 = 수식 아님,author,내용,2025-01-01,,0");
+	}
+
+	private Board board(Long id, String title, String content) {
+		return new Board(id, title, "author", content, TODAY, null);
+	}
+}
@@ -0,0 +1,111 @@
+package com.ohgireffers.board.service;
+
+import com.ohgireffers.board.event.BoardChangedEvent;
+import com.ohgireffers.board.event.CommentCountChangedEvent;
+import com.ohgireffers.board.model.dto.BoardSummaryDTO;
+import com.ohgireffers.board.repository.BoardRepository;
+import org.junit.jupiter.api.Test;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.SliceImpl;
+
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.*;
+
+// 목록 앞쪽 페이지 캐시 테스트
+// 이벤트로 부분 갱신된 결과가 DB에서 다시 읽은 결과와 같은지 확인
+class BoardFrontPageCacheTest {
+
+	private static final LocalDate TODAY = LocalDate.of(2025, 1, 1);
+
+	@Test
+	void servesFrontPagesFromMemoryAfterFirstLoad() {
+		BoardRepository repository = repositoryWith(boards(5));
+		BoardFrontPageCache cache = new BoardFrontPageCache(repository, 1, 60_000, () -> 0L);
+
+		Page<BoardSummaryDTO> first = cache.getPage(0, 2);
+		Page<BoardSummaryDTO> second = cache.getPage(1, 2);
+
+		assertThat(first.getContent()).extracting(BoardSummaryDTO::getId).containsExactly(5L, 4L);
+		assertThat(second.getContent()).extracting(BoardSummaryDTO::getId).containsExactly(3L, 2L);
+		assertThat(second.getTotalElements()).isEqualTo(5);
+		verify(repository, times(1)).findFirstSlice(any());
+	}
+
+	@Test
+	void returnsNullOutsideCachedRange() {
+		BoardFrontPageCache cache = new BoardFrontPageCache(repositoryWith(boards(5)), 1, 60_000, () -> 0L);
+
+		assertThat(cache.getPage(1, BoardService.MAX_PAGE_SIZE)).isNull();
+	}
+
+	@Test
+	void appliesBoardAndCommentEventsIncrementally() {
+		BoardRepository repository = repositoryWith(boards(3));
+		BoardFrontPageCache cache = new BoardFrontPageCache(repository, 1, 60_000, () -> 0L);
+		cache.getPage(0, 10);
+
+		cache.onBoardChanged(BoardChangedEvent.created(board(4L)));
+		cache.onBoardChanged(BoardChangedEvent.updated(
+				new BoardSummaryDTO(2L, "수정된 제목", "author", "preview", 0L, TODAY, TODAY)));
+		cache.onBoardChanged(BoardChangedEvent.deleted(1L));
+		cache.onCommentCountChanged(new CommentCountChangedEvent(4L, 2));
+
+		Page<BoardSummaryDTO> page = cache.getPage(0, 10);
+
+		assertThat(page.getContent()).extracting(BoardSummaryDTO::getId).containsExactly(4L, 3L, 2L);
+		assertThat(page.getContent().get(0).getCommentCount()).isEqualTo(2L);
+		assertThat(page.getContent().get(2).getTitle()).isEqualTo("수정된 제목");
+		assertThat(page.getTotalElements()).isEqualTo(3);
+		verify(repository, times(1)).findFirstSlice(any());
+	}
+
+	@Test
+	void reloadsFromDatabaseAfterTtl() {
+		List<BoardSummaryDTO> boards = new ArrayList<>(boards(3));
+		BoardRepository repository = repositoryWith(boards);
+		AtomicLong now = new AtomicLong();
+		BoardFrontPageCache cache = new BoardFrontPageCache(repository, 1, 1_000, now::get);
+		cache.getPage(0, 10);
+
+		// 다른 서버에서 작성되어 이벤트로 받지 못한 게시글
+		boards.add(0, board(4L));
+		now.set(TimeUnit.MILLISECONDS.toNanos(999));
+		assertThat(cache.getPage(0, 10).getContent()).extracting(BoardSummaryDTO::getId).containsExactly(3L, 2L, 1L);
+
+		now.set(TimeUnit.MILLISECONDS.toNanos(1_000));
+		assertThat(cache.getPage(0, 10).getContent()).extracting(BoardSummaryDTO::getId).containsExactly(4L, 3L, 2L, 1L);
+		verify(repository, times(2)).findFirstSlice(any());
+	}
+
+	private BoardRepository repositoryWith(List<BoardSummaryDTO> boards) {
+		BoardRepository repository = mock(BoardRepository.class);
+		when(repository.findFirstSlice(any())).thenAnswer(invocation -> {
+			Pageable pageable = invocation.getArgument(0);
+			List<BoardSummaryDTO> content = boards.subList(0, Math.min(pageable.getPageSize(), boards.size()));
+			return new SliceImpl<>(content, pageable, boards.size() > pageable.getPageSize());
+		});
+		when(repository.count()).thenAnswer(invocation -> (long) boards.size());
+		return repository;
+	}
+
+	// ID가 큰 게시글이 먼저 오도록 (목록 정렬 순서) 생성
+	private List<BoardSummaryDTO> boards(int count) {
+		List<BoardSummaryDTO> boards = new ArrayList<>();
+		for (long id = count; id >= 1; id--) {
+			boards.add(board(id));
+		}
+		return boards;
+	}
+
+	private BoardSummaryDTO board(Long id) {
+		return new BoardSummaryDTO(id, "제목 " + id, "author", "preview", 0L, TODAY, null);
+	}
+}
@@ -0,0 +1,164 @@
+package com.ohgireffers.board.service;
+
+import com.ohgireffers.board.event.BoardChangedEvent;
+import com.ohgireffers.board.model.dto.BoardSummaryDTO;
+import com.ohgireffers.board.model.entity.Board;
+import com.ohgireffers.board.repository.BoardRepository;
+import org.apache.lucene.store.FSDirectory;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+import org.springframework.data.domain.Pageable;
+
+import java.nio.file.Path;
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyLong;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.*;
+
+// 게시글 검색 색인 테스트
+// 한국어 부분 일치, 제목 가중치, 이벤트 반영, 재시작시 저장된 색인 재사용과 그 사이 변경된 게시글 반영을 확인
+class BoardSearchIndexTest {
+
+	private static final LocalDate TODAY = LocalDate.of(2025, 1, 1);
+
+	@TempDir
+	Path indexDir;
+
+	@Test
+	void findsKoreanWordsInsideLongerWordsAndRanksTitleMatchesFirst() throws Exception {
+		List<Board> boards = List.of(
+				board(1L, "공지사항", "게시판에서 질문을 올려주세요"),
+				board(2L, "게시판 이용 안내", "자유롭게 작성해주세요"),
+				board(3L, "점심 메뉴", "오늘은 김치찌개"));
+		BoardSearchIndex index = open(repositoryWith(boards));
+		index.rebuild();
+
+		BoardSearchIndex.Result result = index.search("게시판", 0, 10);
+
+		assertThat(result.hits()).extracting(BoardSearchIndex.Hit::boardId).containsExactly(2L, 1L);
+		assertThat(result.total()).isEqualTo(2);
+		assertThat(index.search("김치", 0, 10).hits()).extracting(BoardSearchIndex.Hit::boardId).containsExactly(3L);
+		assertThat(index.search("없는단어", 0, 10).hits()).isEmpty();
+		index.close();
+	}
+
+	@Test
+	void appliesBoardEventsAfterCommit() throws Exception {
+		List<Board> boards = new ArrayList<>(List.of(board(1L, "Spring Boot", "JPA 게시판")));
+		BoardRepository repository = repositoryWith(boards);
+		BoardSearchIndex index = open(repository);
+		index.rebuild();
+
+		Board created = board(2L, "새 글", "스프링 검색 기능");
+		boards.add(created);
+		index.onBoardChanged(BoardChangedEvent.created(new BoardSummaryDTO(created)));
+		boards.get(0).setTitle("Spring Data");
+		index.onBoardChanged(BoardChangedEvent.updated(new BoardSummaryDTO(boards.get(0))));
+
+		assertThat(index.search("검색", 0, 10).hits()).extracting(BoardSearchIndex.Hit::boardId).containsExactly(2L);
+		assertThat(index.search("boot", 0, 10).hits()).isEmpty();
+		assertThat(index.search("spring data", 0, 10).hits()).extracting(BoardSearchIndex.Hit::boardId).containsExactly(1L);
+
+		index.onBoardChanged(BoardChangedEvent.deleted(2L));
+		assertThat(index.search("검색", 0, 10).hits()).isEmpty();
+		index.close();
+	}
+
+	@Test
+	void reusesPersistedIndexAfterRestart() throws Exception {
+		List<Board> boards = List.of(board(1L, "첫 번째 글", "내용"), board(2L, "두 번째 글", "내용"));
+		BoardRepository repository = repositoryWith(boards);
+		BoardSearchIndex index = open(repository);
+		assertThat(index.rebuildIfStale()).isTrue();
+		index.close();
+
+		BoardSearchIndex reopened = open(repository);
+
+		assertThat(reopened.rebuildIfStale()).isFalse();
+		assertThat(reopened.search("번째", 0, 10).hits()).hasSize(2);
+		// 재시작 후에는 마지막으로 색인한 ID 다음부터만 조회
+		verify(repository).findByIdGreaterThanOrderByIdAsc(eq(0L), any());
+		verify(repository).findByIdGreaterThanOrderByIdAsc(eq(2L), any());
+		reopened.close();
+	}
+
+	@Test
+	void indexesBoardsChangedWhileStoppedWithoutFullRebuild() throws Exception {
+		List<Board> boards = new ArrayList<>(List.of(board(1L, "처음 쓴 글", "내용"), board(2L, "두 번째 글", "내용")));
+		BoardRepository repository = repositoryWith(boards);
+		BoardSearchIndex index = open(repository);
+		index.rebuild();
+		index.close();
+
+		// 꺼져 있는 동안 (또는 다른 서버에서) 작성/수정된 게시글
+		boards.add(board(3L, "세 번째 글", "새로 작성"));
+		boards.get(0).setTitle("수정된 제목");
+		boards.get(0).setUpdatedAt(LocalDate.now());
+		BoardSearchIndex reopened = open(repository);
+
+		assertThat(reopened.rebuildIfStale()).isFalse();
+		assertThat(reopened.search("작성", 0, 10).hits()).extracting(BoardSearchIndex.Hit::boardId).containsExactly(3L);
+		assertThat(reopened.search("수정된", 0, 10).hits()).extracting(BoardSearchIndex.Hit::boardId).containsExactly(1L);
+		assertThat(reopened.search("처음", 0, 10).hits()).isEmpty();
+
+		// 삭제된 게시글은 알 수 없으므로 게시글 수가 다르면 전체 재색인
+		boards.remove(1);
+		reopened.close();
+		BoardSearchIndex afterDelete = open(repository);
+		assertThat(afterDelete.rebuildIfStale()).isTrue();
+		assertThat(afterDelete.search("번째", 0, 10).hits()).extracting(BoardSearchIndex.Hit::boardId).containsExactly(3L);
+		assertThat(afterDelete.search("수정된", 0, 10).hits()).extracting(BoardSearchIndex.Hit::boardId).containsExactly(1L);
+		afterDelete.close();
+	}
+
+	@Test
+	void ignoresOneCharacterWords() throws Exception {
+		BoardSearchIndex index = open(repositoryWith(List.of(board(1L, "새 글", "게시판 글 목록"))));
+		index.rebuild();
+
+		assertThat(index.queryTerms("글")).isEmpty();
+		assertThat(index.queryTerms("새 게시판")).containsExactly("게시", "시판");
+		assertThat(index.search("새 게시판", 0, 10).hits()).extracting(BoardSearchIndex.Hit::boardId).containsExactly(1L);
+		index.close();
+	}
+
+	private BoardSearchIndex open(BoardRepository repository) throws Exception {
+		return new BoardSearchIndex(repository, FSDirectory.open(indexDir));
+	}
+
+	private BoardRepository repositoryWith(List<Board> boards) {
+		BoardRepository repository = mock(BoardRepository.class);
+		when(repository.count()).thenAnswer(invocation -> (long) boards.size());
+		when(repository.findById(any())).thenAnswer(invocation -> boards.stream()
+				.filter(board -> board.getId().equals(invocation.getArgument(0)))
+				.findFirst());
+		when(repository.findByIdGreaterThanOrderByIdAsc(anyLong(), any())).thenAnswer(invocation -> {
+			Long lastId = invocation.getArgument(0);
+			Pageable pageable = invocation.getArgument(1);
+			return boards.stream()
+					.filter(board -> board.getId() > lastId)
+					.limit(pageable.getPageSize())
+					.toList();
+		});
+		when(repository.findByIdGreaterThanAndUpdatedAtGreaterThanEqualOrderByIdAsc(anyLong(), any(), any())).thenAnswer(invocation -> {
+			Long lastId = invocation.getArgument(0);
+			LocalDate since = invocation.getArgument(1);
+			Pageable pageable = invocation.getArgument(2);
+			return boards.stream()
+					.filter(board -> board.getId() > lastId)
+					.filter(board -> board.getUpdatedAt() != null && !board.getUpdatedAt().isBefore(since))
+					.limit(pageable.getPageSize())
+					.toList();
+		});
+		return repository;
+	}
+
+	private Board board(Long id, String title, String content) {
+		return new Board(id, title, "author", content, TODAY, null);
+	}
+}
@@ -0,0 +1,158 @@
+package com.ohgireffers.board.service;
+
+import com.ohgireffers.board.model.dto.BoardRequsetDTO;
+import com.ohgireffers.board.model.dto.CommentRequestDTO;
+import com.ohgireffers.board.model.entity.Comment;
+import com.ohgireffers.board.repository.BoardRepository;
+import com.ohgireffers.board.repository.CommentRepository;
+import jakarta.persistence.EntityManagerFactory;
+import org.hibernate.Cache;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+// 댓글 스레드 삭제 테스트
+// 대댓글이 있는 댓글/게시글을 FK 제약조건에 걸리지 않고 지우는지, 댓글 수가 많으면 백그라운드에서 나눠 지우는지 확인
+// 지운 댓글과 부모의 대댓글 목록만 2차 캐시에서 빠지는지, 삭제 진행 중인 게시글은 댓글을 받지 않고 재시작 후 이어서 지우는지 확인
+// (async-threshold=4, chunk-size=2 이므로 댓글이 5개 이상이면 백그라운드 삭제)
+@SpringBootTest(properties = {
+		"board.delete.async-threshold=4",
+		"board.delete.chunk-size=2"
+})
+@ActiveProfiles("test")
+class BoardThreadDeleterTest {
+
+	private static final String REPLIES_ROLE = Comment.class.getName() + ".replies";
+
+	@Autowired
+	private BoardService boardService;
+
+	@Autowired
+	private CommentService commentService;
+
+	@Autowired
+	private BoardRepository boardRepository;
+
+	@Autowired
+	private CommentRepository commentRepository;
+
+	@Autowired
+	private BoardThreadDeleter threadDeleter;
+
+	@Autowired
+	private JdbcTemplate jdbcTemplate;
+
+	@Autowired
+	private EntityManagerFactory entityManagerFactory;
+
+	@Autowired
+	private PlatformTransactionManager transactionManager;
+
+	@Test
+	void deleteCommentRemovesOnlyItsSubtree() {
+		Long boardId = createBoard();
+		Long rootId = createComment(boardId, null);
+		Long replyId = createComment(boardId, rootId);
+		createComment(boardId, replyId);
+		Long siblingId = createComment(boardId, null);
+
+		commentService.deleteComment(rootId);
+
+		assertThat(commentService.getCommentsByBoardId(boardId))
+				.extracting(comment -> comment.getId())
+				.containsExactly(siblingId);
+		assertThat(commentService.getCommentCountByBoardId(boardId)).isEqualTo(1);
+	}
+
+	@Test
+	void deleteCommentEvictsOnlyDeletedCommentsFromSecondLevelCache() {
+		Long boardId = createBoard();
+		Long rootId = createComment(boardId, null);
+		Long replyId = createComment(boardId, rootId);
+		Long nestedId = createComment(boardId, replyId);
+		Long siblingId = createComment(boardId, null);
+		for (Long id : List.of(rootId, replyId, nestedId, siblingId)) {
+			commentRepository.findById(id);
+		}
+		// 부모 댓글의 대댓글 목록도 캐시에 올려둠
+		new TransactionTemplate(transactionManager).executeWithoutResult(status ->
+				commentRepository.findById(rootId).orElseThrow().getReplies().size());
+		Cache cache = entityManagerFactory.getCache().unwrap(Cache.class);
+		assertThat(cache.containsCollection(REPLIES_ROLE, rootId)).isTrue();
+
+		commentService.deleteComment(replyId);
+
+		assertThat(cache.containsEntity(Comment.class, replyId)).isFalse();
+		assertThat(cache.containsEntity(Comment.class, nestedId)).isFalse();
+		assertThat(cache.containsCollection(REPLIES_ROLE, rootId)).isFalse();
+		// 일괄 DELETE처럼 영역 전체를 비우지 않으므로 남은 댓글은 캐시에 그대로
+		assertThat(cache.containsEntity(Comment.class, rootId)).isTrue();
+		assertThat(cache.containsEntity(Comment.class, siblingId)).isTrue();
+	}
+
+	@Test
+	void unfinishedDeleteRejectsCommentsAndResumes() throws InterruptedException {
+		Long boardId = createBoard();
+		createComment(boardId, createComment(boardId, null));
+		// 백그라운드 삭제 도중 서버가 종료된 상태
+		jdbcTemplate.update("update board set deleting = true where id = ?", boardId);
+
+		assertThatThrownBy(() -> createComment(boardId, null))
+				.isInstanceOf(IllegalArgumentException.class)
+				.hasMessage("게시글을 찾을 수 없습니다.");
+
+		// 같은 DB를 쓰는 다른 테스트의 삭제 중 게시글도 함께 이어서 지울 수 있음
+		assertThat(threadDeleter.resumeUnfinished()).isPositive();
+		for (int i = 0; i < 100 && boardRepository.existsById(boardId); i++) {
+			Thread.sleep(100);
+		}
+		assertThat(boardRepository.existsById(boardId)).isFalse();
+		assertThat(commentRepository.countByBoardId(boardId)).isZero();
+	}
+
+	@Test
+	void deleteboardRemovesNestedComments() {
+		Long boardId = createBoard();
+		Long rootId = createComment(boardId, null);
+		createComment(boardId, createComment(boardId, rootId));
+
+		assertThat(boardService.deleteboard(boardId)).isTrue();
+
+		assertThat(boardRepository.existsById(boardId)).isFalse();
+		assertThat(commentRepository.countByBoardId(boardId)).isZero();
+	}
+
+	@Test
+	void largeThreadIsDeletedInBackgroundInChunks() throws InterruptedException {
+		Long boardId = createBoard();
+		for (int i = 0; i < 3; i++) {
+			Long rootId = createComment(boardId, null);
+			createComment(boardId, createComment(boardId, rootId));
+		}
+
+		assertThat(boardService.deleteboard(boardId)).isFalse();
+
+		for (int i = 0; i < 100 && boardRepository.existsById(boardId); i++) {
+			Thread.sleep(100);
+		}
+		assertThat(boardRepository.existsById(boardId)).isFalse();
+		assertThat(commentRepository.countByBoardId(boardId)).isZero();
+	}
+
+	private Long createBoard() {
+		return boardService.createBoard(new BoardRequsetDTO(null, "삭제", "삭제 테스트", "tester")).getId();
+	}
+
+	private Long createComment(Long boardId, Long parentId) {
+		return commentService.createComment(new CommentRequestDTO("댓글", "tester", boardId, parentId)).getId();
+	}
+}
@@ -0,0 +1,82 @@
+package com.ohgireffers.board.service;
+
+import com.ohgireffers.board.event.BoardChangedEvent;
+import com.ohgireffers.board.event.CommentCountChangedEvent;
+import org.junit.jupiter.api.Test;
+import org.springframework.jdbc.core.JdbcTemplate;
+
+import java.time.Duration;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.within;
+import static org.mockito.Mockito.mock;
+
+// 인기 게시글 순위 테스트
+// 반감기마다 점수가 절반이 되는지, 최대 개수를 넘으면 점수가 낮은 게시글부터 빠지는지 확인
+class BoardTrendingRankingTest {
+
+	private static final long HOUR = Duration.ofHours(1).toMillis();
+
+	private final BoardTrendingRanking ranking = new BoardTrendingRanking(mock(JdbcTemplate.class),
+			Duration.ofHours(1), 1, 5, 3, Duration.ofDays(7));
+	private final long now = System.currentTimeMillis();
+
+	@Test
+	void olderActivityDecaysByHalfLife() {
+		ranking.record(1L, 10, now - 2 * HOUR);
+		ranking.record(2L, 4, now);
+
+		List<BoardTrendingRanking.Ranked> top = ranking.top(10, now);
+
+		assertThat(top).extracting(BoardTrendingRanking.Ranked::boardId).containsExactly(2L, 1L);
+		assertThat(top.get(0).score()).isCloseTo(4, within(1e-6));
+		assertThat(top.get(1).score()).isCloseTo(2.5, within(1e-6));
+		// 같은 게시글의 활동은 점수에 더해짐
+		ranking.record(1L, 2, now);
+		assertThat(ranking.top(1, now).get(0).boardId()).isEqualTo(1L);
+	}
+
+	@Test
+	void commentsAreWeightedAndDeletionsIgnored() {
+		ranking.record(1L, 4, now);
+		ranking.onCommentCountChanged(new CommentCountChangedEvent(2L, 1));
+		ranking.onCommentCountChanged(new CommentCountChangedEvent(3L, -2));
+
+		assertThat(ranking.top(10)).extracting(BoardTrendingRanking.Ranked::boardId).containsExactly(2L, 1L);
+	}
+
+	@Test
+	void keepsOnlyHighestScoresWhenFull() {
+		for (long id = 1; id <= 5; id++) {
+			ranking.record(id, id, now);
+		}
+
+		assertThat(ranking.size()).isEqualTo(3);
+		assertThat(ranking.top(10, now)).extracting(BoardTrendingRanking.Ranked::boardId).containsExactly(5L, 4L, 3L);
+	}
+
+	@Test
+	void removesDeletedBoards() {
+		ranking.record(1L, 1, now);
+		ranking.record(2L, 2, now);
+
+		ranking.onBoardChanged(BoardChangedEvent.deleted(2L));
+
+		assertThat(ranking.top(10, now)).extracting(BoardTrendingRanking.Ranked::boardId).containsExactly(1L);
+	}
+
+	@Test
+	void rescalesWithoutChangingScores() {
+		long later = now + 300 * HOUR;
+		ranking.record(1L, 8, later - 3 * HOUR);
+		ranking.record(2L, 4, later - HOUR);
+		ranking.record(3L, 1.5, later);
+
+		List<BoardTrendingRanking.Ranked> top = ranking.top(10, later);
+
+		assertThat(top).extracting(BoardTrendingRanking.Ranked::boardId).containsExactly(2L, 3L, 1L);
+		assertThat(top.get(0).score()).isCloseTo(2, within(1e-6));
+		assertThat(top.get(2).score()).isCloseTo(1, within(1e-6));
+	}
+}
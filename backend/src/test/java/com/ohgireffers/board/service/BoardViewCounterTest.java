@@ -0,0 +1,146 @@
+package com.ohgireffers.board.service;
+
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.ohgireffers.board.config.CacheConfig;
+import com.ohgireffers.board.model.dto.BoardResponseDTO;
+import com.ohgireffers.board.model.entity.Board;
+import com.ohgireffers.board.repository.BoardRepository;
+import jakarta.persistence.EntityManagerFactory;
+import org.junit.jupiter.api.Test;
+import org.springframework.cache.Cache;
+import org.springframework.cache.CacheManager;
+import org.springframework.cache.caffeine.CaffeineCache;
+import org.springframework.dao.QueryTimeoutException;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.transaction.PlatformTransactionManager;
+
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.*;
+import static org.mockito.Mockito.*;
+
+// 게시글 조회수 집계 테스트
+// 반영 전 조회수가 캐시된 DTO를 건드리지 않고 응답에 더해지는지, 배치로 반영된 만큼만 빠지는지 확인
+// 반영 후 캐시를 지우지 않고 캐시된 조회수만 DB 값으로 올리는지, 반영 중/실패시에도 조회수가 빠지지 않는지 확인
+class BoardViewCounterTest {
+
+	private final JdbcTemplate jdbcTemplate = mock(JdbcTemplate.class);
+	private final CacheManager cacheManager = mock(CacheManager.class);
+	private final Cache boardCache = new CaffeineCache(CacheConfig.BOARD_CACHE, Caffeine.newBuilder().build());
+	private final EntityManagerFactory entityManagerFactory = mock(EntityManagerFactory.class);
+	private final jakarta.persistence.Cache entityCache = mock(jakarta.persistence.Cache.class);
+	private final BoardRepository boardRepository = mock(BoardRepository.class);
+	private final BoardTrendingRanking trendingRanking = mock(BoardTrendingRanking.class);
+	private final BoardViewCounter counter = new BoardViewCounter(jdbcTemplate, mock(PlatformTransactionManager.class),
+			cacheManager, entityManagerFactory, boardRepository, trendingRanking, 2);
+
+	BoardViewCounterTest() {
+		when(cacheManager.getCache(CacheConfig.BOARD_CACHE)).thenReturn(boardCache);
+		when(entityManagerFactory.getCache()).thenReturn(entityCache);
+	}
+
+	@Test
+	void addsPendingViewsToCopyWithoutChangingCachedBoard() {
+		BoardResponseDTO cached = board(1L, 10L);
+		counter.increment(1L);
+		counter.increment(1L);
+
+		BoardResponseDTO response = counter.withPendingViews(cached);
+
+		assertThat(response.getViewCount()).isEqualTo(12);
+		assertThat(response).isNotSameAs(cached);
+		assertThat(cached.getViewCount()).isEqualTo(10);
+		assertThat(counter.withPendingViews(board(2L, 5L)).getViewCount()).isEqualTo(5);
+	}
+
+	@Test
+	@SuppressWarnings("unchecked")
+	void flushWritesDeltasInBatchesAndRaisesCachedViewCounts() {
+		BoardResponseDTO cached = board(3L, 10L);
+		boardCache.put(3L, cached);
+		when(boardRepository.findAllById(any(Iterable.class))).thenAnswer(invocation -> {
+			List<Board> boards = new ArrayList<>();
+			for (Long id : (Iterable<Long>) invocation.getArgument(0)) {
+				boards.add(entity(id, id == 3L ? 13L : 1L));
+			}
+			return boards;
+		});
+		for (int i = 0; i < 3; i++) {
+			counter.increment(3L);
+		}
+		counter.increment(1L);
+		counter.increment(2L);
+
+		counter.flush();
+
+		// 게시글 ID 순으로 2개씩 나눠서 반영
+		verify(jdbcTemplate).batchUpdate(eq(BoardViewCounter.UPDATE_SQL), (List<Object[]>) argThat(rows ->
+				((List<Object[]>) rows).size() == 2 && ((List<Object[]>) rows).get(0)[1].equals(1L)));
+		verify(jdbcTemplate).batchUpdate(eq(BoardViewCounter.UPDATE_SQL), (List<Object[]>) argThat(rows ->
+				((List<Object[]>) rows).size() == 1 && ((List<Object[]>) rows).get(0)[0].equals(3L)));
+		assertThat(counter.pendingViews(3L)).isZero();
+		// 캐시된 게시글은 지우지 않고 DB 조회수를 담은 복사본으로 교체, 캐시에 없던 게시글은 넣지 않음
+		BoardResponseDTO refreshed = boardCache.get(3L, BoardResponseDTO.class);
+		assertThat(refreshed.getViewCount()).isEqualTo(13);
+		assertThat(refreshed.getTitle()).isEqualTo("제목");
+		assertThat(cached.getViewCount()).isEqualTo(10);
+		assertThat(boardCache.get(1L)).isNull();
+		// 2차 캐시는 지운 뒤 배치마다 한 번의 조회로 다시 채움
+		verify(entityCache).evict(Board.class, 3L);
+		verify(boardRepository, times(2)).findAllById(any(Iterable.class));
+		verify(trendingRanking).recordViews(3L, 3L);
+	}
+
+	@Test
+	@SuppressWarnings("unchecked")
+	void countsViewsBeingWrittenAsPending() {
+		when(jdbcTemplate.batchUpdate(anyString(), any(List.class))).thenAnswer(invocation -> {
+			// UPDATE 중에 들어온 조회
+			counter.increment(1L);
+			assertThat(counter.pendingViews(1L)).isEqualTo(3);
+			return new int[]{1};
+		});
+		when(boardRepository.findAllById(any(Iterable.class))).thenReturn(List.of());
+		counter.increment(1L);
+		counter.increment(1L);
+
+		counter.flush();
+
+		// 반영된 2건만 빠지고 반영 중에 들어온 1건은 다음 주기에 반영
+		assertThat(counter.pendingViews(1L)).isEqualTo(1);
+	}
+
+	@Test
+	@SuppressWarnings("unchecked")
+	void keepsPendingViewsWhenFlushFails() {
+		when(jdbcTemplate.batchUpdate(anyString(), any(List.class))).thenThrow(new QueryTimeoutException("timeout"));
+		counter.increment(1L);
+
+		counter.flush();
+
+		// 되돌린 조회수는 다음 주기에 다시 반영
+		assertThat(counter.pendingViews(1L)).isEqualTo(1);
+		verify(boardRepository, never()).findAllById(any());
+		verify(trendingRanking, never()).recordViews(any(), anyLong());
+
+		reset(jdbcTemplate);
+		counter.flush();
+
+		verify(jdbcTemplate).batchUpdate(eq(BoardViewCounter.UPDATE_SQL), (List<Object[]>) argThat(rows ->
+				((List<Object[]>) rows).size() == 1 && ((List<Object[]>) rows).get(0)[0].equals(1L)));
+		assertThat(counter.pendingViews(1L)).isZero();
+	}
+
+	private BoardResponseDTO board(Long id, long viewCount) {
+		return new BoardResponseDTO(entity(id, viewCount));
+	}
+
+	private Board entity(Long id, long viewCount) {
+		Board board = new Board(id, "제목", "author", "내용", LocalDate.of(2025, 1, 1), null);
+		board.setViewCount(viewCount);
+		return board;
+	}
+}
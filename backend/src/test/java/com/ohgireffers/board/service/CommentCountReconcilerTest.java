@@ -0,0 +1,84 @@
+package com.ohgireffers.board.service;
+
+import com.ohgireffers.board.model.dto.BoardRequsetDTO;
+import com.ohgireffers.board.model.dto.CommentRequestDTO;
+import com.ohgireffers.board.model.entity.Board;
+import com.ohgireffers.board.repository.BoardRepository;
+import jakarta.persistence.EntityManagerFactory;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.test.context.ActiveProfiles;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+// 댓글 수 보정 테스트
+// 저장된 댓글 수가 실제와 다른 게시글만 고치고, 그 게시글의 2차 캐시만 비우는지 확인
+// (reconcile-chunk-size=2 이므로 게시글 ID 범위를 여러 번 나눠서 보정)
+@SpringBootTest(properties = {
+		"board.comment-count.reconcile-chunk-size=2"
+})
+@ActiveProfiles("test")
+class CommentCountReconcilerTest {
+
+	@Autowired
+	private CommentCountReconciler reconciler;
+
+	@Autowired
+	private BoardService boardService;
+
+	@Autowired
+	private CommentService commentService;
+
+	@Autowired
+	private BoardRepository boardRepository;
+
+	@Autowired
+	private JdbcTemplate jdbcTemplate;
+
+	@Autowired
+	private EntityManagerFactory entityManagerFactory;
+
+	@Test
+	void repairsDriftedCountsAndEvictsOnlyThoseBoards() {
+		Long drifted = createBoard();
+		Long cleared = createBoard();
+		Long intact = createBoard();
+		Long empty = createBoard();
+		createComment(drifted);
+		createComment(drifted);
+		createComment(cleared);
+		createComment(intact);
+
+		// 증감 쿼리 실패나 직접 DB 수정으로 어긋난 댓글 수
+		jdbcTemplate.update("update board set comment_count = 7 where id = ?", drifted);
+		jdbcTemplate.update("update board set comment_count = null where id = ?", cleared);
+		jdbcTemplate.update("update board set comment_count = 3 where id = ?", empty);
+		// 보정 전에 모두 2차 캐시에 올려둠 (캐시에는 DB를 직접 고치기 전 값이 남아 있음)
+		for (Long id : new Long[]{drifted, cleared, intact, empty}) {
+			boardRepository.findById(id);
+		}
+		assertThat(entityManagerFactory.getCache().contains(Board.class, intact)).isTrue();
+
+		reconciler.reconcile();
+
+		assertThat(jdbcTemplate.queryForObject("select comment_count from board where id = ?", Long.class, drifted)).isEqualTo(2);
+		assertThat(jdbcTemplate.queryForObject("select comment_count from board where id = ?", Long.class, cleared)).isEqualTo(1);
+		assertThat(jdbcTemplate.queryForObject("select comment_count from board where id = ?", Long.class, empty)).isZero();
+		assertThat(jdbcTemplate.queryForObject("select comment_count from board where id = ?", Long.class, intact)).isEqualTo(1);
+		// 보정한 게시글만 캐시에서 지워지고 나머지 게시글 캐시는 그대로
+		assertThat(entityManagerFactory.getCache().contains(Board.class, drifted)).isFalse();
+		assertThat(entityManagerFactory.getCache().contains(Board.class, empty)).isFalse();
+		assertThat(entityManagerFactory.getCache().contains(Board.class, intact)).isTrue();
+		assertThat(boardRepository.findById(drifted).orElseThrow().getCommentCount()).isEqualTo(2);
+	}
+
+	private Long createBoard() {
+		return boardService.createBoard(new BoardRequsetDTO(null, "보정", "댓글 수 보정 테스트", "tester")).getId();
+	}
+
+	private void createComment(Long boardId) {
+		commentService.createComment(new CommentRequestDTO("댓글", "tester", boardId, null));
+	}
+}
@@ -0,0 +1,188 @@
+package com.ohgireffers.board.service;
+
+import com.ohgireffers.board.model.dto.CommentParentDTO;
+import com.ohgireffers.board.model.dto.CommentRequestDTO;
+import com.ohgireffers.board.model.dto.CommentResponseDTO;
+import com.ohgireffers.board.model.entity.Board;
+import com.ohgireffers.board.model.entity.Comment;
+import com.ohgireffers.board.repository.BoardRepository;
+import com.ohgireffers.board.repository.CommentRepository;
+import org.junit.jupiter.api.Test;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.dao.DataIntegrityViolationException;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Optional;
+import java.util.Random;
+import java.util.stream.Collectors;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyLong;
+import static org.mockito.Mockito.*;
+
+// 댓글 계층구조 정렬 테스트
+// 이전 방식(부모마다 전체 목록을 다시 훑는 O(n²))과 10,000개 댓글에서 결과가 같은지 확인 (속도 비교는 CommentHierarchyBenchmark)
+// 댓글 작성시 게시글/부모 댓글 엔티티를 읽지 않고 참조와 부모 정보 조회만 사용하는지 확인
+// 없는 게시글만 "게시글을 찾을 수 없습니다."로 거절하고 다른 제약조건 위반은 그대로 전달하는지 확인
+class CommentServiceTest {
+
+	private static final int LARGE_THREAD_SIZE = 10_000;
+
+	private final CommentRepository commentRepository = mock(CommentRepository.class);
+	private final BoardRepository boardRepository = mock(BoardRepository.class);
+	private final CommentService commentService = new CommentService(commentRepository, boardRepository,
+			mock(ApplicationEventPublisher.class));
+
+	@Test
+	void createReplyUsesReferencesInsteadOfLoadingBoardAndParent() {
+		when(boardRepository.addCommentCountUnlessDeleting(1L, 1)).thenReturn(1);
+		when(boardRepository.getReferenceById(1L)).thenReturn(new Board(1L, "제목", "author", "내용", null, null));
+		Comment parentReference = new Comment();
+		parentReference.setId(10L);
+		when(commentRepository.getReferenceById(10L)).thenReturn(parentReference);
+		when(commentRepository.findParentInfoById(10L)).thenReturn(Optional.of(new CommentParentDTO(1L, 2, "0000000a")));
+		when(commentRepository.save(any(Comment.class))).thenAnswer(invocation -> {
+			Comment saved = invocation.getArgument(0);
+			saved.setId(11L);
+			return saved;
+		});
+
+		CommentResponseDTO reply = commentService.createComment(new CommentRequestDTO("대댓글", "user", 1L, 10L));
+
+		assertThat(reply.getDepth()).isEqualTo(3);
+		assertThat(reply.getParentCommentId()).isEqualTo(10L);
+		verify(boardRepository, never()).findById(anyLong());
+		verify(commentRepository, never()).findById(anyLong());
+		verify(boardRepository).addCommentCountUnlessDeleting(1L, 1);
+	}
+
+	@Test
+	void createReplyRejectsParentFromAnotherBoard() {
+		when(commentRepository.findParentInfoById(10L)).thenReturn(Optional.of(new CommentParentDTO(2L, 0, "0000000a")));
+
+		assertThatThrownBy(() -> commentService.createComment(new CommentRequestDTO("대댓글", "user", 1L, 10L)))
+				.isInstanceOf(IllegalArgumentException.class);
+		verify(commentRepository, never()).save(any(Comment.class));
+	}
+
+	@Test
+	void createCommentRejectsMissingBoard() {
+		assertThatThrownBy(() -> commentService.createComment(new CommentRequestDTO("댓글", "user", 1L, null)))
+				.isInstanceOf(IllegalArgumentException.class)
+				.hasMessage("게시글을 찾을 수 없습니다.");
+		verify(commentRepository, never()).save(any(Comment.class));
+	}
+
+	@Test
+	void createCommentPassesThroughOtherConstraintViolations() {
+		when(boardRepository.addCommentCountUnlessDeleting(1L, 1)).thenReturn(1);
+		DataIntegrityViolationException violation = new DataIntegrityViolationException("user 컬럼 길이 초과");
+		when(commentRepository.save(any(Comment.class))).thenThrow(violation);
+
+		// 게시글이 없다는 메시지로 바꾸지 않고 원래 예외를 그대로 전달
+		assertThatThrownBy(() -> commentService.createComment(new CommentRequestDTO("댓글", "user", 1L, null)))
+				.isSameAs(violation);
+	}
+
+	@Test
+	void organizeCommentsHierarchyBuildsNestedReplies() {
+		List<CommentResponseDTO> comments = List.of(
+				comment(1L, null, 0),
+				comment(2L, 1L, 1),
+				comment(3L, null, 0),
+				comment(4L, 2L, 2),
+				comment(5L, 1L, 1));
+
+		List<CommentResponseDTO> roots = CommentService.organizeCommentsHierarchy(comments);
+
+		assertThat(roots).extracting(CommentResponseDTO::getId).containsExactly(1L, 3L);
+		assertThat(roots.get(0).getReplies()).extracting(CommentResponseDTO::getId).containsExactly(2L, 5L);
+		assertThat(roots.get(0).getReplies().get(0).getReplies()).extracting(CommentResponseDTO::getId).containsExactly(4L);
+		assertThat(roots.get(1).getReplies()).isEmpty();
+	}
+
+	@Test
+	void organizeCommentsHierarchyTreatsCommentWithoutLoadedParentAsRoot() {
+		// 특정 댓글 아래 스레드만 조회한 경우 시작 댓글의 부모는 목록에 없다
+		List<CommentResponseDTO> subtree = List.of(
+				comment(2L, 1L, 1),
+				comment(4L, 2L, 2));
+
+		List<CommentResponseDTO> roots = CommentService.organizeCommentsHierarchy(subtree);
+
+		assertThat(roots).extracting(CommentResponseDTO::getId).containsExactly(2L);
+		assertThat(roots.get(0).getReplies()).extracting(CommentResponseDTO::getId).containsExactly(4L);
+	}
+
+	@Test
+	void organizeCommentsHierarchyMatchesPreviousResultOnLargeThread() {
+		List<CommentResponseDTO> comments = randomThread(LARGE_THREAD_SIZE);
+
+		List<CommentResponseDTO> expected = naiveHierarchy(copy(comments));
+		List<CommentResponseDTO> actual = CommentService.organizeCommentsHierarchy(copy(comments));
+
+		assertThat(shape(actual)).isEqualTo(shape(expected));
+	}
+
+	// 게시글 하나에 달린 임의의 댓글 트리 (앞서 생성된 댓글 중 하나를 부모로 선택)
+	private List<CommentResponseDTO> randomThread(int size) {
+		Random random = new Random(42);
+		List<CommentResponseDTO> comments = new ArrayList<>(size);
+		for (int i = 0; i < size; i++) {
+			long id = i + 1;
+			if (i == 0 || random.nextInt(4) == 0) {
+				comments.add(comment(id, null, 0));
+			} else {
+				CommentResponseDTO parent = comments.get(random.nextInt(i));
+				comments.add(comment(id, parent.getId(), parent.getDepth() + 1));
+			}
+		}
+		return comments;
+	}
+
+	private CommentResponseDTO comment(Long id, Long parentId, int depth) {
+		LocalDateTime now = LocalDateTime.of(2025, 1, 1, 0, 0).plusSeconds(id);
+		return new CommentResponseDTO(id, "댓글 " + id, "user", 1L, parentId, parentId != null,
+				depth, null, now, now);
+	}
+
+	private List<CommentResponseDTO> copy(List<CommentResponseDTO> comments) {
+		return comments.stream()
+				.map(c -> new CommentResponseDTO(c.getId(), c.getTextBody(), c.getUser(), c.getBoardId(),
+						c.getParentCommentId(), c.getIsCommentForComment(), c.getDepth(), c.getOrderNumber(),
+						c.getCreatedDate(), c.getModifiedDate()))
+				.collect(Collectors.toList());
+	}
+
+	// 트리 모양을 "id(자식들)" 형태의 문자열로 표현
+	private String shape(List<CommentResponseDTO> nodes) {
+		return nodes.stream()
+				.map(node -> node.getId() + "(" + shape(node.getReplies()) + ")")
+				.collect(Collectors.joining(","));
+	}
+
+	// 이전 구현: 각 댓글마다 전체 목록을 다시 필터링 (O(n²))
+	private List<CommentResponseDTO> naiveHierarchy(List<CommentResponseDTO> allDtos) {
+		List<CommentResponseDTO> rootComments = allDtos.stream()
+				.filter(dto -> dto.getParentCommentId() == null)
+				.collect(Collectors.toList());
+		for (CommentResponseDTO rootComment : rootComments) {
+			naiveAttachReplies(rootComment, allDtos);
+		}
+		return rootComments;
+	}
+
+	private void naiveAttachReplies(CommentResponseDTO parentDto, List<CommentResponseDTO> allDtos) {
+		List<CommentResponseDTO> replies = allDtos.stream()
+				.filter(dto -> parentDto.getId().equals(dto.getParentCommentId()))
+				.collect(Collectors.toList());
+		parentDto.setReplies(replies);
+		for (CommentResponseDTO reply : replies) {
+			naiveAttachReplies(reply, allDtos);
+		}
+	}
+}
@@ -0,0 +1,137 @@
+package com.ohgireffers.board.service;
+
+import com.ohgireffers.board.model.dto.BoardRequsetDTO;
+import com.ohgireffers.board.model.dto.CommentRequestDTO;
+import com.ohgireffers.board.model.dto.CommentResponseDTO;
+import com.ohgireffers.board.model.dto.SliceResponseDTO;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.test.context.ActiveProfiles;
+
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Base64;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+// 댓글 커서(키셋) 페이징 테스트
+// 작성일시가 같은 댓글이 페이지 경계에 걸려도 빠지거나 중복되지 않는지, 잘못된 커서는 IllegalArgumentException인지 확인
+// path가 없는 기존 댓글도 단계마다 ID 순으로 채우면 새로 작성한 댓글과 같은 path가 되는지 확인
+@SpringBootTest
+@ActiveProfiles("test")
+class CommentSliceTest {
+
+	private static final LocalDateTime SAME_TIME = LocalDateTime.of(2025, 1, 1, 12, 0);
+
+	@Autowired
+	private BoardService boardService;
+
+	@Autowired
+	private CommentService commentService;
+
+	@Autowired
+	private JdbcTemplate jdbcTemplate;
+
+	@Test
+	void rootSlicesReturnEveryRootOnceAcrossSameTimestamp() {
+		Long boardId = createBoard();
+		List<Long> roots = new ArrayList<>();
+		for (int i = 0; i < 5; i++) {
+			roots.add(createComment(boardId, null));
+		}
+		createComment(boardId, roots.get(0));
+		// 작성일시를 모두 같게 만들어 페이지 경계가 같은 작성일시 안에 걸리도록 함
+		jdbcTemplate.update("update comment set created_date = ? where board_id = ?", SAME_TIME, boardId);
+
+		List<Long> seen = new ArrayList<>();
+		SliceResponseDTO<CommentResponseDTO> slice = commentService.getRootComments(boardId, null, 2);
+		seen.addAll(ids(slice));
+		while (slice.isHasNext()) {
+			slice = commentService.getRootComments(boardId, slice.getNextCursor(), 2);
+			seen.addAll(ids(slice));
+		}
+
+		// 대댓글은 포함하지 않고 최상위 댓글만 작성 순서대로
+		assertThat(seen).containsExactlyElementsOf(roots);
+		assertThat(slice.getNextCursor()).isNull();
+	}
+
+	@Test
+	void fullLastSliceHasNoNextCursor() {
+		Long boardId = createBoard();
+		Long first = createComment(boardId, null);
+		Long second = createComment(boardId, null);
+		createComment(boardId, first);
+
+		SliceResponseDTO<CommentResponseDTO> slice = commentService.getRootComments(boardId, null, 2);
+
+		assertThat(ids(slice)).containsExactly(first, second);
+		assertThat(slice.isHasNext()).isFalse();
+		assertThat(slice.getNextCursor()).isNull();
+		assertThat(slice.getContent().get(0).getReplyCount()).isEqualTo(1);
+	}
+
+	@Test
+	void malformedCursorIsRejected() {
+		Long boardId = createBoard();
+		createComment(boardId, null);
+
+		for (String cursor : List.of("!!!", encode("abc"), encode(SAME_TIME + "_"), encode("2025-13-01T00:00_1"),
+				encode(SAME_TIME + "_1_2"))) {
+			assertThatThrownBy(() -> commentService.getRootComments(boardId, cursor, 2))
+					.isInstanceOf(IllegalArgumentException.class)
+					.hasMessage("올바르지 않은 커서입니다.");
+		}
+		// 게시글 목록도 같은 커서 형식을 사용
+		assertThatThrownBy(() -> boardService.getboardWithCursor(encode("2025-01-01"), 2))
+				.isInstanceOf(IllegalArgumentException.class)
+				.hasMessage("올바르지 않은 커서입니다.");
+	}
+
+	@Test
+	void backfillRestoresPathsDepthByDepth() {
+		Long boardId = createBoard();
+		Long root = createComment(boardId, null);
+		Long reply = createComment(boardId, root);
+		createComment(boardId, reply);
+		List<String> expected = paths(boardId);
+		// path 컬럼이 추가되기 전에 작성된 댓글처럼 path를 비움
+		jdbcTemplate.update("update comment set path = null where board_id = ?", boardId);
+
+		// 배치 크기 1로 단계마다 ID 순으로 이어서 채움
+		for (int depth = 0; depth <= 2; depth++) {
+			Long afterId = 0L;
+			do {
+				afterId = commentService.backfillCommentPaths(depth, afterId, 1);
+			} while (afterId != null);
+		}
+
+		assertThat(paths(boardId)).containsExactlyElementsOf(expected);
+		assertThat(expected.get(2)).startsWith(expected.get(1)).startsWith(expected.get(0));
+	}
+
+	private List<String> paths(Long boardId) {
+		return jdbcTemplate.queryForList("select path from comment where board_id = ? order by comment_id", String.class, boardId);
+	}
+
+	private static List<Long> ids(SliceResponseDTO<CommentResponseDTO> slice) {
+		return slice.getContent().stream().map(CommentResponseDTO::getId).toList();
+	}
+
+	private static String encode(String raw) {
+		return Base64.getUrlEncoder().withoutPadding().encodeToString(raw.getBytes(StandardCharsets.UTF_8));
+	}
+
+	private Long createBoard() {
+		return boardService.createBoard(new BoardRequsetDTO(null, "커서", "커서 테스트", "tester")).getId();
+	}
+
+	private Long createComment(Long boardId, Long parentId) {
+		return commentService.createComment(new CommentRequestDTO("댓글", "tester", boardId, parentId)).getId();
+	}
+}
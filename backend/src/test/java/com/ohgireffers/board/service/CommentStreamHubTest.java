@@ -0,0 +1,205 @@
+package com.ohgireffers.board.service;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.datatype.jsr310.JavaTimeModule;
+import com.ohgireffers.board.event.BoardChangedEvent;
+import com.ohgireffers.board.event.CommentChangedEvent;
+import com.ohgireffers.board.model.dto.CommentResponseDTO;
+import org.junit.jupiter.api.Test;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
+
+import java.io.IOException;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.LinkedBlockingQueue;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.BooleanSupplier;
+import java.util.stream.Collectors;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.spy;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+
+// 실시간 댓글 스트림 테스트
+// 이벤트를 한 번만 변환해서 같은 게시글 구독자에게만 보내는지, 느린 구독자와 끊긴 연결을 정리하는지 확인
+// 전송이 멈춘 구독자는 제한 시간 후 연결을 끊고, 멈춘 전송이 스레드를 붙잡고 있어도 다른 구독자에게는 계속 보내는지 확인
+class CommentStreamHubTest {
+
+	private final ObjectMapper objectMapper = spy(new ObjectMapper().registerModule(new JavaTimeModule()));
+	private final List<Runnable> pendingSends = new ArrayList<>();
+
+	@Test
+	void fansOutOneSerializedEventToSubscribersOfTheBoard() throws Exception {
+		CommentStreamHub hub = new CommentStreamHub(objectMapper, Runnable::run, 8, 60_000, 5_000, 100, System::nanoTime);
+		RecordingEmitter first = subscribe(hub, 1L);
+		RecordingEmitter second = subscribe(hub, 1L);
+		RecordingEmitter otherBoard = subscribe(hub, 2L);
+
+		hub.onCommentChanged(CommentChangedEvent.created(comment(10L, 1L)));
+
+		assertThat(first.sent).hasSize(2);
+		assertThat(first.sent.get(0)).isEqualTo(":connected");
+		assertThat(first.sent.get(1)).startsWith("event:created data:{\"id\":10,");
+		assertThat(second.sent).isEqualTo(first.sent);
+		assertThat(otherBoard.sent).containsExactly(":connected");
+		verify(objectMapper, times(1)).writeValueAsString(any());
+	}
+
+	@Test
+	void evictsSlowSubscriberWhenBufferIsFull() {
+		CommentStreamHub hub = new CommentStreamHub(objectMapper, pendingSends::add, 2, 60_000, 5_000, 100, System::nanoTime);
+		RecordingEmitter slow = subscribe(hub, 1L);
+
+		// 연결 확인 주석 + 이벤트 1건으로 큐가 가득 차고, 다음 이벤트에서 연결 종료
+		hub.onCommentChanged(CommentChangedEvent.created(comment(10L, 1L)));
+		hub.onCommentChanged(CommentChangedEvent.created(comment(11L, 1L)));
+
+		assertThat(hub.subscriberCount()).isZero();
+		assertThat(hub.evictedCount()).isEqualTo(1);
+		// 연결 종료는 전송 스레드에서 처리
+		assertThat(slow.completed).isFalse();
+		runPendingSends();
+		assertThat(slow.completed).isTrue();
+		assertThat(slow.sent).isEmpty();
+	}
+
+	@Test
+	void removesDisconnectedSubscribersAndClosesDeletedBoards() {
+		CommentStreamHub hub = new CommentStreamHub(objectMapper, Runnable::run, 8, 60_000, 5_000, 100, System::nanoTime);
+		RecordingEmitter disconnected = subscribe(hub, 1L);
+		RecordingEmitter watcher = subscribe(hub, 1L);
+		disconnected.failSends = true;
+
+		hub.heartbeat();
+		assertThat(hub.subscriberCount()).isEqualTo(1);
+
+		hub.onBoardChanged(BoardChangedEvent.deleted(1L));
+		assertThat(watcher.completed).isTrue();
+		assertThat(hub.subscriberCount()).isZero();
+		assertThat(disconnected.completed).isFalse();
+	}
+
+	@Test
+	void evictsStalledSubscriberWithoutHoldingUpOthers() throws Exception {
+		AtomicLong now = new AtomicLong();
+		ThreadPoolExecutor pool = new ThreadPoolExecutor(1, 1, 0L, TimeUnit.MILLISECONDS, new LinkedBlockingQueue<>());
+		CommentStreamHub hub = new CommentStreamHub(objectMapper, pool, 8, 60_000, 1_000, 100, now::get);
+		try {
+			BlockingEmitter stuck = new BlockingEmitter();
+			hub.subscribe(1L, stuck);
+			assertThat(stuck.sending.await(5, TimeUnit.SECONDS)).isTrue();
+			// 스레드가 하나뿐이므로 멈춘 전송 뒤에서 대기
+			RecordingEmitter watcher = subscribe(hub, 1L);
+
+			now.set(TimeUnit.MILLISECONDS.toNanos(999));
+			hub.evictStalledSubscribers();
+			assertThat(hub.evictedCount()).isZero();
+
+			now.set(TimeUnit.MILLISECONDS.toNanos(1_000));
+			hub.evictStalledSubscribers();
+			assertThat(hub.evictedCount()).isEqualTo(1);
+			assertThat(hub.subscriberCount()).isEqualTo(1);
+			waitUntil(() -> watcher.sent.contains(":connected"));
+			assertThat(pool.getCorePoolSize()).isEqualTo(2);
+
+			// 멈춘 전송이 끝나면 연결을 종료하고 스레드 수를 되돌림
+			stuck.release.countDown();
+			assertThat(stuck.completed.await(5, TimeUnit.SECONDS)).isTrue();
+			waitUntil(() -> pool.getCorePoolSize() == 1);
+		} finally {
+			hub.close();
+		}
+	}
+
+	@Test
+	void rejectsSubscribersOverLimit() {
+		CommentStreamHub hub = new CommentStreamHub(objectMapper, Runnable::run, 8, 60_000, 5_000, 1, System::nanoTime);
+		subscribe(hub, 1L);
+
+		assertThatThrownBy(() -> subscribe(hub, 2L)).isInstanceOf(IllegalStateException.class);
+		assertThat(hub.subscriberCount()).isEqualTo(1);
+	}
+
+	private RecordingEmitter subscribe(CommentStreamHub hub, Long boardId) {
+		RecordingEmitter emitter = new RecordingEmitter();
+		hub.subscribe(boardId, emitter);
+		return emitter;
+	}
+
+	private static void waitUntil(BooleanSupplier condition) throws InterruptedException {
+		long deadline = System.nanoTime() + TimeUnit.SECONDS.toNanos(5);
+		while (!condition.getAsBoolean()) {
+			assertThat(System.nanoTime()).as("조건 대기 시간 초과").isLessThan(deadline);
+			Thread.sleep(10);
+		}
+	}
+
+	private void runPendingSends() {
+		while (!pendingSends.isEmpty()) {
+			pendingSends.remove(0).run();
+		}
+	}
+
+	private static CommentResponseDTO comment(Long id, Long boardId) {
+		LocalDateTime now = LocalDateTime.now();
+		return new CommentResponseDTO(id, "댓글", "user", boardId, null, false, 0, null, now, now, 0L);
+	}
+
+	// 전송한 SSE 항목을 한 줄로 기록
+	private static class RecordingEmitter extends SseEmitter {
+
+		private final List<String> sent = Collections.synchronizedList(new ArrayList<>());
+		private boolean failSends;
+		private volatile boolean completed;
+
+		@Override
+		public void send(SseEventBuilder builder) throws IOException {
+			if (failSends) {
+				throw new IOException("연결 끊김");
+			}
+			String text = builder.build().stream()
+					.map(part -> part.getData().toString())
+					.collect(Collectors.joining())
+					.trim()
+					.replace("\n", " ");
+			sent.add(text);
+		}
+
+		@Override
+		public void complete() {
+			completed = true;
+		}
+	}
+
+	// 전송을 시작하면 release 될 때까지 멈추는 구독자 (받지 않는 클라이언트로 소켓 쓰기가 막힌 상태)
+	private static class BlockingEmitter extends SseEmitter {
+
+		private final CountDownLatch sending = new CountDownLatch(1);
+		private final CountDownLatch release = new CountDownLatch(1);
+		private final CountDownLatch completed = new CountDownLatch(1);
+
+		@Override
+		public void send(SseEventBuilder builder) throws IOException {
+			sending.countDown();
+			try {
+				release.await();
+			} catch (InterruptedException e) {
+				Thread.currentThread().interrupt();
+				throw new IOException(e);
+			}
+		}
+
+		@Override
+		public void complete() {
+			completed.countDown();
+		}
+	}
+}
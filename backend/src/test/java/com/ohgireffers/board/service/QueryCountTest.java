@@ -0,0 +1,149 @@
+package com.ohgireffers.board.service;
+
+import com.ohgireffers.board.model.dto.BoardRequsetDTO;
+import com.ohgireffers.board.model.dto.CommentRequestDTO;
+import com.ohgireffers.board.model.dto.CommentResponseDTO;
+import com.ohgireffers.board.support.QueryCountConfig;
+import com.ohgireffers.board.support.QueryCounter;
+import jakarta.persistence.EntityManagerFactory;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.cache.CacheManager;
+import org.springframework.context.annotation.Import;
+import org.springframework.test.context.ActiveProfiles;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.function.IntFunction;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+// N+1 쿼리 검사
+// 같은 서비스 호출을 적은 데이터와 많은 데이터로 각각 실행하여 SQL 문 수가 데이터 양에 따라 늘어나지 않는지 확인한다.
+// (Comment.board, Comment.parentComment, Comment.replies 등의 지연 로딩이 목록/댓글 수만큼 반복되면 실패)
+// 댓글/게시글 삭제도 대댓글을 한 건씩 지우지 않고 단계별 일괄 DELETE로 지우는지 같은 방법으로 확인한다.
+// 댓글 작성은 게시글 확인 SELECT 없이 정해진 SQL 문 수로 끝나는지 확인한다.
+// MySQL 대신 H2(MySQL 호환 모드)를 사용하고, 캐시가 측정을 가리지 않도록 목록 앞쪽 페이지 캐시는 끄고 단건 캐시는 매번 비운다.
+@SpringBootTest(properties = {
+		"board.front-page-cache.pages=0"
+})
+@ActiveProfiles("test")
+@Import(QueryCountConfig.class)
+class QueryCountTest {
+
+	private static final int SMALL = 2;
+	private static final int LARGE = 20;
+
+	@Autowired
+	private BoardService boardService;
+
+	@Autowired
+	private CommentService commentService;
+
+	@Autowired
+	private CacheManager cacheManager;
+
+	@Autowired
+	private EntityManagerFactory entityManagerFactory;
+
+	@BeforeEach
+	void clearCaches() {
+		cacheManager.getCacheNames().forEach(name -> cacheManager.getCache(name).clear());
+	}
+
+	@Test
+	void getCommentsByBoardIdDoesNotGrowWithCommentCount() {
+		assertConstantStatementCount(size -> {
+			Long boardId = createBoardWithComments(size);
+			return () -> assertThat(commentService.getCommentsByBoardId(boardId)).isNotEmpty();
+		});
+	}
+
+	@Test
+	void createCommentDoesNotGrowWithExistingComments() {
+		assertConstantStatementCount(size -> {
+			Long boardId = createBoardWithComments(size);
+			Long parentId = commentService.getCommentsByBoardId(boardId).get(0).getId();
+			return () -> commentService.createComment(new CommentRequestDTO("대댓글", "tester", boardId, parentId));
+		});
+	}
+
+	@Test
+	void createCommentRunsFixedStatements() {
+		Long boardId = boardService.createBoard(new BoardRequsetDTO(null, "N+1 검사", "N+1 검사 게시글", "tester")).getId();
+		Long[] rootId = new Long[1];
+
+		// 댓글 수 UPDATE(삭제 중 여부 확인 겸) + INSERT + path UPDATE
+		assertThat(QueryCounter.count(() -> rootId[0] = commentService.createComment(
+				new CommentRequestDTO("댓글", "tester", boardId, null)).getId())).isEqualTo(3);
+		// 대댓글은 부모 정보 조회가 하나 더
+		assertThat(QueryCounter.count(() -> commentService.createComment(
+				new CommentRequestDTO("대댓글", "tester", boardId, rootId[0])))).isEqualTo(4);
+	}
+
+	@Test
+	void getboardWithPagingDoesNotGrowWithPageSize() {
+		for (int i = 0; i < LARGE; i++) {
+			createBoardWithComments(SMALL);
+		}
+		assertConstantStatementCount(size ->
+				() -> assertThat(boardService.getboardWithPaging(0, size).getContent()).hasSize(size));
+	}
+
+	@Test
+	void getBoardDoesNotGrowWithCommentCount() {
+		assertConstantStatementCount(size -> {
+			Long boardId = createBoardWithComments(size);
+			return () -> boardService.getBoard(boardId);
+		});
+	}
+
+	@Test
+	void deleteCommentDoesNotGrowWithReplyCount() {
+		assertConstantStatementCount(size -> {
+			Long boardId = boardService.createBoard(new BoardRequsetDTO(null, "N+1 검사", "N+1 검사 게시글", "tester")).getId();
+			Long rootId = commentService.createComment(new CommentRequestDTO("댓글", "tester", boardId, null)).getId();
+			for (int i = 0; i < size; i++) {
+				commentService.createComment(new CommentRequestDTO("대댓글 " + i, "tester", boardId, rootId));
+			}
+			// 먼저 측정한 삭제의 일괄 DELETE가 댓글 2차 캐시를 비우므로 양쪽 모두 캐시 없이 측정
+			return () -> {
+				entityManagerFactory.getCache().evictAll();
+				commentService.deleteComment(rootId);
+			};
+		});
+	}
+
+	@Test
+	void deleteboardDoesNotGrowWithCommentCount() {
+		assertConstantStatementCount(size -> {
+			Long boardId = createBoardWithComments(size);
+			return () -> assertThat(boardService.deleteboard(boardId)).isTrue();
+		});
+	}
+
+	// setUp(데이터 양)으로 데이터를 준비하고 돌려받은 호출의 SQL 문 수를 적은 데이터/많은 데이터에서 비교
+	private void assertConstantStatementCount(IntFunction<Runnable> setUp) {
+		Runnable small = setUp.apply(SMALL);
+		Runnable large = setUp.apply(LARGE);
+
+		int smallCount = QueryCounter.count(small);
+		int largeCount = QueryCounter.count(large);
+
+		assertThat(smallCount).as("SQL 문 수 측정").isPositive();
+		assertThat(largeCount).as("데이터 %d개 -> %d개일 때 SQL 문 수", SMALL, LARGE).isEqualTo(smallCount);
+	}
+
+	// 게시글 하나와 댓글 comments개 (최상위 댓글과 그 아래로 이어지는 대댓글을 번갈아 생성)
+	private Long createBoardWithComments(int comments) {
+		Long boardId = boardService.createBoard(new BoardRequsetDTO(null, "N+1 검사", "N+1 검사 게시글", "tester")).getId();
+		List<CommentResponseDTO> created = new ArrayList<>();
+		for (int i = 0; i < comments; i++) {
+			Long parentId = i % 2 == 1 ? created.get(i - 1).getId() : null;
+			created.add(commentService.createComment(new CommentRequestDTO("댓글 " + i, "tester", boardId, parentId)));
+		}
+		return boardId;
+	}
+}
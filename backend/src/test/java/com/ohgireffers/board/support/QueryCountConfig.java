@@ -0,0 +1,30 @@
+package com.ohgireffers.board.support;
+
+import net.ttddyy.dsproxy.support.ProxyDataSourceBuilder;
+import org.springframework.beans.factory.config.BeanPostProcessor;
+import org.springframework.boot.test.context.TestConfiguration;
+import org.springframework.context.annotation.Bean;
+
+import javax.sql.DataSource;
+
+// DataSource를 SQL 실행 리스너(QueryCounter)가 달린 프록시로 감싸는 테스트 설정
+// 사용 : @Import(QueryCountConfig.class) 후 QueryCounter.count(() -> ...)
+@TestConfiguration(proxyBeanMethods = false)
+public class QueryCountConfig {
+
+	@Bean
+	static BeanPostProcessor queryCountingDataSourcePostProcessor() {
+		return new BeanPostProcessor() {
+			@Override
+			public Object postProcessAfterInitialization(Object bean, String beanName) {
+				if (bean instanceof DataSource dataSource) {
+					return ProxyDataSourceBuilder.create(dataSource)
+							.name(beanName)
+							.listener(new QueryCounter())
+							.build();
+				}
+				return bean;
+			}
+		};
+	}
+}
@@ -0,0 +1,42 @@
+package com.ohgireffers.board.support;
+
+import net.ttddyy.dsproxy.ExecutionInfo;
+import net.ttddyy.dsproxy.QueryInfo;
+import net.ttddyy.dsproxy.listener.QueryExecutionListener;
+
+import java.util.List;
+
+// 테스트용 SQL 문 수 카운터
+// QueryCountConfig가 DataSource를 프록시로 감싸 이 리스너를 등록하므로 JPA, JdbcTemplate 등 모든 SQL이 포함된다.
+// 배치 실행은 배치 안의 SQL 문 수가 아니라 실행 한 번으로 센다.
+public class QueryCounter implements QueryExecutionListener {
+
+	// 측정 중인 스레드의 카운터 (측정 중이 아니면 null)
+	private static final ThreadLocal<int[]> COUNT = new ThreadLocal<>();
+
+	// action 실행 중 현재 스레드에서 실행된 SQL 문 수
+	// (트랜잭션 커밋 후 이벤트 리스너처럼 같은 스레드에서 이어서 실행되는 SQL 포함)
+	public static int count(Runnable action) {
+		int[] previous = COUNT.get();
+		int[] count = new int[1];
+		COUNT.set(count);
+		try {
+			action.run();
+		} finally {
+			COUNT.set(previous);
+		}
+		return count[0];
+	}
+
+	@Override
+	public void beforeQuery(ExecutionInfo execInfo, List<QueryInfo> queryInfoList) {
+	}
+
+	@Override
+	public void afterQuery(ExecutionInfo execInfo, List<QueryInfo> queryInfoList) {
+		int[] count = COUNT.get();
+		if (count != null) {
+			count[0]++;
+		}
+	}
+}